@@ -0,0 +1,279 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.benchmarks;
+
+import dev.kalenchukov.names.entities.Name;
+import dev.kalenchukov.names.modules.ConnectionPool;
+import dev.kalenchukov.names.repositories.NameRepositories;
+import dev.kalenchukov.names.repositories.NameRepository;
+import dev.kalenchukov.names.repositories.NameSnapshotFile;
+import dev.kalenchukov.names.repositories.NameSnapshotRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Класс данных для замеров.
+ * <p>
+ * Создаёт временную базу данных со случайными, но воспроизводимыми именами
+ * и репозиторий выбранного хранилища поверх неё.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+public class NameData
+{
+	/**
+	 * Количество различных значений в выборках для запросов.
+	 */
+	static final int SAMPLES = 1024;
+
+	/**
+	 * Страны.
+	 */
+	private static final String[] COUNTRIES = {
+		"russia", "italy", "nigeria", "pakistan", "belize", "brazil", "china", "india", "japan", "mexico",
+		"norway", "poland", "spain", "sweden", "turkey", "ukraine", "vietnam", "egypt", "france", "germany"
+	};
+
+	/**
+	 * Континенты.
+	 */
+	private static final String[] CONTINENTS = {
+		"europe", "asia", "africa", "north america", "south america", "oceania"
+	};
+
+	/**
+	 * Происхождения.
+	 */
+	private static final String[] ORIGINS = {
+		"russian", "italian", "arabic", "greek", "latin", "hebrew", "germanic", "slavic", ""
+	};
+
+	/**
+	 * Слоги для создания названий.
+	 */
+	private static final String[] SYLLABLES = {
+		"a", "al", "an", "ar", "da", "el", "en", "ia", "ka", "ki", "la", "le", "li", "ma", "mi",
+		"na", "ni", "o", "ra", "ri", "sa", "se", "ta", "ti", "va", "vi", "ya", "za", "or", "us"
+	};
+
+	/**
+	 * Хранилище: {@code database}, {@code memory} или {@code file}.
+	 */
+	@Param({"database", "memory", "file"})
+	public String storage;
+
+	/**
+	 * Количество имён.
+	 */
+	@Param({"20000"})
+	public int size;
+
+	/**
+	 * Репозиторий имён.
+	 */
+	public NameRepositories repository;
+
+	/**
+	 * Названия существующих имён в разном регистре.
+	 */
+	public String[] hits;
+
+	/**
+	 * Названия отсутствующих имён.
+	 */
+	public String[] misses;
+
+	/**
+	 * Страны.
+	 */
+	public String[] countries;
+
+	/**
+	 * Начала названий существующих имён длиной от одного до трёх символов.
+	 */
+	public String[] prefixes;
+
+	/**
+	 * Названия существующих имён с одной заменённой буквой.
+	 */
+	public String[] typos;
+
+	/**
+	 * Названия для пакетного поиска, наполовину отсутствующие.
+	 */
+	public List<String> batch;
+
+	/**
+	 * Имена для пакетного добавления.
+	 */
+	public List<Name> names;
+
+	/**
+	 * Файл базы данных.
+	 */
+	private Path file;
+
+	/**
+	 * Файл снимка имён.
+	 */
+	private Path snapshot;
+
+	/**
+	 * Пул соединений только для чтения.
+	 */
+	private ConnectionPool readPool;
+
+	/**
+	 * Пул соединений для изменения данных.
+	 */
+	private ConnectionPool writePool;
+
+	/**
+	 * Создаёт базу данных и репозиторий.
+	 *
+	 * @throws IOException если не удалось создать файлы.
+	 */
+	@Setup(Level.Trial)
+	public void setUp()
+		throws IOException
+	{
+		this.names = NameData.generate(this.size, new Random(42));
+		this.file = Files.createTempFile("names-benchmark", ".db");
+		this.snapshot = Files.createTempFile("names-benchmark", ".snapshot");
+
+		String url = "jdbc:sqlite:" + this.file;
+		this.readPool = new ConnectionPool(url, new Properties(), Runtime.getRuntime().availableProcessors());
+		this.writePool = new ConnectionPool(url, new Properties(), 1);
+
+		NameRepository database = new NameRepository(this.readPool, this.writePool, 1000);
+		database.create();
+		database.addAll(this.names);
+
+		this.repository = switch (this.storage)
+		{
+			case "database" -> database;
+			case "memory" -> new NameSnapshotRepository(database);
+			case "file" -> {
+				NameSnapshotFile.write(database, this.snapshot);
+				yield new NameSnapshotRepository(NameSnapshotFile.read(this.snapshot));
+			}
+			default -> throw new IllegalArgumentException("Неизвестное хранилище '" + this.storage + "'.");
+		};
+
+		Random random = new Random(7);
+		this.hits = new String[SAMPLES];
+		this.misses = new String[SAMPLES];
+		this.countries = new String[SAMPLES];
+		this.prefixes = new String[SAMPLES];
+		this.typos = new String[SAMPLES];
+		this.batch = new ArrayList<>();
+
+		for (int index = 0; index < SAMPLES; index++)
+		{
+			String value = this.names.get(random.nextInt(this.names.size())).getValue();
+			this.hits[index] = random.nextBoolean() ? value.toUpperCase(Locale.ROOT) : value;
+			this.misses[index] = "zz" + value + index;
+			this.countries[index] = COUNTRIES[random.nextInt(COUNTRIES.length)];
+			this.prefixes[index] = this.hits[index].substring(0, Math.min(value.length(), 1 + index % 3));
+
+			char[] typo = value.toCharArray();
+			typo[random.nextInt(typo.length)] = (char) ('a' + random.nextInt(26));
+			this.typos[index] = new String(typo);
+
+			if (index < 100) {
+				this.batch.add(index % 2 == 0 ? this.hits[index] : this.misses[index]);
+			}
+		}
+	}
+
+	/**
+	 * Закрывает соединения и удаляет базу данных и файл снимка.
+	 *
+	 * @throws IOException если не удалось удалить файлы.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown()
+		throws IOException
+	{
+		this.readPool.close();
+		this.writePool.close();
+
+		Files.deleteIfExists(this.file);
+		Files.deleteIfExists(this.snapshot);
+	}
+
+	/**
+	 * Создаёт имена.
+	 *
+	 * @param size количество имён.
+	 * @param random генератор случайных чисел.
+	 * @return имена.
+	 */
+	static List<Name> generate(final int size, final Random random)
+	{
+		Set<String> values = new LinkedHashSet<>();
+
+		while (values.size() < size)
+		{
+			StringBuilder value = new StringBuilder();
+			int syllables = 2 + random.nextInt(3);
+
+			for (int index = 0; index < syllables; index++)
+			{
+				value.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+			}
+
+			if (values.contains(value.toString())) {
+				value.append(values.size());
+			}
+
+			values.add(value.toString());
+		}
+
+		List<Name> names = new ArrayList<>(size);
+
+		for (String value : values)
+		{
+			names.add(Name.of(
+				value,
+				1 + random.nextInt(size),
+				1 + random.nextInt(100),
+				random.nextInt(1_000_000),
+				random.nextInt(10_000),
+				ORIGINS[random.nextInt(ORIGINS.length)],
+				CONTINENTS[random.nextInt(CONTINENTS.length)],
+				COUNTRIES[random.nextInt(COUNTRIES.length)],
+				COUNTRIES[random.nextInt(COUNTRIES.length)]
+			));
+		}
+
+		return names;
+	}
+}
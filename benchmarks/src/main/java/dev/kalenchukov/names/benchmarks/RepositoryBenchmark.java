@@ -0,0 +1,753 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.benchmarks;
+
+import dev.kalenchukov.names.entities.Name;
+import dev.kalenchukov.names.entities.NameField;
+import dev.kalenchukov.names.entities.NameProjection;
+import dev.kalenchukov.names.entities.NameQuery;
+import dev.kalenchukov.names.exceptions.NameNotFoundException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Класс замеров методов репозитория имён.
+ * <p>
+ * Количество потоков задают наследники.
+ * Методы изменения данных замеряются в {@link WriteBenchmark}.
+ *
+ * @author Алексей Каленчуков
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class RepositoryBenchmark
+{
+	/**
+	 * Количество имён на странице.
+	 */
+	private static final int PAGE = 50;
+
+	/**
+	 * Поля проекций.
+	 */
+	private static final Set<NameField> FIELDS = EnumSet.of(NameField.VALUE, NameField.RANK_WORLD);
+
+	/**
+	 * Значения характеристик отбора имён.
+	 */
+	private static final Map<NameField, Set<String>> ATTRIBUTES = Map.of(
+		NameField.CONTINENT, Set.of("europe"),
+		NameField.ORIGIN, Set.of("greek", "russian")
+	);
+
+	/**
+	 * Запрос имён страны по интервалу рейтинга в мире с порядком по убыванию количества людей в стране.
+	 */
+	private static final NameQuery QUERY = NameQuery.create()
+		.whereEquals(NameField.COUNTRY, "russia")
+		.whereBetween(NameField.RANK_WORLD, 1, 5000)
+		.orderByDescending(NameField.USAGE_COUNTRY)
+		.limit(PAGE);
+
+	/**
+	 * Замер получения количества имён.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public int count(final NameData data)
+	{
+		return data.repository.count();
+	}
+
+	/**
+	 * Замер проверки существующего имени.
+	 *
+	 * @param data данные.
+	 * @param sequence последовательность выборок.
+	 * @return результат.
+	 */
+	@Benchmark
+	public boolean existsHit(final NameData data, final Sequence sequence)
+	{
+		return data.repository.existsByName(data.hits[sequence.next()]);
+	}
+
+	/**
+	 * Замер проверки отсутствующего имени.
+	 *
+	 * @param data данные.
+	 * @param sequence последовательность выборок.
+	 * @return результат.
+	 */
+	@Benchmark
+	public boolean existsMiss(final NameData data, final Sequence sequence)
+	{
+		return data.repository.existsByName(data.misses[sequence.next()]);
+	}
+
+	/**
+	 * Замер получения существующего имени.
+	 *
+	 * @param data данные.
+	 * @param sequence последовательность выборок.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Name getByNameHit(final NameData data, final Sequence sequence)
+	{
+		return data.repository.getByName(data.hits[sequence.next()]);
+	}
+
+	/**
+	 * Замер получения отсутствующего имени.
+	 *
+	 * @param data данные.
+	 * @param sequence последовательность выборок.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Object getByNameMiss(final NameData data, final Sequence sequence)
+	{
+		try {
+			return data.repository.getByName(data.misses[sequence.next()]);
+		} catch (NameNotFoundException exception) {
+			return exception;
+		}
+	}
+
+	/**
+	 * Замер пакетного получения имён.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Map<String, Name> getByNames(final NameData data)
+	{
+		return data.repository.getByNames(data.batch);
+	}
+
+	/**
+	 * Замер пакетной проверки имён.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Set<String> existsByNames(final NameData data)
+	{
+		return data.repository.existsByNames(data.batch);
+	}
+
+	/**
+	 * Замер получения имён в стране.
+	 *
+	 * @param data данные.
+	 * @param sequence последовательность выборок.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getByCountry(final NameData data, final Sequence sequence)
+	{
+		return data.repository.getByCountry(data.countries[sequence.next()]);
+	}
+
+	/**
+	 * Замер получения страницы имён в стране.
+	 *
+	 * @param data данные.
+	 * @param sequence последовательность выборок.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getByCountryPage(final NameData data, final Sequence sequence)
+	{
+		return data.repository.getByCountry(data.countries[sequence.next()], "m", PAGE);
+	}
+
+	/**
+	 * Замер получения имён в стране по плотности населения.
+	 *
+	 * @param data данные.
+	 * @param sequence последовательность выборок.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getByCountryDensity(final NameData data, final Sequence sequence)
+	{
+		return data.repository.getByCountryDensity(data.countries[sequence.next()]);
+	}
+
+	/**
+	 * Замер получения всех имён.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getAll(final NameData data)
+	{
+		return data.repository.getAll();
+	}
+
+	/**
+	 * Замер получения страницы всех имён.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getAllPage(final NameData data)
+	{
+		return data.repository.getAll("m", PAGE);
+	}
+
+	/**
+	 * Замер чтения потока всех имён.
+	 *
+	 * @param data данные.
+	 * @param blackhole поглотитель результатов.
+	 */
+	@Benchmark
+	public void streamAll(final NameData data, final Blackhole blackhole)
+	{
+		try (Stream<Name> names = data.repository.streamAll())
+		{
+			names.forEach(blackhole::consume);
+		}
+	}
+
+	/**
+	 * Замер чтения потока имён в стране.
+	 *
+	 * @param data данные.
+	 * @param sequence последовательность выборок.
+	 * @param blackhole поглотитель результатов.
+	 */
+	@Benchmark
+	public void streamByCountry(final NameData data, final Sequence sequence, final Blackhole blackhole)
+	{
+		try (Stream<Name> names = data.repository.streamByCountry(data.countries[sequence.next()]))
+		{
+			names.forEach(blackhole::consume);
+		}
+	}
+
+	/**
+	 * Замер чтения потока имён в стране по плотности населения.
+	 *
+	 * @param data данные.
+	 * @param sequence последовательность выборок.
+	 * @param blackhole поглотитель результатов.
+	 */
+	@Benchmark
+	public void streamByCountryDensity(final NameData data, final Sequence sequence, final Blackhole blackhole)
+	{
+		try (Stream<Name> names = data.repository.streamByCountryDensity(data.countries[sequence.next()]))
+		{
+			names.forEach(blackhole::consume);
+		}
+	}
+
+	/**
+	 * Замер чтения издателя всех имён.
+	 *
+	 * @param data данные.
+	 * @param blackhole поглотитель результатов.
+	 */
+	@Benchmark
+	public void publishAll(final NameData data, final Blackhole blackhole)
+	{
+		RepositoryBenchmark.consume(data.repository.publishAll(), blackhole);
+	}
+
+	/**
+	 * Замер чтения издателя имён в стране.
+	 *
+	 * @param data данные.
+	 * @param sequence последовательность выборок.
+	 * @param blackhole поглотитель результатов.
+	 */
+	@Benchmark
+	public void publishByCountry(final NameData data, final Sequence sequence, final Blackhole blackhole)
+	{
+		RepositoryBenchmark.consume(data.repository.publishByCountry(data.countries[sequence.next()]), blackhole);
+	}
+
+	/**
+	 * Замер чтения издателя имён в стране по плотности населения.
+	 *
+	 * @param data данные.
+	 * @param sequence последовательность выборок.
+	 * @param blackhole поглотитель результатов.
+	 */
+	@Benchmark
+	public void publishByCountryDensity(final NameData data, final Sequence sequence, final Blackhole blackhole)
+	{
+		RepositoryBenchmark.consume(data.repository.publishByCountryDensity(data.countries[sequence.next()]), blackhole);
+	}
+
+	/**
+	 * Замер получения имён по узкому интервалу использования в мире.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getBetweenUsageWorldNarrow(final NameData data)
+	{
+		return data.repository.getBetweenUsageWorld(500_000, 500_100);
+	}
+
+	/**
+	 * Замер получения имён по широкому интервалу использования в мире.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getBetweenUsageWorldWide(final NameData data)
+	{
+		return data.repository.getBetweenUsageWorld(0, 50_000);
+	}
+
+	/**
+	 * Замер получения страницы имён по широкому интервалу использования в мире.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getBetweenUsageWorldPage(final NameData data)
+	{
+		return data.repository.getBetweenUsageWorld(0, 50_000, null, PAGE);
+	}
+
+	/**
+	 * Замер чтения издателя имён по широкому интервалу использования в мире.
+	 *
+	 * @param data данные.
+	 * @param blackhole поглотитель результатов.
+	 */
+	@Benchmark
+	public void publishBetweenUsageWorld(final NameData data, final Blackhole blackhole)
+	{
+		RepositoryBenchmark.consume(data.repository.publishBetweenUsageWorld(0, 50_000), blackhole);
+	}
+
+	/**
+	 * Замер получения имён по узкому интервалу использования в стране.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getBetweenUsageCountryNarrow(final NameData data)
+	{
+		return data.repository.getBetweenUsageCountry(5_000, 5_001);
+	}
+
+	/**
+	 * Замер получения имён по широкому интервалу использования в стране.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getBetweenUsageCountryWide(final NameData data)
+	{
+		return data.repository.getBetweenUsageCountry(0, 500);
+	}
+
+	/**
+	 * Замер получения страницы имён по широкому интервалу использования в стране.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getBetweenUsageCountryPage(final NameData data)
+	{
+		return data.repository.getBetweenUsageCountry(0, 500, null, PAGE);
+	}
+
+	/**
+	 * Замер чтения издателя имён по широкому интервалу использования в стране.
+	 *
+	 * @param data данные.
+	 * @param blackhole поглотитель результатов.
+	 */
+	@Benchmark
+	public void publishBetweenUsageCountry(final NameData data, final Blackhole blackhole)
+	{
+		RepositoryBenchmark.consume(data.repository.publishBetweenUsageCountry(0, 500), blackhole);
+	}
+
+	/**
+	 * Замер получения имён по узкому интервалу рейтинга в мире.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getBetweenRankWorldNarrow(final NameData data)
+	{
+		return data.repository.getBetweenRankWorld(100, 110);
+	}
+
+	/**
+	 * Замер получения имён по широкому интервалу рейтинга в мире.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getBetweenRankWorldWide(final NameData data)
+	{
+		return data.repository.getBetweenRankWorld(1, 1_000);
+	}
+
+	/**
+	 * Замер получения страницы имён по широкому интервалу рейтинга в мире.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getBetweenRankWorldPage(final NameData data)
+	{
+		return data.repository.getBetweenRankWorld(1, 1_000, null, PAGE);
+	}
+
+	/**
+	 * Замер чтения издателя имён по широкому интервалу рейтинга в мире.
+	 *
+	 * @param data данные.
+	 * @param blackhole поглотитель результатов.
+	 */
+	@Benchmark
+	public void publishBetweenRankWorld(final NameData data, final Blackhole blackhole)
+	{
+		RepositoryBenchmark.consume(data.repository.publishBetweenRankWorld(1, 1_000), blackhole);
+	}
+
+	/**
+	 * Замер получения имён по узкому интервалу рейтинга в стране.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getBetweenRankCountryNarrow(final NameData data)
+	{
+		return data.repository.getBetweenRankCountry(50, 50);
+	}
+
+	/**
+	 * Замер получения имён по широкому интервалу рейтинга в стране.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getBetweenRankCountryWide(final NameData data)
+	{
+		return data.repository.getBetweenRankCountry(1, 5);
+	}
+
+	/**
+	 * Замер получения страницы имён по широкому интервалу рейтинга в стране.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getBetweenRankCountryPage(final NameData data)
+	{
+		return data.repository.getBetweenRankCountry(1, 5, null, PAGE);
+	}
+
+	/**
+	 * Замер чтения издателя имён по широкому интервалу рейтинга в стране.
+	 *
+	 * @param data данные.
+	 * @param blackhole поглотитель результатов.
+	 */
+	@Benchmark
+	public void publishBetweenRankCountry(final NameData data, final Blackhole blackhole)
+	{
+		RepositoryBenchmark.consume(data.repository.publishBetweenRankCountry(1, 5), blackhole);
+	}
+
+	/**
+	 * Замер получения названий имён в стране.
+	 *
+	 * @param data данные.
+	 * @param sequence последовательность выборок.
+	 * @return результат.
+	 */
+	@Benchmark
+	public List<String> getNameValuesByCountry(final NameData data, final Sequence sequence)
+	{
+		return data.repository.getNameValuesByCountry(data.countries[sequence.next()]);
+	}
+
+	/**
+	 * Замер получения названий имён по широкому интервалу рейтинга в мире.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public List<String> getNameValuesBetweenRankWorld(final NameData data)
+	{
+		return data.repository.getNameValuesBetweenRankWorld(1, 1_000);
+	}
+
+	/**
+	 * Замер получения названия и рейтинга имён в стране.
+	 *
+	 * @param data данные.
+	 * @param sequence последовательность выборок.
+	 * @return результат.
+	 */
+	@Benchmark
+	public List<NameProjection> getFieldsByCountry(final NameData data, final Sequence sequence)
+	{
+		return data.repository.getFieldsByCountry(data.countries[sequence.next()], FIELDS);
+	}
+
+	/**
+	 * Замер получения названия и рейтинга имён по широкому интервалу рейтинга в мире.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public List<NameProjection> getFieldsBetweenRankWorld(final NameData data)
+	{
+		return data.repository.getFieldsBetweenRankWorld(1, 1_000, FIELDS);
+	}
+
+	/**
+	 * Замер подсказки самых популярных имён по началу названия.
+	 *
+	 * @param data данные.
+	 * @param sequence последовательность выборок.
+	 * @return результат.
+	 */
+	@Benchmark
+	public List<Name> getByPrefix(final NameData data, final Sequence sequence)
+	{
+		return data.repository.getByPrefix(data.prefixes[sequence.next()], PAGE);
+	}
+
+	/**
+	 * Замер нечёткого поиска имён с опечаткой.
+	 *
+	 * @param data данные.
+	 * @param sequence последовательность выборок.
+	 * @return результат.
+	 */
+	@Benchmark
+	public List<Name> searchFuzzy(final NameData data, final Sequence sequence)
+	{
+		return data.repository.searchFuzzy(data.typos[sequence.next()], 1, PAGE);
+	}
+
+	/**
+	 * Замер поиска имён, которые звучат так же, как существующее имя.
+	 *
+	 * @param data данные.
+	 * @param sequence последовательность выборок.
+	 * @return результат.
+	 */
+	@Benchmark
+	public List<Name> getBySoundsLike(final NameData data, final Sequence sequence)
+	{
+		return data.repository.getBySoundsLike(data.hits[sequence.next()]);
+	}
+
+	/**
+	 * Замер получения имён по количеству символов в имени.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getByLength(final NameData data)
+	{
+		return data.repository.getByLength(3);
+	}
+
+	/**
+	 * Замер получения имён по интервалу количества символов в имени.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getBetweenLength(final NameData data)
+	{
+		return data.repository.getBetweenLength(2, 3);
+	}
+
+	/**
+	 * Замер получения имён с континента.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getByContinent(final NameData data)
+	{
+		return data.repository.getByContinent("europe");
+	}
+
+	/**
+	 * Замер получения имён по происхождению.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getByOrigin(final NameData data)
+	{
+		return data.repository.getByOrigin("greek");
+	}
+
+	/**
+	 * Замер получения имён по значениям нескольких характеристик.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public Collection<Name> getByAttributes(final NameData data)
+	{
+		return data.repository.getByAttributes(ATTRIBUTES);
+	}
+
+	/**
+	 * Замер подсчёта имён по значениям нескольких характеристик.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public int countByAttributes(final NameData data)
+	{
+		return data.repository.countByAttributes(ATTRIBUTES);
+	}
+
+	/**
+	 * Замер получения имён по запросу.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public List<Name> getByQuery(final NameData data)
+	{
+		return data.repository.getByQuery(QUERY);
+	}
+
+	/**
+	 * Замер получения проекций имён по запросу.
+	 *
+	 * @param data данные.
+	 * @return результат.
+	 */
+	@Benchmark
+	public List<NameProjection> getFieldsByQuery(final NameData data)
+	{
+		return data.repository.getFieldsByQuery(QUERY.select(FIELDS));
+	}
+
+	/**
+	 * Передаёт все имена издателя поглотителю.
+	 *
+	 * @param publisher издатель.
+	 * @param blackhole поглотитель результатов.
+	 */
+	private static void consume(final Flow.Publisher<Name> publisher, final Blackhole blackhole)
+	{
+		publisher.subscribe(new Flow.Subscriber<>()
+		{
+			@Override
+			public void onSubscribe(final Flow.Subscription subscription)
+			{
+				subscription.request(Long.MAX_VALUE);
+			}
+
+			@Override
+			public void onNext(final Name name)
+			{
+				blackhole.consume(name);
+			}
+
+			@Override
+			public void onError(final Throwable throwable)
+			{
+				throw new IllegalStateException(throwable);
+			}
+
+			@Override
+			public void onComplete() {}
+		});
+	}
+
+	/**
+	 * Класс последовательности выборок потока.
+	 */
+	@State(Scope.Thread)
+	public static class Sequence
+	{
+		/**
+		 * Номер следующей выборки.
+		 */
+		private int index;
+
+		/**
+		 * Возвращает номер следующей выборки.
+		 *
+		 * @return номер выборки.
+		 */
+		public int next()
+		{
+			return Math.floorMod(this.index++, NameData.SAMPLES);
+		}
+	}
+}
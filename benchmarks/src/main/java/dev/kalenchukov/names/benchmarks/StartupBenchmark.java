@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.benchmarks;
+
+import dev.kalenchukov.names.modules.ConnectionPool;
+import dev.kalenchukov.names.repositories.NameRepository;
+import dev.kalenchukov.names.repositories.NameSnapshotFile;
+import dev.kalenchukov.names.repositories.NameSnapshotRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс замеров загрузки имён в память.
+ * <p>
+ * Каждый замер выполняется один раз в новом процессе, пока код ещё не скомпилирован JIT-компилятором.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark
+{
+	/**
+	 * Количество имён.
+	 */
+	@Param({"20000"})
+	public int size;
+
+	/**
+	 * Файл базы данных.
+	 */
+	private Path database;
+
+	/**
+	 * Файл снимка имён.
+	 */
+	private Path snapshot;
+
+	/**
+	 * Создаёт базу данных и файл снимка с одинаковыми именами.
+	 *
+	 * @throws IOException если не удалось создать файлы.
+	 */
+	@Setup(Level.Trial)
+	public void setUp()
+		throws IOException
+	{
+		this.database = Files.createTempFile("names-benchmark", ".db");
+		this.snapshot = Files.createTempFile("names-benchmark", ".snapshot");
+
+		try (ConnectionPool pool = new ConnectionPool("jdbc:sqlite:" + this.database, new Properties(), 1))
+		{
+			NameRepository repository = new NameRepository(pool, pool, 1000);
+			repository.create();
+			repository.addAll(NameData.generate(this.size, new Random(42)));
+
+			NameSnapshotFile.write(repository, this.snapshot);
+		}
+	}
+
+	/**
+	 * Удаляет базу данных и файл снимка.
+	 *
+	 * @throws IOException если не удалось удалить файлы.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown()
+		throws IOException
+	{
+		Files.deleteIfExists(this.database);
+		Files.deleteIfExists(this.snapshot);
+	}
+
+	/**
+	 * Замер загрузки имён из базы данных.
+	 *
+	 * @return репозиторий имён в памяти.
+	 */
+	@Benchmark
+	public NameSnapshotRepository database()
+	{
+		try (ConnectionPool pool = new ConnectionPool("jdbc:sqlite:" + this.database, new Properties(), 1))
+		{
+			return new NameSnapshotRepository(new NameRepository(pool, pool, 1000));
+		}
+	}
+
+	/**
+	 * Замер загрузки имён из файла снимка.
+	 *
+	 * @return репозиторий имён в памяти.
+	 */
+	@Benchmark
+	public NameSnapshotRepository file()
+	{
+		return new NameSnapshotRepository(NameSnapshotFile.read(this.snapshot));
+	}
+}
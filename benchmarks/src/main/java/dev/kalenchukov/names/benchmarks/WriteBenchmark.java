@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.benchmarks;
+
+import dev.kalenchukov.names.entities.Name;
+import dev.kalenchukov.names.modules.ConnectionPool;
+import dev.kalenchukov.names.repositories.BatchResult;
+import dev.kalenchukov.names.repositories.NameRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс замеров методов изменения имён.
+ * <p>
+ * Каждый замер выполняется один раз над новой пустой базой данных.
+ *
+ * @author Алексей Каленчуков
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WriteBenchmark
+{
+	/**
+	 * Количество добавляемых имён.
+	 */
+	@Param({"100"})
+	public int size;
+
+	/**
+	 * Добавляемые имена.
+	 */
+	private List<Name> names;
+
+	/**
+	 * Файл базы данных.
+	 */
+	private Path file;
+
+	/**
+	 * Пул соединений.
+	 */
+	private ConnectionPool pool;
+
+	/**
+	 * Репозиторий имён.
+	 */
+	private NameRepository repository;
+
+	/**
+	 * Создаёт пустую базу данных.
+	 *
+	 * @throws IOException если не удалось создать файл базы данных.
+	 */
+	@Setup(Level.Iteration)
+	public void setUp()
+		throws IOException
+	{
+		this.names = NameData.generate(this.size, new Random(42));
+		this.file = Files.createTempFile("names-benchmark", ".db");
+		this.pool = new ConnectionPool("jdbc:sqlite:" + this.file, new Properties(), 1);
+		this.repository = new NameRepository(this.pool, this.pool, 1000);
+		this.repository.create();
+	}
+
+	/**
+	 * Закрывает соединения и удаляет базу данных.
+	 *
+	 * @throws IOException если не удалось удалить файл базы данных.
+	 */
+	@TearDown(Level.Iteration)
+	public void tearDown()
+		throws IOException
+	{
+		this.pool.close();
+
+		Files.deleteIfExists(this.file);
+	}
+
+	/**
+	 * Замер добавления имён по одному.
+	 */
+	@Benchmark
+	public void add()
+	{
+		for (Name name : this.names)
+		{
+			this.repository.add(name);
+		}
+	}
+
+	/**
+	 * Замер пакетного добавления имён.
+	 *
+	 * @return результат добавления.
+	 */
+	@Benchmark
+	public BatchResult addAll()
+	{
+		return this.repository.addAll(this.names);
+	}
+
+	/**
+	 * Замер удаления имён по одному.
+	 */
+	@Benchmark
+	public void deleteByName()
+	{
+		this.repository.addAll(this.names);
+
+		for (Name name : this.names)
+		{
+			this.repository.deleteByName(name.getValue());
+		}
+	}
+}
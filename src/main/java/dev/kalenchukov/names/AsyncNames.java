@@ -0,0 +1,574 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names;
+
+import dev.kalenchukov.names.entities.Name;
+import dev.kalenchukov.names.entities.NameField;
+import dev.kalenchukov.names.entities.NameProjection;
+import dev.kalenchukov.names.entities.NameQuery;
+import dev.kalenchukov.names.modules.Workers;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Класс асинхронного получения имён.
+ * <p>
+ * Повторяет методы {@link Names} и выполняет запросы в указанном исполнителе,
+ * не блокируя вызывающий поток. Исключения запросов, например {@link dev.kalenchukov.names.exceptions.NameNotFoundException},
+ * завершают задачу исключительно.
+ * <pre>{@code
+ * AsyncNames names = AsyncNames.create();
+ * names.getByName("Алексей").thenAccept(name -> ...);
+ * }</pre>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class AsyncNames
+{
+	/**
+	 * Исполнитель запросов.
+	 */
+	@NotNull
+	private final Executor executor;
+
+	/**
+	 * Конструктор для {@code AsyncNames}.
+	 *
+	 * @param executor исполнитель запросов.
+	 */
+	private AsyncNames(@NotNull final Executor executor)
+	{
+		this.executor = Objects.requireNonNull(executor);
+	}
+
+	/**
+	 * Создаёт асинхронный доступ к именам с исполнителем по умолчанию.
+	 * <p>
+	 * Если среда выполнения поддерживает виртуальные потоки, запросы выполняются в виртуальных потоках,
+	 * иначе в пуле потоков размером с пул соединений только для чтения.
+	 *
+	 * @return асинхронный доступ к именам.
+	 */
+	@NotNull
+	public static AsyncNames create()
+	{
+		return new AsyncNames(Workers.getDefault());
+	}
+
+	/**
+	 * Создаёт асинхронный доступ к именам с указанным исполнителем.
+	 *
+	 * @param executor исполнитель запросов.
+	 * @return асинхронный доступ к именам.
+	 */
+	@NotNull
+	public static AsyncNames create(@NotNull final Executor executor)
+	{
+		return new AsyncNames(executor);
+	}
+
+	/**
+	 * Возвращает количество имён.
+	 *
+	 * @return задача, возвращающая количество имён.
+	 */
+	@NotNull
+	public CompletableFuture<Integer> count()
+	{
+		return CompletableFuture.supplyAsync(Names::count, this.executor);
+	}
+
+	/**
+	 * Выполняет проверку существования имени.
+	 *
+	 * @param name имя.
+	 * @return задача, возвращающая {@code true}, если имя существует, иначе {@code false}.
+	 */
+	@NotNull
+	public CompletableFuture<Boolean> exists(@NotNull final String name)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.exists(name), this.executor);
+	}
+
+	/**
+	 * Возвращает имя по названию.
+	 *
+	 * @param name имя.
+	 * @return задача, возвращающая имя.
+	 */
+	@NotNull
+	public CompletableFuture<Name> getByName(@NotNull final String name)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getByName(name), this.executor);
+	}
+
+	/**
+	 * Возвращает найденные имена по названиям.
+	 * <p>
+	 * В отличие от {@link #getByName(String)}, отсутствующие имена пропускаются без исключения.
+	 *
+	 * @param names названия имён.
+	 * @return задача, возвращающая найденные имена по переданным названиям.
+	 */
+	@NotNull
+	public CompletableFuture<Map<@NotNull String, @NotNull Name>> getByNames(@NotNull final Collection<@NotNull String> names)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getByNames(names), this.executor);
+	}
+
+	/**
+	 * Возвращает существующие имена из указанных.
+	 *
+	 * @param names названия имён.
+	 * @return задача, возвращающая переданные названия существующих имён.
+	 */
+	@NotNull
+	public CompletableFuture<Set<@NotNull String>> existsByNames(@NotNull final Collection<@NotNull String> names)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.existsByNames(names), this.executor);
+	}
+
+	/**
+	 * Возвращает список имён в указанной стране.
+	 *
+	 * @param country страна.
+	 * @return задача, возвращающая список имён в указанной стране.
+	 */
+	@NotNull
+	public CompletableFuture<Collection<@NotNull Name>> getByCountry(@NotNull final String country)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getByCountry(country), this.executor);
+	}
+
+	/**
+	 * Возвращает страницу списка имён в указанной стране.
+	 * <p>
+	 * Для получения следующей страницы передаётся последнее имя текущей страницы.
+	 *
+	 * @param country страна.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return задача, возвращающая страница списка имён в указанной стране.
+	 */
+	@NotNull
+	public CompletableFuture<Collection<@NotNull Name>> getByCountry(@NotNull final String country,
+																	 @Nullable final String after,
+																	 final int limit)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getByCountry(country, after, limit), this.executor);
+	}
+
+	/**
+	 * Возвращает список имён в указанной стране по плотности населения.
+	 *
+	 * @param country страна.
+	 * @return задача, возвращающая список имён в указанной стране по плотности населения.
+	 */
+	@NotNull
+	public CompletableFuture<Collection<@NotNull Name>> getByCountryDensity(@NotNull final String country)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getByCountryDensity(country), this.executor);
+	}
+
+	/**
+	 * Возвращает список всех имён.
+	 *
+	 * @return задача, возвращающая список всех имён.
+	 */
+	@NotNull
+	public CompletableFuture<Collection<@NotNull Name>> getAll()
+	{
+		return CompletableFuture.supplyAsync(Names::getAll, this.executor);
+	}
+
+	/**
+	 * Возвращает страницу списка всех имён.
+	 * <p>
+	 * Для получения следующей страницы передаётся последнее имя текущей страницы.
+	 *
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return задача, возвращающая страница списка всех имён.
+	 */
+	@NotNull
+	public CompletableFuture<Collection<@NotNull Name>> getAll(@Nullable final String after, final int limit)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getAll(after, limit), this.executor);
+	}
+
+	/**
+	 * Возвращает список имён по интервалу использования в мире.
+	 *
+	 * @param min минимальное количество использований.
+	 * @param max максимальное количество использований.
+	 * @return задача, возвращающая список имён.
+	 */
+	@NotNull
+	public CompletableFuture<Collection<@NotNull Name>> getBetweenUsageWorld(final int min, final int max)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getBetweenUsageWorld(min, max), this.executor);
+	}
+
+	/**
+	 * Возвращает страницу списка имён по интервалу использования в мире.
+	 * <p>
+	 * Для получения следующей страницы передаётся последнее имя текущей страницы.
+	 *
+	 * @param min минимальное количество использований.
+	 * @param max максимальное количество использований.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return задача, возвращающая страница списка имён.
+	 */
+	@NotNull
+	public CompletableFuture<Collection<@NotNull Name>> getBetweenUsageWorld(final int min,
+																			 final int max,
+																			 @Nullable final Name after,
+																			 final int limit)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getBetweenUsageWorld(min, max, after, limit), this.executor);
+	}
+
+	/**
+	 * Возвращает список имён по интервалу использования в стране.
+	 *
+	 * @param min минимальное количество использований.
+	 * @param max максимальное количество использований.
+	 * @return задача, возвращающая список имён.
+	 */
+	@NotNull
+	public CompletableFuture<Collection<@NotNull Name>> getBetweenUsageCountry(final int min, final int max)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getBetweenUsageCountry(min, max), this.executor);
+	}
+
+	/**
+	 * Возвращает страницу списка имён по интервалу использования в стране.
+	 * <p>
+	 * Для получения следующей страницы передаётся последнее имя текущей страницы.
+	 *
+	 * @param min минимальное количество использований.
+	 * @param max максимальное количество использований.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return задача, возвращающая страница списка имён.
+	 */
+	@NotNull
+	public CompletableFuture<Collection<@NotNull Name>> getBetweenUsageCountry(final int min,
+																			   final int max,
+																			   @Nullable final Name after,
+																			   final int limit)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getBetweenUsageCountry(min, max, after, limit), this.executor);
+	}
+
+	/**
+	 * Возвращает список имён по интервалу рейтинга в мире.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @return задача, возвращающая список имён.
+	 */
+	@NotNull
+	public CompletableFuture<Collection<@NotNull Name>> getBetweenRankWorld(final int min, final int max)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getBetweenRankWorld(min, max), this.executor);
+	}
+
+	/**
+	 * Возвращает страницу списка имён по интервалу рейтинга в мире.
+	 * <p>
+	 * Для получения следующей страницы передаётся последнее имя текущей страницы.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return задача, возвращающая страница списка имён.
+	 */
+	@NotNull
+	public CompletableFuture<Collection<@NotNull Name>> getBetweenRankWorld(final int min,
+																			final int max,
+																			@Nullable final Name after,
+																			final int limit)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getBetweenRankWorld(min, max, after, limit), this.executor);
+	}
+
+	/**
+	 * Возвращает список имён по интервалу рейтинга в стране.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @return задача, возвращающая список имён.
+	 */
+	@NotNull
+	public CompletableFuture<Collection<@NotNull Name>> getBetweenRankCountry(final int min, final int max)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getBetweenRankCountry(min, max), this.executor);
+	}
+
+	/**
+	 * Возвращает страницу списка имён по интервалу рейтинга в стране.
+	 * <p>
+	 * Для получения следующей страницы передаётся последнее имя текущей страницы.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return задача, возвращающая страница списка имён.
+	 */
+	@NotNull
+	public CompletableFuture<Collection<@NotNull Name>> getBetweenRankCountry(final int min,
+																			  final int max,
+																			  @Nullable final Name after,
+																			  final int limit)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getBetweenRankCountry(min, max, after, limit), this.executor);
+	}
+
+	/**
+	 * Возвращает названия имён в указанной стране.
+	 * <p>
+	 * В отличие от {@link #getByCountry(String)}, читается только название имени.
+	 *
+	 * @param country страна.
+	 * @return задача, возвращающая названия имён в указанной стране, упорядоченные по названию.
+	 */
+	@NotNull
+	public CompletableFuture<List<@NotNull String>> getNameValuesByCountry(@NotNull final String country)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getNameValuesByCountry(country), this.executor);
+	}
+
+	/**
+	 * Возвращает названия имён по интервалу рейтинга в мире.
+	 * <p>
+	 * В отличие от {@link #getBetweenRankWorld(int, int)}, читается только название имени.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @return задача, возвращающая названия имён, упорядоченные по рейтингу и названию.
+	 */
+	@NotNull
+	public CompletableFuture<List<@NotNull String>> getNameValuesBetweenRankWorld(final int min, final int max)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getNameValuesBetweenRankWorld(min, max), this.executor);
+	}
+
+	/**
+	 * Возвращает выбранные поля имён в указанной стране.
+	 *
+	 * @param country страна.
+	 * @param fields выбранные поля.
+	 * @return задача, возвращающая проекции имён в указанной стране, упорядоченные по названию.
+	 */
+	@NotNull
+	public CompletableFuture<List<@NotNull NameProjection>> getFieldsByCountry(@NotNull final String country,
+																			   @NotNull final Set<@NotNull NameField> fields)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getFieldsByCountry(country, fields), this.executor);
+	}
+
+	/**
+	 * Возвращает выбранные поля имён по интервалу рейтинга в мире.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @param fields выбранные поля.
+	 * @return задача, возвращающая проекции имён, упорядоченные по рейтингу и названию.
+	 */
+	@NotNull
+	public CompletableFuture<List<@NotNull NameProjection>> getFieldsBetweenRankWorld(final int min,
+																					  final int max,
+																					  @NotNull final Set<@NotNull NameField> fields)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getFieldsBetweenRankWorld(min, max, fields), this.executor);
+	}
+
+	/**
+	 * Возвращает самые популярные имена, начинающиеся с указанной строки.
+	 * <p>
+	 * Регистр не учитывается так же, как при поиске имени по названию.
+	 * Подходит для подсказок при вводе имени.
+	 *
+	 * @param prefix начало имени.
+	 * @param limit наибольшее количество имён.
+	 * @return задача, возвращающая имена, упорядоченные по месту в мире и названию.
+	 */
+	@NotNull
+	public CompletableFuture<List<@NotNull Name>> getByPrefix(@NotNull final String prefix, final int limit)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getByPrefix(prefix, limit), this.executor);
+	}
+
+	/**
+	 * Возвращает имена, похожие на указанное, с учётом опечаток.
+	 * <p>
+	 * Похожесть измеряется расстоянием Левенштейна без учёта регистра:
+	 * количеством вставок, удалений и замен символов.
+	 *
+	 * @param query имя с возможными опечатками.
+	 * @param maxEdits наибольшее расстояние.
+	 * @param limit наибольшее количество имён.
+	 * @return задача, возвращающая имена, упорядоченные по расстоянию, по убыванию количества людей с именем в мире и по названию.
+	 */
+	@NotNull
+	public CompletableFuture<List<@NotNull Name>> searchFuzzy(@NotNull final String query,
+															  final int maxEdits,
+															  final int limit)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.searchFuzzy(query, maxEdits, limit), this.executor);
+	}
+
+	/**
+	 * Возвращает имена, которые звучат так же, как указанное.
+	 * <p>
+	 * Имена сравниваются по фонетическому коду Soundex, кириллица перед кодированием переводится в латиницу,
+	 * поэтому «Jon» находит «John», а «Алексей» находит «Aleksey» и «Alexei».
+	 *
+	 * @param name имя.
+	 * @return задача, возвращающая имена, упорядоченные по убыванию количества людей с именем в мире и по названию.
+	 */
+	@NotNull
+	public CompletableFuture<List<@NotNull Name>> getBySoundsLike(@NotNull final String name)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getBySoundsLike(name), this.executor);
+	}
+
+	/**
+	 * Возвращает список имён по количеству символов в имени.
+	 *
+	 * @param length количество символов в имени.
+	 * @return задача, возвращающая список имён, упорядоченный по названию.
+	 */
+	@NotNull
+	public CompletableFuture<Collection<@NotNull Name>> getByLength(final int length)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getByLength(length), this.executor);
+	}
+
+	/**
+	 * Возвращает список имён по интервалу количества символов в имени.
+	 *
+	 * @param min минимальное количество символов в имени.
+	 * @param max максимальное количество символов в имени.
+	 * @return задача, возвращающая список имён, упорядоченный по количеству символов в имени и названию.
+	 */
+	@NotNull
+	public CompletableFuture<Collection<@NotNull Name>> getBetweenLength(final int min, final int max)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getBetweenLength(min, max), this.executor);
+	}
+
+	/**
+	 * Возвращает список имён с указанного континента.
+	 *
+	 * @param continent континент.
+	 * @return задача, возвращающая список имён, упорядоченный по названию.
+	 */
+	@NotNull
+	public CompletableFuture<Collection<@NotNull Name>> getByContinent(@NotNull final String continent)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getByContinent(continent), this.executor);
+	}
+
+	/**
+	 * Возвращает список имён указанного происхождения.
+	 *
+	 * @param origin происхождение.
+	 * @return задача, возвращающая список имён, упорядоченный по названию.
+	 */
+	@NotNull
+	public CompletableFuture<Collection<@NotNull Name>> getByOrigin(@NotNull final String origin)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getByOrigin(origin), this.executor);
+	}
+
+	/**
+	 * Возвращает список имён, подходящих под значения характеристик.
+	 * <p>
+	 * Имя подходит, если значение каждой указанной характеристики без учёта регистра совпадает
+	 * с одним из её допустимых значений. Без характеристик подходят все имена, а с пустым
+	 * множеством значений — ни одно.
+	 *
+	 * @param attributes допустимые значения по характеристикам {@link NameField#ORIGIN},
+	 * {@link NameField#CONTINENT}, {@link NameField#COUNTRY} и {@link NameField#COUNTRY_DENSITY}.
+	 * @return задача, возвращающая список имён, упорядоченный по названию.
+	 * @see NameField#isCategory()
+	 */
+	@NotNull
+	public CompletableFuture<Collection<@NotNull Name>> getByAttributes(@NotNull final Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getByAttributes(attributes), this.executor);
+	}
+
+	/**
+	 * Возвращает количество имён, подходящих под значения характеристик, не загружая имена.
+	 *
+	 * @param attributes допустимые значения по характеристикам, как в {@link #getByAttributes(Map)}.
+	 * @return задача, возвращающая количество имён.
+	 */
+	@NotNull
+	public CompletableFuture<Integer> countByAttributes(@NotNull final Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.countByAttributes(attributes), this.executor);
+	}
+
+	/**
+	 * Возвращает список имён по запросу.
+	 * <p>
+	 * Выбранные поля проекций запроса не учитываются.
+	 *
+	 * @param query запрос.
+	 * @return задача, возвращающая список имён в порядке запроса.
+	 */
+	@NotNull
+	public CompletableFuture<List<@NotNull Name>> getByQuery(@NotNull final NameQuery query)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getByQuery(query), this.executor);
+	}
+
+	/**
+	 * Возвращает проекции имён по запросу.
+	 *
+	 * @param query запрос с выбранными полями проекций.
+	 * @return задача, возвращающая список проекций в порядке запроса.
+	 */
+	@NotNull
+	public CompletableFuture<List<@NotNull NameProjection>> getFieldsByQuery(@NotNull final NameQuery query)
+	{
+		return CompletableFuture.supplyAsync(() -> Names.getFieldsByQuery(query), this.executor);
+	}
+}
@@ -25,11 +25,29 @@
 package dev.kalenchukov.names;
 
 import dev.kalenchukov.names.entities.Name;
+import dev.kalenchukov.names.entities.NameField;
+import dev.kalenchukov.names.entities.NameProjection;
+import dev.kalenchukov.names.entities.NameQuery;
+import dev.kalenchukov.names.metrics.QueryListener;
+import dev.kalenchukov.names.metrics.QueryMetrics;
+import dev.kalenchukov.names.modules.Settings;
+import dev.kalenchukov.names.modules.Workers;
+import dev.kalenchukov.names.repositories.FilteredNameRepository;
+import dev.kalenchukov.names.repositories.InstrumentedNameRepository;
 import dev.kalenchukov.names.repositories.NameRepositories;
 import dev.kalenchukov.names.repositories.NameRepository;
+import dev.kalenchukov.names.repositories.NameSnapshotFile;
+import dev.kalenchukov.names.repositories.NameSnapshotRepository;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.Collection;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 /**
  * Класс имён.
@@ -39,16 +57,181 @@ import java.util.Collection;
 public final class Names
 {
 	/**
-	 * Репозиторий имён.
+	 * Встроенные показатели запросов.
+	 * <p>
+	 * Включаются системным свойством {@value Settings#METRICS}.
+	 */
+	@Nullable
+	private static final QueryMetrics metrics = Settings.isMetricsEnabled() ? new QueryMetrics() : null;
+
+	/**
+	 * Предварительная загрузка хранилища.
 	 */
 	@NotNull
-	private static final NameRepositories repository = new NameRepository();
+	private static final CompletableFuture<Void> preloading = new CompletableFuture<>();
+
+	/**
+	 * Признак начала предварительной загрузки хранилища.
+	 */
+	@NotNull
+	private static final AtomicBoolean preloadStarted = new AtomicBoolean();
+
+	static {
+		if (Settings.isWarmupEnabled()) {
+			Names.preloadAsync();
+		}
+	}
 
 	/**
 	 * Конструктор для {@code Names}.
 	 */
 	private Names() {}
 
+	/**
+	 * Возвращает репозиторий имён.
+	 * <p>
+	 * Репозиторий создаётся при первом обращении к нему, а не при загрузке класса.
+	 *
+	 * @return репозиторий имён.
+	 */
+	@NotNull
+	private static NameRepositories getRepository()
+	{
+		return RepositoryHolder.REPOSITORY;
+	}
+
+	/**
+	 * Создаёт репозиторий имён для выбранного хранилища.
+	 *
+	 * @return репозиторий имён.
+	 */
+	@NotNull
+	private static NameRepositories createRepository()
+	{
+		NameRepositories repository = switch (Settings.getStorage())
+		{
+			case DATABASE -> new NameRepository();
+			case MEMORY -> new NameSnapshotRepository(new NameRepository());
+			case FILE -> new NameSnapshotRepository(NameSnapshotFile.read(Settings.getStorageFile()));
+		};
+
+		if (Settings.isFilterEnabled()) {
+			repository = new FilteredNameRepository(repository, Settings.getFilterFpp());
+		}
+
+		List<QueryListener> listeners = new ArrayList<>();
+		ServiceLoader.load(QueryListener.class).forEach(listeners::add);
+
+		if (metrics != null) {
+			listeners.add(metrics);
+		}
+
+		if (!listeners.isEmpty()) {
+			repository = new InstrumentedNameRepository(repository, listeners);
+		}
+
+		return repository;
+	}
+
+	/**
+	 * Подготавливает хранилище к запросам в текущем потоке.
+	 * <p>
+	 * Создаёт репозиторий, открывает соединения, подготавливает запросы и строит индексы.
+	 * Подготовка выполняется один раз; повторный вызов ждёт её завершения.
+	 * Включить подготовку в фоне при загрузке класса можно системным свойством {@value Settings#WARMUP}.
+	 *
+	 * @throws RuntimeException если подготовить хранилище не удалось.
+	 */
+	public static void preload()
+	{
+		if (preloadStarted.compareAndSet(false, true)) {
+			Names.warmUp();
+		}
+
+		try {
+			preloading.join();
+		} catch (CompletionException exception) {
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+
+			if (exception.getCause() instanceof Error cause) {
+				throw cause;
+			}
+
+			throw exception;
+		}
+	}
+
+	/**
+	 * Подготавливает хранилище к запросам в фоновом потоке.
+	 * <p>
+	 * Подготовка выполняется один раз исполнителем по умолчанию, как в {@link AsyncNames#create()}.
+	 *
+	 * @return задача, завершающаяся после подготовки хранилища.
+	 */
+	@NotNull
+	public static CompletableFuture<Void> preloadAsync()
+	{
+		if (preloadStarted.compareAndSet(false, true)) {
+			Workers.getDefault().execute(Names::warmUp);
+		}
+
+		return preloading.copy();
+	}
+
+	/**
+	 * Проверяет, подготовлено ли хранилище к запросам.
+	 * <p>
+	 * Подходит для проверки готовности приложения: возвращает {@code true}
+	 * только после успешного завершения {@link #preload()} или {@link #preloadAsync()}.
+	 *
+	 * @return {@code true}, если хранилище подготовлено, иначе {@code false}.
+	 */
+	public static boolean isReady()
+	{
+		return preloading.isDone() && !preloading.isCompletedExceptionally();
+	}
+
+	/**
+	 * Подготавливает хранилище и завершает предварительную загрузку.
+	 */
+	private static void warmUp()
+	{
+		try {
+			Names.getRepository().warmUp();
+			preloading.complete(null);
+		} catch (Throwable exception) {
+			preloading.completeExceptionally(exception);
+		}
+	}
+
+	/**
+	 * Возвращает встроенные показатели запросов.
+	 *
+	 * @return показатели запросов или {@code null}, если они не включены системным свойством {@value Settings#METRICS}.
+	 */
+	@Nullable
+	public static QueryMetrics getMetrics()
+	{
+		return metrics;
+	}
+
+	/**
+	 * Записывает все имена из базы данных в файл снимка.
+	 * <p>
+	 * Файл используется хранилищем {@code file}, путь к нему задаётся системным свойством
+	 * {@value Settings#STORAGE_FILE}. Имена всегда читаются из базы данных,
+	 * независимо от выбранного хранилища.
+	 *
+	 * @param path файл снимка.
+	 * @throws dev.kalenchukov.names.exceptions.SnapshotException если не удалось записать файл.
+	 */
+	public static void writeSnapshot(@NotNull final Path path)
+	{
+		NameSnapshotFile.write(new NameRepository(), path);
+	}
+
 	/**
 	 * Возвращает количество имён.
 	 *
@@ -56,7 +239,7 @@ public final class Names
 	 */
 	public static int count()
 	{
-		return repository.count();
+		return Names.getRepository().count();
 	}
 
 	/**
@@ -67,7 +250,7 @@ public final class Names
 	 */
 	public static boolean exists(@NotNull final String name)
 	{
-		return repository.existsByName(name);
+		return Names.getRepository().existsByName(name);
 	}
 
 	/**
@@ -79,7 +262,33 @@ public final class Names
 	@NotNull
 	public static Name getByName(@NotNull final String name)
 	{
-		return repository.getByName(name);
+		return Names.getRepository().getByName(name);
+	}
+
+	/**
+	 * Возвращает найденные имена по названиям.
+	 * <p>
+	 * В отличие от {@link #getByName(String)}, отсутствующие имена пропускаются без исключения.
+	 *
+	 * @param names названия имён.
+	 * @return найденные имена по переданным названиям.
+	 */
+	@NotNull
+	public static Map<@NotNull String, @NotNull Name> getByNames(@NotNull final Collection<@NotNull String> names)
+	{
+		return Names.getRepository().getByNames(names);
+	}
+
+	/**
+	 * Возвращает существующие имена из указанных.
+	 *
+	 * @param names названия имён.
+	 * @return переданные названия существующих имён.
+	 */
+	@NotNull
+	public static Set<@NotNull String> existsByNames(@NotNull final Collection<@NotNull String> names)
+	{
+		return Names.getRepository().existsByNames(names);
 	}
 
 	/**
@@ -91,7 +300,25 @@ public final class Names
 	@NotNull
 	public static Collection<@NotNull Name> getByCountry(@NotNull final String country)
 	{
-		return repository.getByCountry(country);
+		return Names.getRepository().getByCountry(country);
+	}
+
+	/**
+	 * Возвращает страницу списка имён в указанной стране.
+	 * <p>
+	 * Для получения следующей страницы передаётся последнее имя текущей страницы.
+	 *
+	 * @param country страна.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка имён в указанной стране.
+	 */
+	@NotNull
+	public static Collection<@NotNull Name> getByCountry(@NotNull final String country,
+														 @Nullable final String after,
+														 final int limit)
+	{
+		return Names.getRepository().getByCountry(country, after, limit);
 	}
 
 	/**
@@ -103,7 +330,7 @@ public final class Names
 	@NotNull
 	public static Collection<@NotNull Name> getByCountryDensity(@NotNull final String country)
 	{
-		return repository.getByCountryDensity(country);
+		return Names.getRepository().getByCountryDensity(country);
 	}
 
 	/**
@@ -114,7 +341,169 @@ public final class Names
 	@NotNull
 	public static Collection<@NotNull Name> getAll()
 	{
-		return repository.getAll();
+		return Names.getRepository().getAll();
+	}
+
+	/**
+	 * Возвращает страницу списка всех имён.
+	 * <p>
+	 * Для получения следующей страницы передаётся последнее имя текущей страницы.
+	 *
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка всех имён.
+	 */
+	@NotNull
+	public static Collection<@NotNull Name> getAll(@Nullable final String after, final int limit)
+	{
+		return Names.getRepository().getAll(after, limit);
+	}
+
+	/**
+	 * Возвращает поток всех имён.
+	 * <p>
+	 * Имена читаются по мере обработки потока, поэтому его необходимо закрыть:
+	 * <pre>{@code
+	 * try (Stream<Name> names = Names.streamAll()) {
+	 *     names.forEach(...);
+	 * }
+	 * }</pre>
+	 *
+	 * @return поток всех имён.
+	 */
+	@NotNull
+	public static Stream<@NotNull Name> streamAll()
+	{
+		return Names.getRepository().streamAll();
+	}
+
+	/**
+	 * Возвращает поток имён в указанной стране.
+	 * <p>
+	 * Имена читаются по мере обработки потока, поэтому его необходимо закрыть.
+	 *
+	 * @param country страна.
+	 * @return поток имён в указанной стране.
+	 */
+	@NotNull
+	public static Stream<@NotNull Name> streamByCountry(@NotNull final String country)
+	{
+		return Names.getRepository().streamByCountry(country);
+	}
+
+	/**
+	 * Возвращает поток имён в указанной стране по плотности населения.
+	 * <p>
+	 * Имена читаются по мере обработки потока, поэтому его необходимо закрыть.
+	 *
+	 * @param country страна.
+	 * @return поток имён в указанной стране по плотности населения.
+	 */
+	@NotNull
+	public static Stream<@NotNull Name> streamByCountryDensity(@NotNull final String country)
+	{
+		return Names.getRepository().streamByCountryDensity(country);
+	}
+
+	/**
+	 * Возвращает издателя всех имён.
+	 * <p>
+	 * Имена читаются по мере запроса подписчиком, при отмене подписки чтение прекращается.
+	 *
+	 * @return издатель всех имён.
+	 */
+	@NotNull
+	public static Flow.Publisher<@NotNull Name> publishAll()
+	{
+		return Names.getRepository().publishAll();
+	}
+
+	/**
+	 * Возвращает издателя имён в указанной стране.
+	 * <p>
+	 * Имена читаются по мере запроса подписчиком, при отмене подписки чтение прекращается.
+	 *
+	 * @param country страна.
+	 * @return издатель имён в указанной стране.
+	 */
+	@NotNull
+	public static Flow.Publisher<@NotNull Name> publishByCountry(@NotNull final String country)
+	{
+		return Names.getRepository().publishByCountry(country);
+	}
+
+	/**
+	 * Возвращает издателя имён в указанной стране по плотности населения.
+	 * <p>
+	 * Имена читаются по мере запроса подписчиком, при отмене подписки чтение прекращается.
+	 *
+	 * @param country страна.
+	 * @return издатель имён в указанной стране по плотности населения.
+	 */
+	@NotNull
+	public static Flow.Publisher<@NotNull Name> publishByCountryDensity(@NotNull final String country)
+	{
+		return Names.getRepository().publishByCountryDensity(country);
+	}
+
+	/**
+	 * Возвращает издателя имён по интервалу использования в мире.
+	 * <p>
+	 * Имена читаются по мере запроса подписчиком, при отмене подписки чтение прекращается.
+	 *
+	 * @param min минимальное количество использований.
+	 * @param max максимальное количество использований.
+	 * @return издатель имён по интервалу использования в мире.
+	 */
+	@NotNull
+	public static Flow.Publisher<@NotNull Name> publishBetweenUsageWorld(final int min, final int max)
+	{
+		return Names.getRepository().publishBetweenUsageWorld(min, max);
+	}
+
+	/**
+	 * Возвращает издателя имён по интервалу использования в стране.
+	 * <p>
+	 * Имена читаются по мере запроса подписчиком, при отмене подписки чтение прекращается.
+	 *
+	 * @param min минимальное количество использований.
+	 * @param max максимальное количество использований.
+	 * @return издатель имён по интервалу использования в стране.
+	 */
+	@NotNull
+	public static Flow.Publisher<@NotNull Name> publishBetweenUsageCountry(final int min, final int max)
+	{
+		return Names.getRepository().publishBetweenUsageCountry(min, max);
+	}
+
+	/**
+	 * Возвращает издателя имён по интервалу рейтинга в мире.
+	 * <p>
+	 * Имена читаются по мере запроса подписчиком, при отмене подписки чтение прекращается.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @return издатель имён по интервалу рейтинга в мире.
+	 */
+	@NotNull
+	public static Flow.Publisher<@NotNull Name> publishBetweenRankWorld(final int min, final int max)
+	{
+		return Names.getRepository().publishBetweenRankWorld(min, max);
+	}
+
+	/**
+	 * Возвращает издателя имён по интервалу рейтинга в стране.
+	 * <p>
+	 * Имена читаются по мере запроса подписчиком, при отмене подписки чтение прекращается.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @return издатель имён по интервалу рейтинга в стране.
+	 */
+	@NotNull
+	public static Flow.Publisher<@NotNull Name> publishBetweenRankCountry(final int min, final int max)
+	{
+		return Names.getRepository().publishBetweenRankCountry(min, max);
 	}
 
 	/**
@@ -127,7 +516,27 @@ public final class Names
 	@NotNull
 	public static Collection<@NotNull Name> getBetweenUsageWorld(final int min, final int max)
 	{
-		return repository.getBetweenUsageWorld(min, max);
+		return Names.getRepository().getBetweenUsageWorld(min, max);
+	}
+
+	/**
+	 * Возвращает страницу списка имён по интервалу использования в мире.
+	 * <p>
+	 * Для получения следующей страницы передаётся последнее имя текущей страницы.
+	 *
+	 * @param min минимальное количество использований.
+	 * @param max максимальное количество использований.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка имён.
+	 */
+	@NotNull
+	public static Collection<@NotNull Name> getBetweenUsageWorld(final int min,
+																 final int max,
+																 @Nullable final Name after,
+																 final int limit)
+	{
+		return Names.getRepository().getBetweenUsageWorld(min, max, after, limit);
 	}
 
 	/**
@@ -140,7 +549,27 @@ public final class Names
 	@NotNull
 	public static Collection<@NotNull Name> getBetweenUsageCountry(final int min, final int max)
 	{
-		return repository.getBetweenUsageCountry(min, max);
+		return Names.getRepository().getBetweenUsageCountry(min, max);
+	}
+
+	/**
+	 * Возвращает страницу списка имён по интервалу использования в стране.
+	 * <p>
+	 * Для получения следующей страницы передаётся последнее имя текущей страницы.
+	 *
+	 * @param min минимальное количество использований.
+	 * @param max максимальное количество использований.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка имён.
+	 */
+	@NotNull
+	public static Collection<@NotNull Name> getBetweenUsageCountry(final int min,
+																   final int max,
+																   @Nullable final Name after,
+																   final int limit)
+	{
+		return Names.getRepository().getBetweenUsageCountry(min, max, after, limit);
 	}
 
 	/**
@@ -153,7 +582,27 @@ public final class Names
 	@NotNull
 	public static Collection<@NotNull Name> getBetweenRankWorld(final int min, final int max)
 	{
-		return repository.getBetweenRankWorld(min, max);
+		return Names.getRepository().getBetweenRankWorld(min, max);
+	}
+
+	/**
+	 * Возвращает страницу списка имён по интервалу рейтинга в мире.
+	 * <p>
+	 * Для получения следующей страницы передаётся последнее имя текущей страницы.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка имён.
+	 */
+	@NotNull
+	public static Collection<@NotNull Name> getBetweenRankWorld(final int min,
+																final int max,
+																@Nullable final Name after,
+																final int limit)
+	{
+		return Names.getRepository().getBetweenRankWorld(min, max, after, limit);
 	}
 
 	/**
@@ -166,6 +615,261 @@ public final class Names
 	@NotNull
 	public static Collection<@NotNull Name> getBetweenRankCountry(final int min, final int max)
 	{
-		return repository.getBetweenRankCountry(min, max);
+		return Names.getRepository().getBetweenRankCountry(min, max);
+	}
+
+	/**
+	 * Возвращает страницу списка имён по интервалу рейтинга в стране.
+	 * <p>
+	 * Для получения следующей страницы передаётся последнее имя текущей страницы.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка имён.
+	 */
+	@NotNull
+	public static Collection<@NotNull Name> getBetweenRankCountry(final int min,
+																  final int max,
+																  @Nullable final Name after,
+																  final int limit)
+	{
+		return Names.getRepository().getBetweenRankCountry(min, max, after, limit);
+	}
+
+	/**
+	 * Возвращает названия имён в указанной стране.
+	 * <p>
+	 * В отличие от {@link #getByCountry(String)}, читается только название имени.
+	 *
+	 * @param country страна.
+	 * @return названия имён в указанной стране, упорядоченные по названию.
+	 */
+	@NotNull
+	public static List<@NotNull String> getNameValuesByCountry(@NotNull final String country)
+	{
+		return Names.getRepository().getNameValuesByCountry(country);
+	}
+
+	/**
+	 * Возвращает названия имён по интервалу рейтинга в мире.
+	 * <p>
+	 * В отличие от {@link #getBetweenRankWorld(int, int)}, читается только название имени.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @return названия имён, упорядоченные по рейтингу и названию.
+	 */
+	@NotNull
+	public static List<@NotNull String> getNameValuesBetweenRankWorld(final int min, final int max)
+	{
+		return Names.getRepository().getNameValuesBetweenRankWorld(min, max);
+	}
+
+	/**
+	 * Возвращает выбранные поля имён в указанной стране.
+	 *
+	 * @param country страна.
+	 * @param fields выбранные поля.
+	 * @return проекции имён в указанной стране, упорядоченные по названию.
+	 * @throws IllegalArgumentException если поля не указаны.
+	 */
+	@NotNull
+	public static List<@NotNull NameProjection> getFieldsByCountry(@NotNull final String country,
+																   @NotNull final Set<@NotNull NameField> fields)
+	{
+		return Names.getRepository().getFieldsByCountry(country, fields);
+	}
+
+	/**
+	 * Возвращает выбранные поля имён по интервалу рейтинга в мире.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @param fields выбранные поля.
+	 * @return проекции имён, упорядоченные по рейтингу и названию.
+	 * @throws IllegalArgumentException если поля не указаны.
+	 */
+	@NotNull
+	public static List<@NotNull NameProjection> getFieldsBetweenRankWorld(final int min,
+																		  final int max,
+																		  @NotNull final Set<@NotNull NameField> fields)
+	{
+		return Names.getRepository().getFieldsBetweenRankWorld(min, max, fields);
+	}
+
+	/**
+	 * Возвращает самые популярные имена, начинающиеся с указанной строки.
+	 * <p>
+	 * Регистр не учитывается так же, как при поиске имени по названию.
+	 * Подходит для подсказок при вводе имени.
+	 *
+	 * @param prefix начало имени.
+	 * @param limit наибольшее количество имён.
+	 * @return имена, упорядоченные по месту в мире и названию.
+	 * @throws IllegalArgumentException если количество имён отрицательное.
+	 */
+	@NotNull
+	public static List<@NotNull Name> getByPrefix(@NotNull final String prefix, final int limit)
+	{
+		return Names.getRepository().getByPrefix(prefix, limit);
+	}
+
+	/**
+	 * Возвращает имена, похожие на указанное, с учётом опечаток.
+	 * <p>
+	 * Похожесть измеряется расстоянием Левенштейна без учёта регистра:
+	 * количеством вставок, удалений и замен символов.
+	 *
+	 * @param query имя с возможными опечатками.
+	 * @param maxEdits наибольшее расстояние.
+	 * @param limit наибольшее количество имён.
+	 * @return имена, упорядоченные по расстоянию, по убыванию количества людей с именем в мире и по названию.
+	 * @throws IllegalArgumentException если расстояние или количество имён отрицательное.
+	 */
+	@NotNull
+	public static List<@NotNull Name> searchFuzzy(@NotNull final String query,
+												  final int maxEdits,
+												  final int limit)
+	{
+		return Names.getRepository().searchFuzzy(query, maxEdits, limit);
+	}
+
+	/**
+	 * Возвращает имена, которые звучат так же, как указанное.
+	 * <p>
+	 * Имена сравниваются по фонетическому коду Soundex, кириллица перед кодированием переводится в латиницу,
+	 * поэтому «Jon» находит «John», а «Алексей» находит «Aleksey» и «Alexei».
+	 *
+	 * @param name имя.
+	 * @return имена, упорядоченные по убыванию количества людей с именем в мире и по названию.
+	 */
+	@NotNull
+	public static List<@NotNull Name> getBySoundsLike(@NotNull final String name)
+	{
+		return Names.getRepository().getBySoundsLike(name);
+	}
+
+	/**
+	 * Возвращает список имён по количеству символов в имени.
+	 *
+	 * @param length количество символов в имени.
+	 * @return список имён, упорядоченный по названию.
+	 */
+	@NotNull
+	public static Collection<@NotNull Name> getByLength(final int length)
+	{
+		return Names.getRepository().getByLength(length);
+	}
+
+	/**
+	 * Возвращает список имён по интервалу количества символов в имени.
+	 *
+	 * @param min минимальное количество символов в имени.
+	 * @param max максимальное количество символов в имени.
+	 * @return список имён, упорядоченный по количеству символов в имени и названию.
+	 */
+	@NotNull
+	public static Collection<@NotNull Name> getBetweenLength(final int min, final int max)
+	{
+		return Names.getRepository().getBetweenLength(min, max);
+	}
+
+	/**
+	 * Возвращает список имён с указанного континента.
+	 *
+	 * @param continent континент.
+	 * @return список имён, упорядоченный по названию.
+	 */
+	@NotNull
+	public static Collection<@NotNull Name> getByContinent(@NotNull final String continent)
+	{
+		return Names.getRepository().getByContinent(continent);
+	}
+
+	/**
+	 * Возвращает список имён указанного происхождения.
+	 *
+	 * @param origin происхождение.
+	 * @return список имён, упорядоченный по названию.
+	 */
+	@NotNull
+	public static Collection<@NotNull Name> getByOrigin(@NotNull final String origin)
+	{
+		return Names.getRepository().getByOrigin(origin);
+	}
+
+	/**
+	 * Возвращает список имён, подходящих под значения характеристик.
+	 * <p>
+	 * Имя подходит, если значение каждой указанной характеристики без учёта регистра совпадает
+	 * с одним из её допустимых значений. Без характеристик подходят все имена, а с пустым
+	 * множеством значений — ни одно.
+	 *
+	 * @param attributes допустимые значения по характеристикам {@link NameField#ORIGIN},
+	 * {@link NameField#CONTINENT}, {@link NameField#COUNTRY} и {@link NameField#COUNTRY_DENSITY}.
+	 * @return список имён, упорядоченный по названию.
+	 * @throws IllegalArgumentException если характеристика не является категорией.
+	 * @see NameField#isCategory()
+	 */
+	@NotNull
+	public static Collection<@NotNull Name> getByAttributes(@NotNull final Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes)
+	{
+		return Names.getRepository().getByAttributes(attributes);
+	}
+
+	/**
+	 * Возвращает количество имён, подходящих под значения характеристик, не загружая имена.
+	 *
+	 * @param attributes допустимые значения по характеристикам, как в {@link #getByAttributes(Map)}.
+	 * @return количество имён.
+	 * @throws IllegalArgumentException если характеристика не является категорией.
+	 */
+	public static int countByAttributes(@NotNull final Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes)
+	{
+		return Names.getRepository().countByAttributes(attributes);
+	}
+
+	/**
+	 * Возвращает список имён по запросу.
+	 * <p>
+	 * Выбранные поля проекций запроса не учитываются.
+	 *
+	 * @param query запрос.
+	 * @return список имён в порядке запроса.
+	 */
+	@NotNull
+	public static List<@NotNull Name> getByQuery(@NotNull final NameQuery query)
+	{
+		return Names.getRepository().getByQuery(query);
+	}
+
+	/**
+	 * Возвращает проекции имён по запросу.
+	 *
+	 * @param query запрос с выбранными полями проекций.
+	 * @return список проекций в порядке запроса.
+	 */
+	@NotNull
+	public static List<@NotNull NameProjection> getFieldsByQuery(@NotNull final NameQuery query)
+	{
+		return Names.getRepository().getFieldsByQuery(query);
+	}
+
+	/**
+	 * Класс отложенной инициализации репозитория имён.
+	 */
+	private static final class RepositoryHolder
+	{
+		/**
+		 * Репозиторий имён.
+		 * <p>
+		 * Хранилище выбирается системным свойством {@value Settings#STORAGE},
+		 * фильтр Блума включается системным свойством {@value Settings#FILTER}.
+		 * Запросы измеряются, если найдены реализации {@link QueryListener} или включены встроенные показатели.
+		 */
+		@NotNull
+		private static final NameRepositories REPOSITORY = Names.createRepository();
 	}
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.entities;
+
+/**
+ * Перечисление полей имени.
+ */
+public enum NameField
+{
+	/**
+	 * Форма написания имени.
+	 */
+	VALUE(false),
+
+	/**
+	 * Количество символов в имени.
+	 */
+	LENGTH(true),
+
+	/**
+	 * Место среди самых популярных имён в мире.
+	 */
+	RANK_WORLD(true),
+
+	/**
+	 * Место среди самых популярных имён в стране.
+	 */
+	RANK_COUNTRY(true),
+
+	/**
+	 * Количество людей с этим именем в мире.
+	 */
+	USAGE_WORLD(true),
+
+	/**
+	 * Количество людей с этим именем в стране.
+	 */
+	USAGE_COUNTRY(true),
+
+	/**
+	 * Происхождение.
+	 */
+	ORIGIN(false),
+
+	/**
+	 * Континент использования.
+	 */
+	CONTINENT(false),
+
+	/**
+	 * Страна в которой больше всего людей с этим именем.
+	 */
+	COUNTRY(false),
+
+	/**
+	 * Страна в которой больше всего плотность людей с этим именем.
+	 */
+	COUNTRY_DENSITY(false);
+
+	/**
+	 * Признак числового поля.
+	 */
+	private final boolean numeric;
+
+	/**
+	 * Конструктор для {@code NameField}.
+	 *
+	 * @param numeric признак числового поля.
+	 */
+	NameField(final boolean numeric)
+	{
+		this.numeric = numeric;
+	}
+
+	/**
+	 * Проверяет, является ли поле числовым.
+	 *
+	 * @return {@code true}, если значение поля является числом, иначе {@code false}.
+	 */
+	public boolean isNumeric()
+	{
+		return this.numeric;
+	}
+
+	/**
+	 * Проверяет, является ли поле категорией.
+	 * <p>
+	 * Категории — это строковые поля, кроме формы написания имени, по значениям которых имена группируются.
+	 *
+	 * @return {@code true}, если поле является категорией, иначе {@code false}.
+	 */
+	public boolean isCategory()
+	{
+		return !this.numeric && this != VALUE;
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.entities;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Класс проекции имени.
+ * <p>
+ * Содержит значения только выбранных полей имени.
+ */
+public final class NameProjection
+{
+	/**
+	 * Количество полей имени.
+	 */
+	private static final int FIELDS = NameField.values().length;
+
+	/**
+	 * Выбранные поля.
+	 */
+	@NotNull
+	private final Set<@NotNull NameField> fields;
+
+	/**
+	 * Значения полей по порядковым номерам полей.
+	 */
+	@Nullable
+	private final Object @NotNull [] values;
+
+	/**
+	 * Конструктор для {@code NameProjection}.
+	 *
+	 * @param fields выбранные поля.
+	 * @param values значения полей по порядковым номерам полей {@link NameField#ordinal()},
+	 *               строки для строковых полей и {@link Integer} для числовых.
+	 */
+	public NameProjection(@NotNull final Set<@NotNull NameField> fields, @Nullable final Object @NotNull [] values)
+	{
+		this.fields = fields;
+		this.values = values;
+	}
+
+	/**
+	 * Возвращает проекцию имени.
+	 *
+	 * @param name имя.
+	 * @param fields выбранные поля.
+	 * @return проекция имени.
+	 */
+	@NotNull
+	public static NameProjection of(@NotNull final Name name, @NotNull final Set<@NotNull NameField> fields)
+	{
+		Object[] values = new Object[FIELDS];
+
+		for (NameField field : fields)
+		{
+			values[field.ordinal()] = switch (field)
+			{
+				case VALUE -> name.getValue();
+				case LENGTH -> name.getLength();
+				case RANK_WORLD -> name.getRankWorld();
+				case RANK_COUNTRY -> name.getRankCountry();
+				case USAGE_WORLD -> name.getUsageWorld();
+				case USAGE_COUNTRY -> name.getUsageCountry();
+				case ORIGIN -> name.getOrigin();
+				case CONTINENT -> name.getContinent();
+				case COUNTRY -> name.getCountry();
+				case COUNTRY_DENSITY -> name.getCountryDensity();
+			};
+		}
+
+		return new NameProjection(fields, values);
+	}
+
+	/**
+	 * Возвращает неизменяемый набор выбранных полей.
+	 * <p>
+	 * Проверяет, что набор не пуст, чтобы его можно было использовать во всех проекциях одного запроса.
+	 *
+	 * @param fields поля.
+	 * @return неизменяемый набор полей.
+	 * @throws IllegalArgumentException если поля не указаны.
+	 */
+	@NotNull
+	public static Set<@NotNull NameField> toFields(@NotNull final Set<@NotNull NameField> fields)
+	{
+		if (fields.isEmpty()) {
+			throw new IllegalArgumentException("Не указаны поля имени.");
+		}
+
+		return Collections.unmodifiableSet(EnumSet.copyOf(fields));
+	}
+
+	/**
+	 * Возвращает выбранные поля.
+	 *
+	 * @return выбранные поля.
+	 */
+	@NotNull
+	public Set<@NotNull NameField> getFields()
+	{
+		return this.fields;
+	}
+
+	/**
+	 * Проверяет, выбрано ли поле.
+	 *
+	 * @param field поле.
+	 * @return {@code true}, если поле выбрано, иначе {@code false}.
+	 */
+	public boolean has(@NotNull final NameField field)
+	{
+		return this.fields.contains(field);
+	}
+
+	/**
+	 * Возвращает значение строкового поля.
+	 *
+	 * @param field поле.
+	 * @return значение поля.
+	 * @throws IllegalArgumentException если поле не выбрано или является числовым.
+	 */
+	@NotNull
+	public String getString(@NotNull final NameField field)
+	{
+		if (field.isNumeric()) {
+			throw new IllegalArgumentException("Поле '" + field + "' является числовым.");
+		}
+
+		return (String) this.get(field);
+	}
+
+	/**
+	 * Возвращает значение числового поля.
+	 *
+	 * @param field поле.
+	 * @return значение поля.
+	 * @throws IllegalArgumentException если поле не выбрано или не является числовым.
+	 */
+	public int getInt(@NotNull final NameField field)
+	{
+		if (!field.isNumeric()) {
+			throw new IllegalArgumentException("Поле '" + field + "' не является числовым.");
+		}
+
+		return (Integer) this.get(field);
+	}
+
+	/**
+	 * Возвращает значение поля.
+	 *
+	 * @param field поле.
+	 * @return значение поля.
+	 * @throws IllegalArgumentException если поле не выбрано.
+	 */
+	@NotNull
+	private Object get(@NotNull final NameField field)
+	{
+		if (!this.fields.contains(field)) {
+			throw new IllegalArgumentException("Поле '" + field + "' не выбрано.");
+		}
+
+		return Objects.requireNonNull(this.values[field.ordinal()]);
+	}
+
+	/**
+	 * Проверяет равенство объектов.
+	 *
+	 * @param object сравниваемый объект.
+	 * @return {@code true}, если объекты равны, иначе {@code false}.
+	 */
+	@Override
+	public boolean equals(final Object object)
+	{
+		if (this == object) {
+			return true;
+		}
+
+		if (object == null || this.getClass() != object.getClass()) {
+			return false;
+		}
+
+		NameProjection projection = (NameProjection) object;
+
+		return this.fields.equals(projection.fields) && Arrays.equals(this.values, projection.values);
+	}
+
+	/**
+	 * Возвращает значение объекта в виде числа.
+	 *
+	 * @return число.
+	 * @see Object#hashCode()
+	 */
+	@Override
+	public int hashCode()
+	{
+		return 31 * this.fields.hashCode() + Arrays.hashCode(this.values);
+	}
+
+	/**
+	 * Возвращает значение объекта в виде строки.
+	 *
+	 * @return строку.
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		StringBuilder string = new StringBuilder("NameProjection{");
+
+		for (NameField field : this.fields)
+		{
+			if (string.charAt(string.length() - 1) != '{') {
+				string.append(", ");
+			}
+
+			string.append(field).append('=').append(this.values[field.ordinal()]);
+		}
+
+		return string.append('}').toString();
+	}
+}
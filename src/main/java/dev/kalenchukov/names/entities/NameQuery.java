@@ -0,0 +1,533 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.entities;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Класс запроса имён.
+ * <p>
+ * Запрос неизменяем: каждый метод возвращает новый запрос с добавленным условием,
+ * порядком или ограничением, поэтому один запрос можно использовать повторно и из разных потоков.
+ * Условия объединяются через «и». Строковые значения сравниваются без учёта регистра.
+ * Имена с равными значениями полей порядка упорядочены по названию.
+ *
+ * <pre>{@code
+ * NameQuery query = NameQuery.create()
+ *     .whereEquals(NameField.COUNTRY, "russia")
+ *     .whereBetween(NameField.RANK_WORLD, 1, 1000)
+ *     .orderByDescending(NameField.USAGE_COUNTRY)
+ *     .limit(50);
+ * }</pre>
+ */
+public final class NameQuery
+{
+	/**
+	 * Запрос всех имён.
+	 */
+	@NotNull
+	private static final NameQuery ALL = new NameQuery(
+		List.of(), List.of(), Integer.MAX_VALUE, 0, Collections.unmodifiableSet(EnumSet.allOf(NameField.class))
+	);
+
+	/**
+	 * Условия.
+	 */
+	@NotNull
+	private final List<@NotNull Condition> conditions;
+
+	/**
+	 * Порядок имён.
+	 */
+	@NotNull
+	private final List<@NotNull Order> orders;
+
+	/**
+	 * Наибольшее количество имён.
+	 */
+	private final int limit;
+
+	/**
+	 * Количество пропускаемых имён.
+	 */
+	private final int offset;
+
+	/**
+	 * Выбранные поля проекций.
+	 */
+	@NotNull
+	private final Set<@NotNull NameField> fields;
+
+	/**
+	 * Конструктор для {@code NameQuery}.
+	 *
+	 * @param conditions условия.
+	 * @param orders порядок имён.
+	 * @param limit наибольшее количество имён.
+	 * @param offset количество пропускаемых имён.
+	 * @param fields выбранные поля проекций.
+	 */
+	private NameQuery(@NotNull final List<@NotNull Condition> conditions,
+					  @NotNull final List<@NotNull Order> orders,
+					  final int limit,
+					  final int offset,
+					  @NotNull final Set<@NotNull NameField> fields)
+	{
+		this.conditions = conditions;
+		this.orders = orders;
+		this.limit = limit;
+		this.offset = offset;
+		this.fields = fields;
+	}
+
+	/**
+	 * Возвращает запрос всех имён в порядке названия.
+	 *
+	 * @return запрос.
+	 */
+	@NotNull
+	public static NameQuery create()
+	{
+		return ALL;
+	}
+
+	/**
+	 * Возвращает запрос с условием равенства строкового поля значению без учёта регистра.
+	 *
+	 * @param field строковое поле.
+	 * @param value значение.
+	 * @return запрос.
+	 * @throws IllegalArgumentException если поле числовое.
+	 */
+	@NotNull
+	public NameQuery whereEquals(@NotNull final NameField field, @NotNull final String value)
+	{
+		return this.whereIn(field, Set.of(value));
+	}
+
+	/**
+	 * Возвращает запрос с условием равенства числового поля значению.
+	 *
+	 * @param field числовое поле.
+	 * @param value значение.
+	 * @return запрос.
+	 * @throws IllegalArgumentException если поле строковое.
+	 */
+	@NotNull
+	public NameQuery whereEquals(@NotNull final NameField field, final int value)
+	{
+		return this.whereBetween(field, value, value);
+	}
+
+	/**
+	 * Возвращает запрос с условием равенства строкового поля одному из значений без учёта регистра.
+	 * <p>
+	 * Без значений условию не подходит ни одно имя.
+	 *
+	 * @param field строковое поле.
+	 * @param values значения.
+	 * @return запрос.
+	 * @throws IllegalArgumentException если поле числовое.
+	 */
+	@NotNull
+	public NameQuery whereIn(@NotNull final NameField field, @NotNull final Collection<@NotNull String> values)
+	{
+		if (field.isNumeric()) {
+			throw new IllegalArgumentException("Поле " + field + " не является строковым.");
+		}
+
+		return this.where(new Condition(field, Set.copyOf(values), 0, 0));
+	}
+
+	/**
+	 * Возвращает запрос с условием нахождения числового поля в интервале.
+	 *
+	 * @param field числовое поле.
+	 * @param min минимальное значение.
+	 * @param max максимальное значение.
+	 * @return запрос.
+	 * @throws IllegalArgumentException если поле строковое.
+	 */
+	@NotNull
+	public NameQuery whereBetween(@NotNull final NameField field, final int min, final int max)
+	{
+		if (!field.isNumeric()) {
+			throw new IllegalArgumentException("Поле " + field + " не является числовым.");
+		}
+
+		return this.where(new Condition(field, null, min, max));
+	}
+
+	/**
+	 * Возвращает запрос с добавленным порядком по возрастанию поля.
+	 * <p>
+	 * Каждый следующий порядок применяется к именам с равными значениями предыдущих.
+	 *
+	 * @param field поле.
+	 * @return запрос.
+	 */
+	@NotNull
+	public NameQuery orderBy(@NotNull final NameField field)
+	{
+		return this.order(new Order(field, false));
+	}
+
+	/**
+	 * Возвращает запрос с добавленным порядком по убыванию поля.
+	 * <p>
+	 * Каждый следующий порядок применяется к именам с равными значениями предыдущих.
+	 *
+	 * @param field поле.
+	 * @return запрос.
+	 */
+	@NotNull
+	public NameQuery orderByDescending(@NotNull final NameField field)
+	{
+		return this.order(new Order(field, true));
+	}
+
+	/**
+	 * Возвращает запрос с наибольшим количеством имён.
+	 *
+	 * @param limit наибольшее количество имён.
+	 * @return запрос.
+	 * @throws IllegalArgumentException если количество отрицательное.
+	 */
+	@NotNull
+	public NameQuery limit(final int limit)
+	{
+		if (limit < 0) {
+			throw new IllegalArgumentException("Количество имён не может быть отрицательным.");
+		}
+
+		return new NameQuery(this.conditions, this.orders, limit, this.offset, this.fields);
+	}
+
+	/**
+	 * Возвращает запрос с количеством пропускаемых имён.
+	 *
+	 * @param offset количество пропускаемых имён.
+	 * @return запрос.
+	 * @throws IllegalArgumentException если количество отрицательное.
+	 */
+	@NotNull
+	public NameQuery offset(final int offset)
+	{
+		if (offset < 0) {
+			throw new IllegalArgumentException("Количество пропускаемых имён не может быть отрицательным.");
+		}
+
+		return new NameQuery(this.conditions, this.orders, this.limit, offset, this.fields);
+	}
+
+	/**
+	 * Возвращает запрос с выбранными полями проекций.
+	 *
+	 * @param fields поля.
+	 * @return запрос.
+	 * @throws IllegalArgumentException если поля не указаны.
+	 */
+	@NotNull
+	public NameQuery select(@NotNull final Set<@NotNull NameField> fields)
+	{
+		return new NameQuery(this.conditions, this.orders, this.limit, this.offset, NameProjection.toFields(fields));
+	}
+
+	/**
+	 * Возвращает условия.
+	 *
+	 * @return неизменяемый список условий.
+	 */
+	@NotNull
+	public List<@NotNull Condition> getConditions()
+	{
+		return this.conditions;
+	}
+
+	/**
+	 * Возвращает порядок имён без завершающего порядка по названию.
+	 *
+	 * @return неизменяемый список порядков.
+	 */
+	@NotNull
+	public List<@NotNull Order> getOrders()
+	{
+		return this.orders;
+	}
+
+	/**
+	 * Возвращает наибольшее количество имён.
+	 *
+	 * @return наибольшее количество имён или {@link Integer#MAX_VALUE}, если оно не ограничено.
+	 */
+	public int getLimit()
+	{
+		return this.limit;
+	}
+
+	/**
+	 * Возвращает количество пропускаемых имён.
+	 *
+	 * @return количество пропускаемых имён.
+	 */
+	public int getOffset()
+	{
+		return this.offset;
+	}
+
+	/**
+	 * Возвращает выбранные поля проекций.
+	 *
+	 * @return неизменяемый набор полей, по умолчанию все поля.
+	 */
+	@NotNull
+	public Set<@NotNull NameField> getFields()
+	{
+		return this.fields;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public String toString()
+	{
+		return "NameQuery{" +
+			"conditions=" + this.conditions +
+			", orders=" + this.orders +
+			", limit=" + this.limit +
+			", offset=" + this.offset +
+			", fields=" + this.fields +
+			'}';
+	}
+
+	/**
+	 * Возвращает запрос с добавленным условием.
+	 *
+	 * @param condition условие.
+	 * @return запрос.
+	 */
+	@NotNull
+	private NameQuery where(@NotNull final Condition condition)
+	{
+		List<Condition> conditions = new ArrayList<>(this.conditions);
+		conditions.add(condition);
+
+		return new NameQuery(List.copyOf(conditions), this.orders, this.limit, this.offset, this.fields);
+	}
+
+	/**
+	 * Возвращает запрос с добавленным порядком.
+	 *
+	 * @param order порядок.
+	 * @return запрос.
+	 */
+	@NotNull
+	private NameQuery order(@NotNull final Order order)
+	{
+		List<Order> orders = new ArrayList<>(this.orders);
+		orders.add(order);
+
+		return new NameQuery(this.conditions, List.copyOf(orders), this.limit, this.offset, this.fields);
+	}
+
+	/**
+	 * Класс условия запроса по одному полю.
+	 */
+	public static final class Condition
+	{
+		/**
+		 * Поле.
+		 */
+		@NotNull
+		private final NameField field;
+
+		/**
+		 * Допустимые значения строкового поля или {@code null} для числового поля.
+		 */
+		@Nullable
+		private final Set<@NotNull String> values;
+
+		/**
+		 * Минимальное значение числового поля.
+		 */
+		private final int min;
+
+		/**
+		 * Максимальное значение числового поля.
+		 */
+		private final int max;
+
+		/**
+		 * Конструктор для {@code Condition}.
+		 *
+		 * @param field поле.
+		 * @param values допустимые значения строкового поля или {@code null} для числового поля.
+		 * @param min минимальное значение числового поля.
+		 * @param max максимальное значение числового поля.
+		 */
+		private Condition(@NotNull final NameField field,
+						  @Nullable final Set<@NotNull String> values,
+						  final int min,
+						  final int max)
+		{
+			this.field = field;
+			this.values = values;
+			this.min = min;
+			this.max = max;
+		}
+
+		/**
+		 * Возвращает поле.
+		 *
+		 * @return поле.
+		 */
+		@NotNull
+		public NameField getField()
+		{
+			return this.field;
+		}
+
+		/**
+		 * Возвращает допустимые значения строкового поля.
+		 *
+		 * @return неизменяемый набор значений или пустой набор для числового поля.
+		 */
+		@NotNull
+		public Set<@NotNull String> getValues()
+		{
+			return this.values == null ? Set.of() : this.values;
+		}
+
+		/**
+		 * Возвращает минимальное значение числового поля.
+		 *
+		 * @return минимальное значение.
+		 */
+		public int getMin()
+		{
+			return this.min;
+		}
+
+		/**
+		 * Возвращает максимальное значение числового поля.
+		 *
+		 * @return максимальное значение.
+		 */
+		public int getMax()
+		{
+			return this.max;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @return {@inheritDoc}
+		 */
+		@NotNull
+		@Override
+		public String toString()
+		{
+			if (this.values == null) {
+				return this.field + " BETWEEN " + this.min + " AND " + this.max;
+			}
+
+			return this.field + " IN " + this.values;
+		}
+	}
+
+	/**
+	 * Класс порядка имён по одному полю.
+	 */
+	public static final class Order
+	{
+		/**
+		 * Поле.
+		 */
+		@NotNull
+		private final NameField field;
+
+		/**
+		 * Признак порядка по убыванию.
+		 */
+		private final boolean descending;
+
+		/**
+		 * Конструктор для {@code Order}.
+		 *
+		 * @param field поле.
+		 * @param descending признак порядка по убыванию.
+		 */
+		private Order(@NotNull final NameField field, final boolean descending)
+		{
+			this.field = field;
+			this.descending = descending;
+		}
+
+		/**
+		 * Возвращает поле.
+		 *
+		 * @return поле.
+		 */
+		@NotNull
+		public NameField getField()
+		{
+			return this.field;
+		}
+
+		/**
+		 * Проверяет, упорядочены ли имена по убыванию поля.
+		 *
+		 * @return {@code true}, если по убыванию, иначе {@code false}.
+		 */
+		public boolean isDescending()
+		{
+			return this.descending;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @return {@inheritDoc}
+		 */
+		@NotNull
+		@Override
+		public String toString()
+		{
+			return this.field + (this.descending ? " DESC" : " ASC");
+		}
+	}
+}
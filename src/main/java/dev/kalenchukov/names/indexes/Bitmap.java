@@ -0,0 +1,679 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.indexes;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Класс неизменяемого сжатого множества неотрицательных чисел.
+ * <p>
+ * Числа делятся на блоки по старшим 16 битам. Блок с небольшим количеством чисел
+ * хранит младшие 16 бит в упорядоченном массиве, а плотный блок хранит битовую карту
+ * из 65536 бит. Пересечение и объединение выполняются поблочно.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class Bitmap
+{
+	/**
+	 * Наибольшее количество чисел в блоке, хранящем массив.
+	 */
+	private static final int ARRAY_LIMIT = 4096;
+
+	/**
+	 * Количество слов в битовой карте блока.
+	 */
+	private static final int WORDS = 1024;
+
+	/**
+	 * Пустое множество.
+	 */
+	@NotNull
+	public static final Bitmap EMPTY = new Bitmap(new char[0], new char[0][], new long[0][], new int[0], 0);
+
+	/**
+	 * Старшие 16 бит чисел блоков в порядке возрастания.
+	 */
+	@NotNull
+	private final char[] keys;
+
+	/**
+	 * Младшие 16 бит чисел блоков в порядке возрастания или {@code null} для блоков с битовой картой.
+	 */
+	@NotNull
+	private final char[][] arrays;
+
+	/**
+	 * Битовые карты блоков или {@code null} для блоков с массивом.
+	 */
+	@NotNull
+	private final long[][] words;
+
+	/**
+	 * Количество чисел в блоках.
+	 */
+	@NotNull
+	private final int[] cardinalities;
+
+	/**
+	 * Количество чисел.
+	 */
+	private final int cardinality;
+
+	/**
+	 * Конструктор для {@code Bitmap}.
+	 *
+	 * @param keys старшие 16 бит чисел блоков.
+	 * @param arrays массивы блоков.
+	 * @param words битовые карты блоков.
+	 * @param cardinalities количество чисел в блоках.
+	 * @param cardinality количество чисел.
+	 */
+	private Bitmap(@NotNull final char[] keys,
+				   @NotNull final char[][] arrays,
+				   @NotNull final long[][] words,
+				   @NotNull final int[] cardinalities,
+				   final int cardinality)
+	{
+		this.keys = keys;
+		this.arrays = arrays;
+		this.words = words;
+		this.cardinalities = cardinalities;
+		this.cardinality = cardinality;
+	}
+
+	/**
+	 * Создаёт множество из чисел в порядке возрастания.
+	 *
+	 * @param values числа в порядке возрастания без повторов.
+	 * @param from начальная позиция.
+	 * @param to конечная позиция, не включая её.
+	 * @return множество.
+	 */
+	@NotNull
+	public static Bitmap of(@NotNull final int[] values, final int from, final int to)
+	{
+		Builder builder = new Builder();
+		int start = from;
+
+		while (start < to)
+		{
+			int key = values[start] >>> 16;
+			int end = start;
+
+			while (end < to && values[end] >>> 16 == key)
+			{
+				end++;
+			}
+
+			char[] array = new char[end - start];
+
+			for (int position = start; position < end; position++)
+			{
+				array[position - start] = (char) values[position];
+			}
+
+			builder.add((char) key, array, array.length);
+			start = end;
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * Возвращает количество чисел.
+	 *
+	 * @return количество чисел.
+	 */
+	public int cardinality()
+	{
+		return this.cardinality;
+	}
+
+	/**
+	 * Проверяет, пустое ли множество.
+	 *
+	 * @return {@code true}, если множество пустое.
+	 */
+	public boolean isEmpty()
+	{
+		return this.cardinality == 0;
+	}
+
+	/**
+	 * Проверяет, есть ли число в множестве.
+	 *
+	 * @param value число.
+	 * @return {@code true}, если число есть в множестве, иначе {@code false}.
+	 */
+	public boolean contains(final int value)
+	{
+		int container = Arrays.binarySearch(this.keys, (char) (value >>> 16));
+
+		if (container < 0 || value < 0) {
+			return false;
+		}
+
+		char low = (char) value;
+		char[] array = this.arrays[container];
+
+		if (array != null) {
+			return Arrays.binarySearch(array, low) >= 0;
+		}
+
+		return (this.words[container][low >>> 6] & (1L << low)) != 0;
+	}
+
+	/**
+	 * Возвращает пересечение с другим множеством.
+	 *
+	 * @param other другое множество.
+	 * @return пересечение.
+	 */
+	@NotNull
+	public Bitmap and(@NotNull final Bitmap other)
+	{
+		Builder builder = new Builder();
+		int first = 0;
+		int second = 0;
+
+		while (first < this.keys.length && second < other.keys.length)
+		{
+			if (this.keys[first] < other.keys[second]) {
+				first++;
+			}
+			else if (this.keys[first] > other.keys[second]) {
+				second++;
+			}
+			else
+			{
+				this.and(first, other, second, builder);
+				first++;
+				second++;
+			}
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * Возвращает объединение с другим множеством.
+	 *
+	 * @param other другое множество.
+	 * @return объединение.
+	 */
+	@NotNull
+	public Bitmap or(@NotNull final Bitmap other)
+	{
+		if (this.isEmpty()) {
+			return other;
+		}
+
+		if (other.isEmpty()) {
+			return this;
+		}
+
+		Builder builder = new Builder();
+		int first = 0;
+		int second = 0;
+
+		while (first < this.keys.length || second < other.keys.length)
+		{
+			if (second == other.keys.length || (first < this.keys.length && this.keys[first] < other.keys[second]))
+			{
+				this.copy(first, builder);
+				first++;
+			}
+			else if (first == this.keys.length || this.keys[first] > other.keys[second])
+			{
+				other.copy(second, builder);
+				second++;
+			}
+			else
+			{
+				this.or(first, other, second, builder);
+				first++;
+				second++;
+			}
+		}
+
+		return builder.build();
+	}
+
+	/**
+	 * Возвращает числа не меньше указанного в порядке возрастания.
+	 *
+	 * @param from наименьшее число.
+	 * @param limit наибольшее количество чисел.
+	 * @return числа в порядке возрастания.
+	 */
+	@NotNull
+	public int[] select(final int from, final int limit)
+	{
+		int[] found = new int[Math.min(limit, this.cardinality)];
+		int count = 0;
+
+		for (int container = 0; container < this.keys.length && count < found.length; container++)
+		{
+			int high = this.keys[container] << 16;
+
+			if (high + 0xFFFF < from) {
+				continue;
+			}
+
+			int low = Math.max(from - high, 0);
+			char[] array = this.arrays[container];
+
+			if (array != null)
+			{
+				int position = low == 0 ? 0 : toInsertion(Arrays.binarySearch(array, (char) low));
+
+				while (position < array.length && count < found.length)
+				{
+					found[count++] = high | array[position++];
+				}
+			}
+			else
+			{
+				long[] bits = this.words[container];
+
+				for (int word = low >>> 6; word < WORDS && count < found.length; word++)
+				{
+					long remaining = word == low >>> 6 ? bits[word] & (-1L << low) : bits[word];
+
+					while (remaining != 0 && count < found.length)
+					{
+						found[count++] = high | (word << 6) | Long.numberOfTrailingZeros(remaining);
+						remaining &= remaining - 1;
+					}
+				}
+			}
+		}
+
+		return count == found.length ? found : Arrays.copyOf(found, count);
+	}
+
+	/**
+	 * Возвращает все числа в порядке возрастания.
+	 *
+	 * @return числа в порядке возрастания.
+	 */
+	@NotNull
+	public int[] toArray()
+	{
+		return this.select(0, this.cardinality);
+	}
+
+	/**
+	 * Добавляет пересечение блоков двух множеств с одинаковыми старшими битами.
+	 *
+	 * @param first блок этого множества.
+	 * @param other другое множество.
+	 * @param second блок другого множества.
+	 * @param builder построитель результата.
+	 */
+	private void and(final int first, @NotNull final Bitmap other, final int second, @NotNull final Builder builder)
+	{
+		char key = this.keys[first];
+		long[] firstWords = this.words[first];
+		long[] secondWords = other.words[second];
+
+		if (firstWords != null && secondWords != null)
+		{
+			long[] bits = new long[WORDS];
+			int count = 0;
+
+			for (int word = 0; word < WORDS; word++)
+			{
+				bits[word] = firstWords[word] & secondWords[word];
+				count += Long.bitCount(bits[word]);
+			}
+
+			builder.add(key, bits, count);
+
+			return;
+		}
+
+		if (firstWords != null) {
+			other.and(second, this, first, builder);
+
+			return;
+		}
+
+		char[] array = this.arrays[first];
+		char[] found = new char[array.length];
+		int count = 0;
+
+		if (secondWords != null)
+		{
+			for (char low : array)
+			{
+				if ((secondWords[low >>> 6] & (1L << low)) != 0) {
+					found[count++] = low;
+				}
+			}
+		}
+		else
+		{
+			char[] otherArray = other.arrays[second];
+			int position = 0;
+			int otherPosition = 0;
+
+			while (position < array.length && otherPosition < otherArray.length)
+			{
+				if (array[position] < otherArray[otherPosition]) {
+					position++;
+				}
+				else if (array[position] > otherArray[otherPosition]) {
+					otherPosition++;
+				}
+				else
+				{
+					found[count++] = array[position];
+					position++;
+					otherPosition++;
+				}
+			}
+		}
+
+		builder.add(key, found, count);
+	}
+
+	/**
+	 * Добавляет объединение блоков двух множеств с одинаковыми старшими битами.
+	 *
+	 * @param first блок этого множества.
+	 * @param other другое множество.
+	 * @param second блок другого множества.
+	 * @param builder построитель результата.
+	 */
+	private void or(final int first, @NotNull final Bitmap other, final int second, @NotNull final Builder builder)
+	{
+		char key = this.keys[first];
+		char[] array = this.arrays[first];
+		char[] otherArray = other.arrays[second];
+
+		if (array != null && otherArray != null)
+		{
+			char[] found = new char[array.length + otherArray.length];
+			int count = 0;
+			int position = 0;
+			int otherPosition = 0;
+
+			while (position < array.length || otherPosition < otherArray.length)
+			{
+				if (otherPosition == otherArray.length
+					|| (position < array.length && array[position] < otherArray[otherPosition])) {
+					found[count++] = array[position++];
+				}
+				else if (position == array.length || array[position] > otherArray[otherPosition]) {
+					found[count++] = otherArray[otherPosition++];
+				}
+				else
+				{
+					found[count++] = array[position++];
+					otherPosition++;
+				}
+			}
+
+			builder.add(key, found, count);
+
+			return;
+		}
+
+		long[] bits = this.toWords(first);
+		int count = 0;
+
+		if (otherArray != null)
+		{
+			for (char low : otherArray)
+			{
+				bits[low >>> 6] |= 1L << low;
+			}
+		}
+		else
+		{
+			long[] otherWords = other.words[second];
+
+			for (int word = 0; word < WORDS; word++)
+			{
+				bits[word] |= otherWords[word];
+			}
+		}
+
+		for (long word : bits)
+		{
+			count += Long.bitCount(word);
+		}
+
+		builder.add(key, bits, count);
+	}
+
+	/**
+	 * Добавляет блок этого множества без изменений.
+	 *
+	 * @param container блок.
+	 * @param builder построитель результата.
+	 */
+	private void copy(final int container, @NotNull final Builder builder)
+	{
+		builder.put(this.keys[container], this.arrays[container], this.words[container], this.cardinalities[container]);
+	}
+
+	/**
+	 * Возвращает копию блока в виде битовой карты.
+	 *
+	 * @param container блок.
+	 * @return битовая карта.
+	 */
+	@NotNull
+	private long[] toWords(final int container)
+	{
+		char[] array = this.arrays[container];
+
+		if (array == null) {
+			return this.words[container].clone();
+		}
+
+		long[] bits = new long[WORDS];
+
+		for (char low : array)
+		{
+			bits[low >>> 6] |= 1L << low;
+		}
+
+		return bits;
+	}
+
+	/**
+	 * Возвращает позицию вставки по результату двоичного поиска.
+	 *
+	 * @param found результат двоичного поиска.
+	 * @return позиция первого элемента не меньше искомого.
+	 */
+	private static int toInsertion(final int found)
+	{
+		return found < 0 ? -found - 1 : found;
+	}
+
+	/**
+	 * Класс построителя множества из блоков в порядке возрастания старших битов.
+	 * <p>
+	 * Пустые блоки пропускаются, а каждый блок хранится в более компактном виде.
+	 */
+	private static final class Builder
+	{
+		/**
+		 * Старшие 16 бит чисел блоков.
+		 */
+		@NotNull
+		private char[] keys = new char[4];
+
+		/**
+		 * Массивы блоков.
+		 */
+		@NotNull
+		private char[][] arrays = new char[4][];
+
+		/**
+		 * Битовые карты блоков.
+		 */
+		@NotNull
+		private long[][] words = new long[4][];
+
+		/**
+		 * Количество чисел в блоках.
+		 */
+		@NotNull
+		private int[] cardinalities = new int[4];
+
+		/**
+		 * Количество блоков.
+		 */
+		private int size;
+
+		/**
+		 * Количество чисел.
+		 */
+		private int cardinality;
+
+		/**
+		 * Добавляет блок с массивом.
+		 *
+		 * @param key старшие 16 бит чисел блока.
+		 * @param array младшие 16 бит чисел в порядке возрастания.
+		 * @param count количество чисел в начале массива.
+		 */
+		private void add(final char key, @NotNull final char[] array, final int count)
+		{
+			if (count == 0) {
+				return;
+			}
+
+			if (count <= ARRAY_LIMIT) {
+				this.put(key, count == array.length ? array : Arrays.copyOf(array, count), null, count);
+
+				return;
+			}
+
+			long[] bits = new long[WORDS];
+
+			for (int position = 0; position < count; position++)
+			{
+				bits[array[position] >>> 6] |= 1L << array[position];
+			}
+
+			this.put(key, null, bits, count);
+		}
+
+		/**
+		 * Добавляет блок с битовой картой.
+		 *
+		 * @param key старшие 16 бит чисел блока.
+		 * @param bits битовая карта.
+		 * @param count количество чисел.
+		 */
+		private void add(final char key, @NotNull final long[] bits, final int count)
+		{
+			if (count == 0) {
+				return;
+			}
+
+			if (count > ARRAY_LIMIT) {
+				this.put(key, null, bits, count);
+
+				return;
+			}
+
+			char[] array = new char[count];
+			int position = 0;
+
+			for (int word = 0; word < WORDS; word++)
+			{
+				long remaining = bits[word];
+
+				while (remaining != 0)
+				{
+					array[position++] = (char) ((word << 6) | Long.numberOfTrailingZeros(remaining));
+					remaining &= remaining - 1;
+				}
+			}
+
+			this.put(key, array, null, count);
+		}
+
+		/**
+		 * Добавляет блок в готовом виде.
+		 *
+		 * @param key старшие 16 бит чисел блока.
+		 * @param array массив или {@code null}.
+		 * @param bits битовая карта или {@code null}.
+		 * @param count количество чисел.
+		 */
+		private void put(final char key, @Nullable final char[] array, @Nullable final long[] bits, final int count)
+		{
+			if (this.size == this.keys.length)
+			{
+				int capacity = this.size * 2;
+
+				this.keys = Arrays.copyOf(this.keys, capacity);
+				this.arrays = Arrays.copyOf(this.arrays, capacity);
+				this.words = Arrays.copyOf(this.words, capacity);
+				this.cardinalities = Arrays.copyOf(this.cardinalities, capacity);
+			}
+
+			this.keys[this.size] = key;
+			this.arrays[this.size] = array;
+			this.words[this.size] = bits;
+			this.cardinalities[this.size] = count;
+			this.size++;
+			this.cardinality += count;
+		}
+
+		/**
+		 * Создаёт множество из добавленных блоков.
+		 *
+		 * @return множество.
+		 */
+		@NotNull
+		private Bitmap build()
+		{
+			if (this.size == 0) {
+				return EMPTY;
+			}
+
+			return new Bitmap(
+				Arrays.copyOf(this.keys, this.size),
+				Arrays.copyOf(this.arrays, this.size),
+				Arrays.copyOf(this.words, this.size),
+				Arrays.copyOf(this.cardinalities, this.size),
+				this.cardinality
+			);
+		}
+	}
+}
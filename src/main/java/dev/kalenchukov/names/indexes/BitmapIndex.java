@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.indexes;
+
+import dev.kalenchukov.names.modules.Collation;
+import dev.kalenchukov.names.modules.Dictionary;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Класс индекса значений характеристики без учёта регистра на сжатых битовых картах.
+ * <p>
+ * Для каждого значения, приведённого к нижнему регистру и найденного в словаре
+ * {@link Dictionary} набора записей, хранится множество {@link Bitmap} позиций записей в заданном порядке.
+ * Условия по нескольким характеристикам объединяются пересечением и объединением множеств
+ * без обращения к записям.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class BitmapIndex
+{
+	/**
+	 * Словарь значений.
+	 */
+	@NotNull
+	private final Dictionary dictionary;
+
+	/**
+	 * Множества позиций записей по номерам значений.
+	 */
+	@NotNull
+	private final Bitmap[] bitmaps;
+
+	/**
+	 * Конструктор для {@code BitmapIndex}.
+	 *
+	 * @param dictionary словарь значений набора записей.
+	 * @param column значения характеристики в порядке номеров записей.
+	 * @param order номера записей в порядке позиций.
+	 */
+	public BitmapIndex(@NotNull final Dictionary dictionary, @NotNull final String[] column, @NotNull final int[] order)
+	{
+		this.dictionary = dictionary;
+
+		int[] ids = new int[column.length];
+
+		for (int row = 0; row < column.length; row++)
+		{
+			ids[row] = dictionary.getId(Collation.fold(column[row]));
+		}
+
+		int[] counts = new int[dictionary.size() + 1];
+
+		for (int id : ids)
+		{
+			counts[id + 1]++;
+		}
+
+		for (int id = 1; id < counts.length; id++)
+		{
+			counts[id] += counts[id - 1];
+		}
+
+		int[] offsets = counts.clone();
+		int[] positions = new int[order.length];
+
+		for (int position = 0; position < order.length; position++)
+		{
+			positions[counts[ids[order[position]]]++] = position;
+		}
+
+		this.bitmaps = new Bitmap[offsets.length - 1];
+
+		for (int id = 0; id < this.bitmaps.length; id++)
+		{
+			this.bitmaps[id] = Bitmap.of(positions, offsets[id], offsets[id + 1]);
+		}
+	}
+
+	/**
+	 * Возвращает множество позиций записей со значением.
+	 *
+	 * @param value значение.
+	 * @return множество позиций записей.
+	 */
+	@NotNull
+	public Bitmap get(@NotNull final String value)
+	{
+		int id = this.dictionary.findId(Collation.fold(value));
+
+		if (id == Dictionary.ABSENT || id >= this.bitmaps.length) {
+			return Bitmap.EMPTY;
+		}
+
+		return this.bitmaps[id];
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.indexes;
+
+import dev.kalenchukov.names.modules.Collation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Класс фильтра Блума для строк без учёта регистра.
+ * <p>
+ * Отрицательный ответ фильтра точен, положительный верен с заданной вероятностью.
+ * Позиции битов вычисляются двойным хешированием из одного 64-битного хеш-кода строки.
+ * Добавление строк допускается одновременно с проверками.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class BloomFilter
+{
+	/**
+	 * Биты фильтра.
+	 */
+	@NotNull
+	private final AtomicLongArray bits;
+
+	/**
+	 * Количество битов фильтра.
+	 */
+	private final long size;
+
+	/**
+	 * Количество хеш-функций.
+	 */
+	private final int hashes;
+
+	/**
+	 * Конструктор для {@code BloomFilter}.
+	 *
+	 * @param expected ожидаемое количество строк.
+	 * @param fpp допустимая вероятность ложноположительного ответа.
+	 * @throws IllegalArgumentException если вероятность не находится в интервале от 0 до 1.
+	 */
+	public BloomFilter(final int expected, final double fpp)
+	{
+		if (!(fpp > 0 && fpp < 1)) {
+			throw new IllegalArgumentException("Вероятность ложноположительного ответа должна быть больше 0 и меньше 1.");
+		}
+
+		int count = Math.max(expected, 1);
+		long size = (long) Math.ceil(-count * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+		int words = (int) Math.min((size + 63) / 64, Integer.MAX_VALUE);
+
+		this.bits = new AtomicLongArray(words);
+		this.size = (long) words * 64;
+		this.hashes = Math.max(1, (int) Math.round((double) this.size / count * Math.log(2)));
+	}
+
+	/**
+	 * Добавляет строку.
+	 *
+	 * @param value строка.
+	 */
+	public void add(@NotNull final String value)
+	{
+		long hash = Collation.hash64(value);
+		int first = (int) hash;
+		int second = (int) (hash >>> 32);
+
+		for (int index = 0; index < this.hashes; index++)
+		{
+			long bit = this.toBit(first + index * second);
+			long mask = 1L << bit;
+			int word = (int) (bit >>> 6);
+
+			long current;
+
+			while (((current = this.bits.get(word)) & mask) == 0)
+			{
+				if (this.bits.compareAndSet(word, current, current | mask)) {
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Проверяет, может ли строка присутствовать в фильтре.
+	 *
+	 * @param value строка.
+	 * @return {@code false}, если строки точно нет, иначе {@code true}.
+	 */
+	public boolean mightContain(@NotNull final String value)
+	{
+		long hash = Collation.hash64(value);
+		int first = (int) hash;
+		int second = (int) (hash >>> 32);
+
+		for (int index = 0; index < this.hashes; index++)
+		{
+			long bit = this.toBit(first + index * second);
+
+			if ((this.bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Возвращает номер бита для значения хеш-функции.
+	 *
+	 * @param hash значение хеш-функции.
+	 * @return номер бита.
+	 */
+	private long toBit(final int hash)
+	{
+		return (hash & 0xFFFFFFFFL) % this.size;
+	}
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.indexes;
+
+import dev.kalenchukov.names.modules.Collation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Класс индекса нечёткого поиска названий без учёта регистра.
+ * <p>
+ * Названия в нижнем регистре хранятся в порядке возрастания и образуют неявное префиксное дерево:
+ * соседние названия с общим началом используют общие строки таблицы расстояния Левенштейна.
+ * Если все значения строки таблицы больше допустимого расстояния, то никакое продолжение
+ * этого начала не подойдёт, и все названия с ним пропускаются двоичным поиском.
+ * Поэтому просматриваются только начала названий, близкие к запросу, а не все названия.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class FuzzyIndex
+{
+	/**
+	 * Названия в нижнем регистре в порядке возрастания.
+	 */
+	@NotNull
+	private final String[] keys;
+
+	/**
+	 * Номера записей в порядке возрастания названий.
+	 */
+	@NotNull
+	private final int[] rows;
+
+	/**
+	 * Длина самого длинного названия.
+	 */
+	private final int maxLength;
+
+	/**
+	 * Конструктор для {@code FuzzyIndex}.
+	 *
+	 * @param column названия в порядке номеров записей.
+	 */
+	public FuzzyIndex(@NotNull final String[] column)
+	{
+		String[] folded = Arrays.stream(column).map(Collation::fold).toArray(String[]::new);
+		Integer[] rows = new Integer[column.length];
+		Arrays.setAll(rows, row -> row);
+		Arrays.sort(rows, Comparator.comparing(row -> folded[row], Collation::compare));
+
+		this.keys = new String[column.length];
+		this.rows = new int[column.length];
+
+		int maxLength = 0;
+
+		for (int index = 0; index < rows.length; index++)
+		{
+			this.keys[index] = folded[rows[index]];
+			this.rows[index] = rows[index];
+			maxLength = Math.max(maxLength, this.keys[index].length());
+		}
+
+		this.maxLength = maxLength;
+	}
+
+	/**
+	 * Возвращает записи, названия которых отличаются от запроса не более чем на указанное расстояние.
+	 * <p>
+	 * Каждый элемент содержит расстояние в старших 32 битах и номер записи в младших.
+	 * Записи упорядочены по названию.
+	 *
+	 * @param query запрос.
+	 * @param maxEdits наибольшее расстояние.
+	 * @return расстояния и номера записей.
+	 */
+	@NotNull
+	public long[] search(@NotNull final String query, final int maxEdits)
+	{
+		String key = Collation.fold(query);
+
+		int[][] table = new int[this.maxLength + 1][key.length() + 1];
+		Arrays.setAll(table[0], column -> column);
+
+		long[] found = new long[16];
+		int count = 0;
+		String previous = "";
+		int computed = 0;
+		int position = 0;
+
+		while (position < this.keys.length)
+		{
+			String current = this.keys[position];
+			int depth = Math.min(computed, FuzzyIndex.commonPrefix(previous, current));
+			boolean pruned = false;
+
+			for (depth++; depth <= current.length(); depth++)
+			{
+				if (FuzzyIndex.fill(table[depth - 1], table[depth], current.charAt(depth - 1), key) > maxEdits)
+				{
+					pruned = true;
+					break;
+				}
+			}
+
+			previous = current;
+			computed = depth - 1;
+
+			if (pruned) {
+				position = this.skip(current, depth, position);
+				continue;
+			}
+
+			int distance = table[current.length()][key.length()];
+
+			if (distance <= maxEdits)
+			{
+				if (count == found.length) {
+					found = Arrays.copyOf(found, count * 2);
+				}
+
+				found[count++] = ((long) distance << 32) | this.rows[position];
+			}
+
+			position++;
+		}
+
+		return Arrays.copyOf(found, count);
+	}
+
+	/**
+	 * Возвращает позицию первого названия, которое не начинается с начала указанного названия.
+	 * <p>
+	 * Названия с одинаковым началом обычно немногочисленны, поэтому граница сначала
+	 * ищется удвоением шага, а затем уточняется двоичным поиском.
+	 *
+	 * @param key название.
+	 * @param length длина начала названия.
+	 * @param start позиция названия.
+	 * @return позиция.
+	 */
+	private int skip(@NotNull final String key, final int length, final int start)
+	{
+		int low = start;
+		int high = start + 1;
+
+		while (high < this.keys.length && this.keys[high].regionMatches(0, key, 0, length))
+		{
+			low = high;
+			high = start + (high - start) * 2;
+		}
+
+		high = Math.min(high, this.keys.length);
+		low++;
+
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+
+			if (this.keys[middle].regionMatches(0, key, 0, length)) {
+				low = middle + 1;
+			}
+			else {
+				high = middle;
+			}
+		}
+
+		return low;
+	}
+
+	/**
+	 * Заполняет строку таблицы расстояния Левенштейна для следующего символа названия.
+	 *
+	 * @param previous строка таблицы для предыдущего символа.
+	 * @param current заполняемая строка таблицы.
+	 * @param symbol символ названия.
+	 * @param query запрос в нижнем регистре.
+	 * @return наименьшее значение в строке.
+	 */
+	private static int fill(@NotNull final int[] previous,
+							@NotNull final int[] current,
+							final char symbol,
+							@NotNull final String query)
+	{
+		current[0] = previous[0] + 1;
+		int min = current[0];
+
+		for (int column = 1; column < current.length; column++)
+		{
+			int cost = symbol == query.charAt(column - 1) ? 0 : 1;
+			current[column] = Math.min(Math.min(current[column - 1], previous[column]) + 1, previous[column - 1] + cost);
+			min = Math.min(min, current[column]);
+		}
+
+		return min;
+	}
+
+	/**
+	 * Возвращает длину общего начала строк.
+	 *
+	 * @param first первая строка.
+	 * @param second вторая строка.
+	 * @return длина общего начала.
+	 */
+	private static int commonPrefix(@NotNull final String first, @NotNull final String second)
+	{
+		int length = Math.min(first.length(), second.length());
+		int index = 0;
+
+		while (index < length && first.charAt(index) == second.charAt(index))
+		{
+			index++;
+		}
+
+		return index;
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.indexes;
+
+import dev.kalenchukov.names.modules.Collation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Класс хеш-индекса строк без учёта регистра.
+ * <p>
+ * Хеш-таблица с открытой адресацией и линейным пробированием хранит номера записей.
+ * Поиск не создаёт объектов: хеш-код и сравнение вычисляются по исходной строке.
+ * При совпадении ключей сохраняется первая запись, как при {@code LIMIT 1}.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class HashIndex
+{
+	/**
+	 * Признак пустой ячейки.
+	 */
+	private static final int EMPTY = -1;
+
+	/**
+	 * Ключи записей.
+	 */
+	@NotNull
+	private final String[] keys;
+
+	/**
+	 * Номера записей в ячейках.
+	 */
+	@NotNull
+	private final int[] rows;
+
+	/**
+	 * Хеш-коды ключей в ячейках.
+	 */
+	@NotNull
+	private final int[] hashes;
+
+	/**
+	 * Маска номера ячейки.
+	 */
+	private final int mask;
+
+	/**
+	 * Конструктор для {@code HashIndex}.
+	 *
+	 * @param keys ключи записей в порядке номеров записей.
+	 */
+	public HashIndex(@NotNull final String[] keys)
+	{
+		int capacity = Integer.highestOneBit(Math.max(keys.length, 1) * 2 - 1) << 1;
+
+		this.keys = keys;
+		this.rows = new int[capacity];
+		this.hashes = new int[capacity];
+		this.mask = capacity - 1;
+
+		Arrays.fill(this.rows, EMPTY);
+
+		for (int row = 0; row < keys.length; row++)
+		{
+			int hash = Collation.hash(keys[row]);
+			int slot = this.find(keys[row], hash);
+
+			if (this.rows[slot] == EMPTY)
+			{
+				this.rows[slot] = row;
+				this.hashes[slot] = hash;
+			}
+		}
+	}
+
+	/**
+	 * Возвращает номер записи по ключу.
+	 *
+	 * @param key ключ.
+	 * @return номер записи или {@code -1}, если ключ не найден.
+	 */
+	public int get(@NotNull final String key)
+	{
+		return this.rows[this.find(key, Collation.hash(key))];
+	}
+
+	/**
+	 * Возвращает ячейку ключа или пустую ячейку, в которую ключ может быть записан.
+	 *
+	 * @param key ключ.
+	 * @param hash хеш-код ключа.
+	 * @return номер ячейки.
+	 */
+	private int find(@NotNull final String key, final int hash)
+	{
+		int slot = hash & this.mask;
+
+		while (this.rows[slot] != EMPTY)
+		{
+			if (this.hashes[slot] == hash && Collation.equals(this.keys[this.rows[slot]], key)) {
+				break;
+			}
+
+			slot = (slot + 1) & this.mask;
+		}
+
+		return slot;
+	}
+}
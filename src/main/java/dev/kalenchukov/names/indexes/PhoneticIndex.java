@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.indexes;
+
+import dev.kalenchukov.names.modules.Phonetics;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Класс индекса записей по фонетическому коду названия.
+ * <p>
+ * Код каждого названия вычисляется один раз при построении индекса.
+ * Номера записей сгруппированы по кодам, группы упорядочены по кодам
+ * и находятся двоичным поиском.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class PhoneticIndex
+{
+	/**
+	 * Различные коды в порядке возрастания.
+	 */
+	@NotNull
+	private final String[] codes;
+
+	/**
+	 * Начальные позиции групп по порядку кодов.
+	 */
+	@NotNull
+	private final int[] offsets;
+
+	/**
+	 * Номера записей, сгруппированные по кодам.
+	 */
+	@NotNull
+	private final int[] rows;
+
+	/**
+	 * Конструктор для {@code PhoneticIndex}.
+	 *
+	 * @param column названия в порядке номеров записей.
+	 * @param order номера записей в порядке следования внутри группы.
+	 */
+	public PhoneticIndex(@NotNull final String[] column, @NotNull final int[] order)
+	{
+		String[] codes = Arrays.stream(column).map(Phonetics::encode).toArray(String[]::new);
+		Integer[] rows = Arrays.stream(order).boxed().toArray(Integer[]::new);
+		Arrays.sort(rows, Comparator.comparing(row -> codes[row]));
+
+		this.rows = new int[rows.length];
+		int[] offsets = new int[rows.length + 1];
+		String[] keys = new String[rows.length];
+		int groups = 0;
+
+		for (int position = 0; position < rows.length; position++)
+		{
+			this.rows[position] = rows[position];
+			String code = codes[rows[position]];
+
+			if (groups == 0 || !keys[groups - 1].equals(code))
+			{
+				keys[groups] = code;
+				offsets[groups] = position;
+				groups++;
+			}
+		}
+
+		offsets[groups] = rows.length;
+
+		this.codes = Arrays.copyOf(keys, groups);
+		this.offsets = Arrays.copyOf(offsets, groups + 1);
+	}
+
+	/**
+	 * Возвращает номера записей, название которых звучит так же, как указанное.
+	 *
+	 * @param value название.
+	 * @return номера записей в порядке следования внутри группы.
+	 */
+	@NotNull
+	public int[] get(@NotNull final String value)
+	{
+		String code = Phonetics.encode(value);
+
+		if (code.isEmpty()) {
+			return new int[0];
+		}
+
+		int group = Arrays.binarySearch(this.codes, code);
+
+		if (group < 0) {
+			return new int[0];
+		}
+
+		return Arrays.copyOfRange(this.rows, this.offsets[group], this.offsets[group + 1]);
+	}
+}
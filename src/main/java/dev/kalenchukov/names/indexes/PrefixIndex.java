@@ -0,0 +1,243 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.indexes;
+
+import dev.kalenchukov.names.modules.Collation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Класс индекса начала названий без учёта регистра.
+ * <p>
+ * Хранит названия, приведённые к нижнему регистру, в порядке возрастания, поэтому названия
+ * с общим началом занимают непрерывный отрезок. Над отрезками построено дерево отрезков
+ * с позицией записи с наименьшим местом, что позволяет выбрать лучшие записи отрезка,
+ * не просматривая все записи с этим началом.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class PrefixIndex
+{
+	/**
+	 * Названия в нижнем регистре в порядке возрастания.
+	 */
+	@NotNull
+	private final String[] keys;
+
+	/**
+	 * Номера записей в порядке возрастания названий.
+	 */
+	@NotNull
+	private final int[] rows;
+
+	/**
+	 * Веса записей в порядке возрастания названий: место в старших 32 битах
+	 * и позиция записи в исходном порядке в младших.
+	 */
+	@NotNull
+	private final long[] weights;
+
+	/**
+	 * Дерево отрезков с позициями записей с наименьшим весом.
+	 */
+	@NotNull
+	private final int[] tree;
+
+	/**
+	 * Конструктор для {@code PrefixIndex}.
+	 *
+	 * @param column названия в порядке номеров записей.
+	 * @param ranks места в порядке номеров записей.
+	 * @param order номера записей в порядке, который сохраняется при равенстве мест и названий.
+	 */
+	public PrefixIndex(@NotNull final String[] column, @NotNull final int[] ranks, @NotNull final int[] order)
+	{
+		String[] folded = Arrays.stream(column).map(Collation::fold).toArray(String[]::new);
+		Integer[] positions = new Integer[order.length];
+		Arrays.setAll(positions, position -> position);
+		Arrays.sort(positions, Comparator.comparing(position -> folded[order[position]], Collation::compare));
+
+		int size = order.length;
+		this.keys = new String[size];
+		this.rows = new int[size];
+		this.weights = new long[size];
+		this.tree = new int[2 * size];
+
+		for (int index = 0; index < size; index++)
+		{
+			int row = order[positions[index]];
+			this.keys[index] = folded[row];
+			this.rows[index] = row;
+			this.weights[index] = ((long) ranks[row] << 32) | positions[index];
+			this.tree[size + index] = index;
+		}
+
+		for (int node = size - 1; node > 0; node--)
+		{
+			this.tree[node] = this.lighter(this.tree[2 * node], this.tree[2 * node + 1]);
+		}
+	}
+
+	/**
+	 * Возвращает номера записей с наименьшими местами среди названий с указанным началом.
+	 * <p>
+	 * Записи упорядочены по возрастанию места, а при равенстве в исходном порядке.
+	 * Стоимость выборки зависит от количества возвращаемых записей, а не от количества
+	 * названий с этим началом.
+	 *
+	 * @param prefix начало названия.
+	 * @param limit наибольшее количество записей.
+	 * @return номера записей.
+	 */
+	@NotNull
+	public int[] top(@NotNull final String prefix, final int limit)
+	{
+		String key = Collation.fold(prefix);
+		int start = this.start(key);
+		int end = this.end(key, start);
+		int[] found = new int[Math.min(limit, end - start)];
+
+		if (found.length == 0) {
+			return found;
+		}
+
+		PriorityQueue<int[]> ranges = new PriorityQueue<>(Comparator.comparingLong(range -> this.weights[range[0]]));
+		ranges.add(new int[] {this.lightest(start, end), start, end});
+
+		for (int index = 0; index < found.length; index++)
+		{
+			int[] range = ranges.poll();
+			int position = range[0];
+			found[index] = this.rows[position];
+
+			if (range[1] < position) {
+				ranges.add(new int[] {this.lightest(range[1], position), range[1], position});
+			}
+
+			if (position + 1 < range[2]) {
+				ranges.add(new int[] {this.lightest(position + 1, range[2]), position + 1, range[2]});
+			}
+		}
+
+		return found;
+	}
+
+	/**
+	 * Возвращает позицию первого названия, которое не меньше начала.
+	 *
+	 * @param key начало названия в нижнем регистре.
+	 * @return позиция.
+	 */
+	private int start(@NotNull final String key)
+	{
+		int low = 0;
+		int high = this.keys.length;
+
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+
+			if (Collation.compare(this.keys[middle], key) < 0) {
+				low = middle + 1;
+			}
+			else {
+				high = middle;
+			}
+		}
+
+		return low;
+	}
+
+	/**
+	 * Возвращает позицию, следующую за последним названием с указанным началом.
+	 *
+	 * @param key начало названия в нижнем регистре.
+	 * @param start позиция первого названия, которое не меньше начала.
+	 * @return позиция.
+	 */
+	private int end(@NotNull final String key, final int start)
+	{
+		int low = start;
+		int high = this.keys.length;
+
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+
+			if (this.keys[middle].startsWith(key)) {
+				low = middle + 1;
+			}
+			else {
+				high = middle;
+			}
+		}
+
+		return low;
+	}
+
+	/**
+	 * Возвращает позицию записи с наименьшим весом на отрезке.
+	 *
+	 * @param start начальная позиция.
+	 * @param end конечная позиция, не включая её.
+	 * @return позиция.
+	 */
+	private int lightest(final int start, final int end)
+	{
+		int lightest = -1;
+
+		for (int low = start + this.keys.length, high = end + this.keys.length; low < high; low >>>= 1, high >>>= 1)
+		{
+			if ((low & 1) == 1) {
+				lightest = this.lighter(lightest, this.tree[low++]);
+			}
+
+			if ((high & 1) == 1) {
+				lightest = this.lighter(lightest, this.tree[--high]);
+			}
+		}
+
+		return lightest;
+	}
+
+	/**
+	 * Возвращает позицию записи с меньшим весом.
+	 *
+	 * @param first первая позиция или {@code -1}.
+	 * @param second вторая позиция.
+	 * @return позиция.
+	 */
+	private int lighter(final int first, final int second)
+	{
+		if (first < 0 || this.weights[second] < this.weights[first]) {
+			return second;
+		}
+
+		return first;
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.indexes;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Класс индекса интервалов по целочисленной характеристике.
+ * <p>
+ * Хранит значения характеристики в порядке возрастания и соответствующие им номера записей.
+ * При равенстве значений записи следуют в указанном при создании порядке.
+ * Выборка интервала сводится к двум двоичным поискам и непрерывному отрезку номеров записей.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class RangeIndex
+{
+	/**
+	 * Значения в порядке возрастания.
+	 */
+	@NotNull
+	private final int[] values;
+
+	/**
+	 * Номера записей в порядке возрастания значений.
+	 */
+	@NotNull
+	private final int[] rows;
+
+	/**
+	 * Конструктор для {@code RangeIndex}.
+	 *
+	 * @param column значения характеристики в порядке номеров записей.
+	 * @param order номера записей в порядке, который сохраняется при равенстве значений.
+	 */
+	public RangeIndex(@NotNull final int[] column, @NotNull final int[] order)
+	{
+		long[] entries = new long[order.length];
+
+		for (int rank = 0; rank < order.length; rank++)
+		{
+			entries[rank] = ((long) column[order[rank]] << 32) | rank;
+		}
+
+		Arrays.sort(entries);
+
+		this.values = new int[order.length];
+		this.rows = new int[order.length];
+
+		for (int position = 0; position < entries.length; position++)
+		{
+			this.values[position] = (int) (entries[position] >> 32);
+			this.rows[position] = order[(int) entries[position]];
+		}
+	}
+
+	/**
+	 * Возвращает количество записей.
+	 *
+	 * @return количество записей.
+	 */
+	public int size()
+	{
+		return this.rows.length;
+	}
+
+	/**
+	 * Возвращает позицию первого значения, которое не меньше указанного.
+	 *
+	 * @param min минимальное значение.
+	 * @return позиция.
+	 */
+	public int start(final int min)
+	{
+		int low = 0;
+		int high = this.values.length;
+
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+
+			if (this.values[middle] < min) {
+				low = middle + 1;
+			}
+			else {
+				high = middle;
+			}
+		}
+
+		return low;
+	}
+
+	/**
+	 * Возвращает позицию, следующую за последним значением, которое не больше указанного.
+	 *
+	 * @param max максимальное значение.
+	 * @return позиция.
+	 */
+	public int end(final int max)
+	{
+		int low = 0;
+		int high = this.values.length;
+
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+
+			if (this.values[middle] <= max) {
+				low = middle + 1;
+			}
+			else {
+				high = middle;
+			}
+		}
+
+		return low;
+	}
+
+	/**
+	 * Возвращает значение в позиции.
+	 *
+	 * @param position позиция.
+	 * @return значение.
+	 */
+	public int getValue(final int position)
+	{
+		return this.values[position];
+	}
+
+	/**
+	 * Возвращает номер записи в позиции.
+	 *
+	 * @param position позиция.
+	 * @return номер записи.
+	 */
+	public int getRow(final int position)
+	{
+		return this.rows[position];
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Класс гистограммы длительностей.
+ * <p>
+ * Значения до 16 наносекунд учитываются точно, остальные попадают в корзины,
+ * каждая степень двойки делится на 8 корзин, поэтому погрешность процентилей не превышает 12,5 %.
+ * Запись выполняется без блокировок.
+ *
+ * @author Алексей Каленчуков
+ */
+final class LatencyHistogram
+{
+	/**
+	 * Количество точно учитываемых значений.
+	 */
+	private static final int EXACT = 16;
+
+	/**
+	 * Количество корзин на степень двойки в виде показателя степени.
+	 */
+	private static final int SUB_BITS = 3;
+
+	/**
+	 * Количество корзин.
+	 */
+	private static final int SIZE = EXACT + (63 - 4) * (1 << SUB_BITS);
+
+	/**
+	 * Количество значений в корзинах.
+	 */
+	@NotNull
+	private final AtomicLongArray counts = new AtomicLongArray(SIZE);
+
+	/**
+	 * Учитывает значение.
+	 *
+	 * @param nanos длительность в наносекундах.
+	 */
+	void record(final long nanos)
+	{
+		this.counts.incrementAndGet(LatencyHistogram.toIndex(Math.max(nanos, 0)));
+	}
+
+	/**
+	 * Возвращает копию количества значений в корзинах.
+	 *
+	 * @return количество значений в корзинах.
+	 */
+	long @NotNull [] getCounts()
+	{
+		long[] counts = new long[SIZE];
+
+		for (int index = 0; index < SIZE; index++)
+		{
+			counts[index] = this.counts.get(index);
+		}
+
+		return counts;
+	}
+
+	/**
+	 * Сбрасывает количество значений.
+	 */
+	void reset()
+	{
+		for (int index = 0; index < SIZE; index++)
+		{
+			this.counts.set(index, 0);
+		}
+	}
+
+	/**
+	 * Возвращает значение процентиля.
+	 *
+	 * @param counts количество значений в корзинах.
+	 * @param percentile процентиль от 0 до 100.
+	 * @return верхняя граница корзины, в которую попадает процентиль, или 0, если значений нет.
+	 */
+	static long getPercentile(final long @NotNull [] counts, final double percentile)
+	{
+		long total = 0;
+
+		for (long count : counts)
+		{
+			total += count;
+		}
+
+		if (total == 0) {
+			return 0;
+		}
+
+		long rank = Math.max(1, (long) Math.ceil(total * Math.min(Math.max(percentile, 0), 100) / 100));
+		long seen = 0;
+
+		for (int index = 0; index < counts.length; index++)
+		{
+			seen += counts[index];
+
+			if (seen >= rank) {
+				return LatencyHistogram.toUpperBound(index);
+			}
+		}
+
+		return LatencyHistogram.toUpperBound(counts.length - 1);
+	}
+
+	/**
+	 * Возвращает номер корзины для значения.
+	 *
+	 * @param value неотрицательное значение.
+	 * @return номер корзины.
+	 */
+	private static int toIndex(final long value)
+	{
+		if (value < EXACT) {
+			return (int) value;
+		}
+
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int sub = (int) (value >>> (exponent - SUB_BITS)) & ((1 << SUB_BITS) - 1);
+
+		return EXACT + (exponent - 4) * (1 << SUB_BITS) + sub;
+	}
+
+	/**
+	 * Возвращает наибольшее значение, попадающее в корзину.
+	 *
+	 * @param index номер корзины.
+	 * @return верхняя граница корзины.
+	 */
+	private static long toUpperBound(final int index)
+	{
+		if (index < EXACT) {
+			return index;
+		}
+
+		int exponent = (index - EXACT) / (1 << SUB_BITS) + 4;
+		int sub = (index - EXACT) % (1 << SUB_BITS);
+		long lower = ((long) ((1 << SUB_BITS) + sub)) << (exponent - SUB_BITS);
+
+		return lower + (1L << (exponent - SUB_BITS)) - 1;
+	}
+}
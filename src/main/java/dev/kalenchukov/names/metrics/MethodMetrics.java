@@ -0,0 +1,204 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Класс снимка показателей метода репозитория имён.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class MethodMetrics
+{
+	/**
+	 * Метод репозитория.
+	 */
+	@NotNull
+	private final String method;
+
+	/**
+	 * Количество вызовов.
+	 */
+	private final long calls;
+
+	/**
+	 * Количество вызовов, завершившихся исключением.
+	 */
+	private final long errors;
+
+	/**
+	 * Количество возвращённых имён или названий.
+	 */
+	private final long rows;
+
+	/**
+	 * Суммарная длительность в наносекундах.
+	 */
+	private final long totalNanos;
+
+	/**
+	 * Наибольшая длительность в наносекундах.
+	 */
+	private final long maxNanos;
+
+	/**
+	 * Количество значений в корзинах гистограммы длительностей.
+	 */
+	private final long @NotNull [] histogram;
+
+	/**
+	 * Конструктор для {@code MethodMetrics}.
+	 *
+	 * @param method метод репозитория.
+	 * @param calls количество вызовов.
+	 * @param errors количество вызовов, завершившихся исключением.
+	 * @param rows количество возвращённых имён или названий.
+	 * @param totalNanos суммарная длительность в наносекундах.
+	 * @param maxNanos наибольшая длительность в наносекундах.
+	 * @param histogram количество значений в корзинах гистограммы длительностей.
+	 */
+	MethodMetrics(@NotNull final String method,
+				  final long calls,
+				  final long errors,
+				  final long rows,
+				  final long totalNanos,
+				  final long maxNanos,
+				  final long @NotNull [] histogram)
+	{
+		this.method = method;
+		this.calls = calls;
+		this.errors = errors;
+		this.rows = rows;
+		this.totalNanos = totalNanos;
+		this.maxNanos = maxNanos;
+		this.histogram = histogram;
+	}
+
+	/**
+	 * Возвращает метод репозитория.
+	 *
+	 * @return метод репозитория.
+	 */
+	@NotNull
+	public String getMethod()
+	{
+		return this.method;
+	}
+
+	/**
+	 * Возвращает количество вызовов.
+	 *
+	 * @return количество вызовов.
+	 */
+	public long getCalls()
+	{
+		return this.calls;
+	}
+
+	/**
+	 * Возвращает количество вызовов, завершившихся исключением.
+	 *
+	 * @return количество ошибок.
+	 */
+	public long getErrors()
+	{
+		return this.errors;
+	}
+
+	/**
+	 * Возвращает количество возвращённых имён или названий.
+	 *
+	 * @return количество строк.
+	 */
+	public long getRows()
+	{
+		return this.rows;
+	}
+
+	/**
+	 * Возвращает среднюю длительность вызова.
+	 *
+	 * @return средняя длительность.
+	 */
+	@NotNull
+	public Duration getMean()
+	{
+		if (this.calls == 0) {
+			return Duration.ZERO;
+		}
+
+		return Duration.ofNanos(this.totalNanos / this.calls);
+	}
+
+	/**
+	 * Возвращает наибольшую длительность вызова.
+	 *
+	 * @return наибольшая длительность.
+	 */
+	@NotNull
+	public Duration getMax()
+	{
+		return Duration.ofNanos(this.maxNanos);
+	}
+
+	/**
+	 * Возвращает длительность, которую не превышает указанная доля вызовов.
+	 *
+	 * @param percentile процентиль от 0 до 100, например {@code 99.9}.
+	 * @return длительность.
+	 */
+	@NotNull
+	public Duration getPercentile(final double percentile)
+	{
+		long nanos = LatencyHistogram.getPercentile(this.histogram, percentile);
+
+		return Duration.ofNanos(Math.min(nanos, this.maxNanos));
+	}
+
+	/**
+	 * Возвращает значение объекта в виде строки.
+	 *
+	 * @return строку.
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		return "MethodMetrics{" +
+			"method='" + this.method + '\'' + ", " +
+			"calls=" + this.calls + ", " +
+			"errors=" + this.errors + ", " +
+			"rows=" + this.rows + ", " +
+			"mean=" + this.getMean() + ", " +
+			"p50=" + this.getPercentile(50) + ", " +
+			"p90=" + this.getPercentile(90) + ", " +
+			"p99=" + this.getPercentile(99) + ", " +
+			"max=" + this.getMax() +
+			'}';
+	}
+}
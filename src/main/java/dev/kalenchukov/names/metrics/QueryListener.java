@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Интерфейс слушателя запросов к хранилищу имён.
+ * <p>
+ * Вызывается после каждого метода репозитория имён.
+ * Реализации находятся через {@link java.util.ServiceLoader} и должны быть потокобезопасными,
+ * так как вызываются одновременно из всех потоков, выполняющих запросы.
+ * Если ни одного слушателя нет и встроенный {@link QueryMetrics} не включён,
+ * запросы выполняются без измерений.
+ *
+ * @author Алексей Каленчуков
+ */
+public interface QueryListener
+{
+	/**
+	 * Обрабатывает выполненный запрос.
+	 * <p>
+	 * Для потоков и издателей запрос считается выполненным при закрытии потока
+	 * или завершении подписки.
+	 *
+	 * @param method метод репозитория, например {@code getByName(name)}.
+	 * @param nanos длительность выполнения в наносекундах.
+	 * @param rows количество возвращённых имён или названий.
+	 * @param error исключение или {@code null}, если запрос выполнен успешно.
+	 */
+	void onQuery(@NotNull String method, long nanos, int rows, @Nullable Throwable error);
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Класс показателей запросов к хранилищу имён в памяти.
+ * <p>
+ * Для каждого метода репозитория учитывает количество вызовов, ошибок и возвращённых строк,
+ * а также гистограмму длительностей, по которой вычисляются процентили.
+ * Показатели можно в любой момент получить снимком через {@link #getMethods()}.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class QueryMetrics implements QueryListener
+{
+	/**
+	 * Показатели методов.
+	 */
+	@NotNull
+	private final ConcurrentMap<@NotNull String, @NotNull Recorder> recorders = new ConcurrentHashMap<>();
+
+	/**
+	 * Конструктор для {@code QueryMetrics}.
+	 */
+	public QueryMetrics() {}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param method {@inheritDoc}
+	 * @param nanos {@inheritDoc}
+	 * @param rows {@inheritDoc}
+	 * @param error {@inheritDoc}
+	 */
+	@Override
+	public void onQuery(@NotNull final String method, final long nanos, final int rows, @Nullable final Throwable error)
+	{
+		Recorder recorder = this.recorders.get(method);
+
+		if (recorder == null) {
+			recorder = this.recorders.computeIfAbsent(method, key -> new Recorder());
+		}
+
+		recorder.record(nanos, rows, error != null);
+	}
+
+	/**
+	 * Возвращает снимок показателей всех вызванных методов.
+	 *
+	 * @return показатели методов, упорядоченные по названию метода.
+	 */
+	@NotNull
+	public Map<@NotNull String, @NotNull MethodMetrics> getMethods()
+	{
+		Map<String, MethodMetrics> methods = new TreeMap<>();
+
+		for (Map.Entry<String, Recorder> entry : this.recorders.entrySet())
+		{
+			methods.put(entry.getKey(), entry.getValue().snapshot(entry.getKey()));
+		}
+
+		return methods;
+	}
+
+	/**
+	 * Возвращает снимок показателей метода.
+	 *
+	 * @param method метод репозитория, например {@code getByName(name)}.
+	 * @return показатели метода или {@code null}, если метод не вызывался.
+	 */
+	@Nullable
+	public MethodMetrics getMethod(@NotNull final String method)
+	{
+		Recorder recorder = this.recorders.get(method);
+
+		if (recorder == null) {
+			return null;
+		}
+
+		return recorder.snapshot(method);
+	}
+
+	/**
+	 * Сбрасывает показатели всех методов.
+	 */
+	public void reset()
+	{
+		for (Recorder recorder : this.recorders.values())
+		{
+			recorder.reset();
+		}
+	}
+
+	/**
+	 * Класс записи показателей метода.
+	 */
+	private static final class Recorder
+	{
+		/**
+		 * Количество вызовов.
+		 */
+		@NotNull
+		private final LongAdder calls = new LongAdder();
+
+		/**
+		 * Количество ошибок.
+		 */
+		@NotNull
+		private final LongAdder errors = new LongAdder();
+
+		/**
+		 * Количество возвращённых строк.
+		 */
+		@NotNull
+		private final LongAdder rows = new LongAdder();
+
+		/**
+		 * Суммарная длительность в наносекундах.
+		 */
+		@NotNull
+		private final LongAdder totalNanos = new LongAdder();
+
+		/**
+		 * Наибольшая длительность в наносекундах.
+		 */
+		@NotNull
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+		/**
+		 * Гистограмма длительностей.
+		 */
+		@NotNull
+		private final LatencyHistogram histogram = new LatencyHistogram();
+
+		/**
+		 * Учитывает вызов.
+		 *
+		 * @param nanos длительность в наносекундах.
+		 * @param rows количество возвращённых строк.
+		 * @param failed {@code true}, если вызов завершился исключением.
+		 */
+		private void record(final long nanos, final int rows, final boolean failed)
+		{
+			this.calls.increment();
+			this.rows.add(rows);
+			this.totalNanos.add(nanos);
+			this.maxNanos.accumulate(nanos);
+			this.histogram.record(nanos);
+
+			if (failed) {
+				this.errors.increment();
+			}
+		}
+
+		/**
+		 * Возвращает снимок показателей.
+		 *
+		 * @param method метод репозитория.
+		 * @return показатели метода.
+		 */
+		@NotNull
+		private MethodMetrics snapshot(@NotNull final String method)
+		{
+			return new MethodMetrics(
+				method,
+				this.calls.sum(),
+				this.errors.sum(),
+				this.rows.sum(),
+				this.totalNanos.sum(),
+				this.maxNanos.get(),
+				this.histogram.getCounts()
+			);
+		}
+
+		/**
+		 * Сбрасывает показатели.
+		 */
+		private void reset()
+		{
+			this.calls.reset();
+			this.errors.reset();
+			this.rows.reset();
+			this.totalNanos.reset();
+			this.maxNanos.reset();
+			this.histogram.reset();
+		}
+	}
+}
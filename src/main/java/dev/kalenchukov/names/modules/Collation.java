@@ -0,0 +1,303 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.modules;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Класс сравнения строк без учёта регистра.
+ * <p>
+ * Строки без учёта регистра сравниваются по ключам {@link #fold(String)}, которые хранятся
+ * и в столбцах ключей базы данных, поэтому поиск в памяти и в базе данных совпадает для любой письменности.
+ * Порядок строк повторяет {@code COLLATE BINARY} базы данных.
+ */
+public final class Collation
+{
+	/**
+	 * Конструктор для {@code Collation}.
+	 */
+	private Collation() {}
+
+	/**
+	 * Возвращает ключ строки для сравнения без учёта регистра.
+	 * <p>
+	 * Строка приводится к нормальной форме NFC и к единому регистру с полным преобразованием,
+	 * при котором один символ может заменяться несколькими, например «ß» на «ss».
+	 * Преобразование повторяется, пока ключ не перестанет меняться, поэтому ключ ключа совпадает с ним,
+	 * а «ẞ», которая в нижнем регистре становится «ß», тоже приводится к «ss».
+	 * Строки только из символов ASCII приводятся к нижнему регистру без нормализации.
+	 *
+	 * @param value строка.
+	 * @return ключ строки.
+	 */
+	@NotNull
+	public static String fold(@NotNull final String value)
+	{
+		if (!Collation.isAscii(value))
+		{
+			String key = Normalizer.normalize(value, Normalizer.Form.NFC);
+
+			while (true)
+			{
+				String folded = key.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+				folded = Normalizer.normalize(folded, Normalizer.Form.NFC);
+
+				if (folded.equals(key)) {
+					return key;
+				}
+
+				key = folded;
+			}
+		}
+
+		for (int index = 0; index < value.length(); index++)
+		{
+			char symbol = value.charAt(index);
+
+			if (symbol >= 'A' && symbol <= 'Z')
+			{
+				char[] symbols = value.toCharArray();
+
+				for (int position = index; position < symbols.length; position++)
+				{
+					symbols[position] = Collation.fold(symbols[position]);
+				}
+
+				return new String(symbols);
+			}
+		}
+
+		return value;
+	}
+
+	/**
+	 * Возвращает хеш-код строки без учёта регистра.
+	 * <p>
+	 * Для строк только из символов ASCII хеш-код вычисляется без создания ключа строки.
+	 * Хеш-код совпадает для строк, равных по {@link #equals(String, String)}.
+	 *
+	 * @param value строка.
+	 * @return хеш-код.
+	 */
+	public static int hash(@NotNull final String value)
+	{
+		String key = Collation.isAscii(value) ? value : Collation.fold(value);
+		int hash = 0x811C9DC5;
+
+		for (int index = 0; index < key.length(); index++)
+		{
+			hash ^= Collation.fold(key.charAt(index));
+			hash *= 0x01000193;
+		}
+
+		hash ^= hash >>> 16;
+		hash *= 0x85EBCA6B;
+		hash ^= hash >>> 13;
+
+		return hash;
+	}
+
+	/**
+	 * Возвращает 64-битный хеш-код строки без учёта регистра.
+	 * <p>
+	 * Для строк только из символов ASCII хеш-код вычисляется без создания ключа строки.
+	 * Хеш-код совпадает для строк, равных по {@link #equals(String, String)}.
+	 *
+	 * @param value строка.
+	 * @return хеш-код.
+	 */
+	public static long hash64(@NotNull final String value)
+	{
+		String key = Collation.isAscii(value) ? value : Collation.fold(value);
+		long hash = 0xCBF29CE484222325L;
+
+		for (int index = 0; index < key.length(); index++)
+		{
+			hash ^= Collation.fold(key.charAt(index));
+			hash *= 0x100000001B3L;
+		}
+
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		hash ^= hash >>> 33;
+
+		return hash;
+	}
+
+	/**
+	 * Проверяет равенство строк без учёта регистра.
+	 *
+	 * @param first первая строка.
+	 * @param second вторая строка.
+	 * @return {@code true}, если строки равны, иначе {@code false}.
+	 */
+	public static boolean equals(@NotNull final String first, @NotNull final String second)
+	{
+		if (!Collation.isAscii(first) || !Collation.isAscii(second)) {
+			return Collation.fold(first).equals(Collation.fold(second));
+		}
+
+		if (first.length() != second.length()) {
+			return false;
+		}
+
+		for (int index = 0; index < first.length(); index++)
+		{
+			if (Collation.fold(first.charAt(index)) != Collation.fold(second.charAt(index))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Сравнивает строки так же, как {@code COLLATE BINARY}.
+	 * <p>
+	 * База данных сравнивает байты UTF-8, что соответствует порядку кодовых точек,
+	 * а не порядку символов UTF-16 в {@link String#compareTo(String)}.
+	 *
+	 * @param first первая строка.
+	 * @param second вторая строка.
+	 * @return отрицательное число, ноль или положительное число,
+	 * если первая строка меньше, равна или больше второй.
+	 */
+	public static int compare(@NotNull final String first, @NotNull final String second)
+	{
+		int length = Math.min(first.length(), second.length());
+
+		for (int index = 0; index < length; index++)
+		{
+			char firstSymbol = first.charAt(index);
+			char secondSymbol = second.charAt(index);
+
+			if (firstSymbol != secondSymbol)
+			{
+				if (Character.isSurrogate(firstSymbol) != Character.isSurrogate(secondSymbol)) {
+					return Character.isSurrogate(firstSymbol) ? 1 : -1;
+				}
+
+				return firstSymbol - secondSymbol;
+			}
+		}
+
+		return first.length() - second.length();
+	}
+
+	/**
+	 * Возвращает расстояние Левенштейна между строками без учёта регистра.
+	 * <p>
+	 * Расстояние равно наименьшему количеству вставок, удалений и замен символов,
+	 * превращающих ключ одной строки в ключ другой.
+	 *
+	 * @param first первая строка.
+	 * @param second вторая строка.
+	 * @return расстояние между строками.
+	 */
+	public static int distance(@NotNull final String first, @NotNull final String second)
+	{
+		return Collation.levenshtein(Collation.fold(first), Collation.fold(second));
+	}
+
+	/**
+	 * Возвращает расстояние Левенштейна между строками с учётом регистра.
+	 *
+	 * @param first первая строка.
+	 * @param second вторая строка.
+	 * @return расстояние между строками.
+	 */
+	private static int levenshtein(@NotNull final String first, @NotNull final String second)
+	{
+		int[] previous = new int[second.length() + 1];
+		int[] current = new int[second.length() + 1];
+
+		for (int column = 0; column <= second.length(); column++)
+		{
+			previous[column] = column;
+		}
+
+		for (int row = 1; row <= first.length(); row++)
+		{
+			char symbol = first.charAt(row - 1);
+			current[0] = row;
+
+			for (int column = 1; column <= second.length(); column++)
+			{
+				int cost = symbol == second.charAt(column - 1) ? 0 : 1;
+
+				current[column] = Math.min(
+					Math.min(current[column - 1], previous[column]) + 1,
+					previous[column - 1] + cost
+				);
+			}
+
+			int[] swap = previous;
+			previous = current;
+			current = swap;
+		}
+
+		return previous[second.length()];
+	}
+
+	/**
+	 * Возвращает символ ASCII, приведённый к нижнему регистру.
+	 * <p>
+	 * Остальные символы возвращаются без изменений.
+	 *
+	 * @param symbol символ.
+	 * @return символ в нижнем регистре.
+	 */
+	public static char fold(final char symbol)
+	{
+		if (symbol >= 'A' && symbol <= 'Z') {
+			return (char) (symbol + ('a' - 'A'));
+		}
+
+		return symbol;
+	}
+
+	/**
+	 * Проверяет, что строка состоит только из символов ASCII.
+	 *
+	 * @param value строка.
+	 * @return {@code true}, если строка состоит только из символов ASCII, иначе {@code false}.
+	 */
+	private static boolean isAscii(@NotNull final String value)
+	{
+		for (int index = 0; index < value.length(); index++)
+		{
+			if (value.charAt(index) >= 0x80) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.modules;
+
+import dev.kalenchukov.names.exceptions.DatabaseException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Класс пула соединений с базой данных.
+ * <p>
+ * Соединения открываются по мере необходимости, но не более указанного количества.
+ * Если все соединения заняты, получение соединения ожидает его возвращения в пул
+ * не дольше заданного времени, чтобы вложенные запросы при малом пуле завершались ошибкой, а не зависали.
+ * Каждое соединение хранит свои подготовленные запросы, которые переиспользуются между обращениями.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class ConnectionPool implements AutoCloseable
+{
+	/**
+	 * Адрес базы данных.
+	 */
+	@NotNull
+	private final String url;
+
+	/**
+	 * Параметры соединений.
+	 */
+	@NotNull
+	private final Properties properties;
+
+	/**
+	 * Размер пула.
+	 */
+	private final int size;
+
+	/**
+	 * Наибольшее время ожидания соединения в миллисекундах.
+	 */
+	private final long timeout;
+
+	/**
+	 * Разрешения на получение соединений.
+	 */
+	@NotNull
+	private final Semaphore permits;
+
+	/**
+	 * Свободные соединения.
+	 */
+	@NotNull
+	private final Queue<@NotNull StatementCache> idle;
+
+	/**
+	 * Количество попаданий в кеш подготовленных запросов.
+	 */
+	@NotNull
+	private final LongAdder statementCacheHits;
+
+	/**
+	 * Количество промахов кеша подготовленных запросов.
+	 */
+	@NotNull
+	private final LongAdder statementCacheMisses;
+
+	/**
+	 * Конструктор для {@code ConnectionPool}.
+	 *
+	 * @param url адрес базы данных.
+	 * @param properties параметры соединений.
+	 * @param size размер пула.
+	 * @throws IllegalArgumentException если размер пула меньше одного.
+	 */
+	public ConnectionPool(@NotNull final String url, @NotNull final Properties properties, final int size)
+	{
+		this(url, properties, size, Settings.getPoolTimeout());
+	}
+
+	/**
+	 * Конструктор для {@code ConnectionPool}.
+	 *
+	 * @param url адрес базы данных.
+	 * @param properties параметры соединений.
+	 * @param size размер пула.
+	 * @param timeout наибольшее время ожидания соединения в миллисекундах.
+	 * @throws IllegalArgumentException если размер пула меньше одного или время ожидания отрицательное.
+	 */
+	public ConnectionPool(@NotNull final String url,
+						  @NotNull final Properties properties,
+						  final int size,
+						  final long timeout)
+	{
+		if (size < 1) {
+			throw new IllegalArgumentException("Размер пула соединений должен быть больше нуля.");
+		}
+
+		if (timeout < 0) {
+			throw new IllegalArgumentException("Время ожидания соединения не может быть отрицательным.");
+		}
+
+		this.url = url;
+		this.properties = properties;
+		this.size = size;
+		this.timeout = timeout;
+		this.permits = new Semaphore(size, true);
+		this.idle = new ConcurrentLinkedQueue<>();
+		this.statementCacheHits = new LongAdder();
+		this.statementCacheMisses = new LongAdder();
+	}
+
+	/**
+	 * Возвращает размер пула.
+	 *
+	 * @return размер пула.
+	 */
+	public int getSize()
+	{
+		return this.size;
+	}
+
+	/**
+	 * Возвращает количество попаданий в кеш подготовленных запросов.
+	 *
+	 * @return количество попаданий.
+	 */
+	public long getStatementCacheHits()
+	{
+		return this.statementCacheHits.sum();
+	}
+
+	/**
+	 * Возвращает количество промахов кеша подготовленных запросов.
+	 *
+	 * @return количество промахов.
+	 */
+	public long getStatementCacheMisses()
+	{
+		return this.statementCacheMisses.sum();
+	}
+
+	/**
+	 * Получает соединение из пула.
+	 * <p>
+	 * Соединение возвращается в пул при закрытии {@link PooledConnection}.
+	 *
+	 * @return соединение.
+	 * @throws DatabaseException если все соединения остаются занятыми дольше времени ожидания.
+	 */
+	@NotNull
+	public PooledConnection borrow()
+	{
+		try {
+			if (!this.permits.tryAcquire(this.timeout, TimeUnit.MILLISECONDS)) {
+				throw new DatabaseException(
+					"Не удалось дождаться соединения с базой данных.",
+					new TimeoutException("Все " + this.size + " соединений заняты дольше " + this.timeout + " мс.")
+				);
+			}
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new DatabaseException("Не удалось дождаться соединения с базой данных.", exception);
+		}
+
+		return this.open();
+	}
+
+	/**
+	 * Получает соединение из пула без ожидания.
+	 * <p>
+	 * Соединение возвращается в пул при закрытии {@link PooledConnection}.
+	 *
+	 * @return соединение или {@code null}, если все соединения заняты.
+	 */
+	@Nullable
+	public PooledConnection tryBorrow()
+	{
+		if (!this.permits.tryAcquire()) {
+			return null;
+		}
+
+		return this.open();
+	}
+
+	/**
+	 * Берёт свободное соединение или открывает новое по уже полученному разрешению.
+	 *
+	 * @return соединение.
+	 */
+	@NotNull
+	private PooledConnection open()
+	{
+		try {
+			StatementCache cache = this.idle.poll();
+
+			if (cache == null)
+			{
+				Connection connection = DriverManager.getConnection(this.url, this.properties);
+				cache = new StatementCache(connection, this.statementCacheHits, this.statementCacheMisses);
+			}
+
+			return new PooledConnection(this, cache);
+		} catch (SQLException exception) {
+			this.permits.release();
+			throw new DatabaseException("Не удалось подключиться к базе данных.", exception);
+		}
+	}
+
+	/**
+	 * Возвращает соединение в пул.
+	 *
+	 * @param cache соединение с кешем подготовленных запросов.
+	 */
+	void release(@NotNull final StatementCache cache)
+	{
+		try {
+			if (!cache.getConnection().isClosed()) {
+				this.idle.offer(cache);
+			}
+		} catch (SQLException exception) {
+			// Соединение в неизвестном состоянии не возвращается в пул и закрывается.
+			try {
+				cache.close();
+			} catch (SQLException ignored) {
+				// Ошибка закрытия не должна подменять возврат разрешения.
+			}
+		} finally {
+			this.permits.release();
+		}
+	}
+
+	/**
+	 * Закрывает свободные соединения.
+	 * <p>
+	 * Ошибка закрытия одного соединения не прерывает закрытие остальных.
+	 *
+	 * @throws DatabaseException если не удалось закрыть хотя бы одно соединение.
+	 * Ошибки закрытия остальных соединений добавляются к нему как подавленные.
+	 */
+	@Override
+	public void close()
+	{
+		DatabaseException failure = null;
+		StatementCache cache;
+
+		while ((cache = this.idle.poll()) != null)
+		{
+			try {
+				cache.close();
+			} catch (SQLException exception) {
+				if (failure == null) {
+					failure = new DatabaseException("Не удалось закрыть соединение с базой данных.", exception);
+				} else {
+					failure.addSuppressed(exception);
+				}
+			}
+		}
+
+		if (failure != null) {
+			throw failure;
+		}
+	}
+}
@@ -26,12 +26,20 @@ package dev.kalenchukov.names.modules;
 
 import dev.kalenchukov.names.exceptions.DatabaseException;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 import org.sqlite.JDBC;
+import org.sqlite.SQLiteConfig;
 
-import java.sql.Connection;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.Objects;
 
 /**
  * Класс базы данных.
@@ -44,29 +52,123 @@ public class Database
 	@NotNull
 	private static final String FILE = "names.db";
 
+	static {
+		try {
+			DriverManager.registerDriver(new JDBC());
+		} catch (SQLException exception) {
+			throw new DatabaseException("Не удалось подключиться к базе данных.", exception);
+		}
+	}
+
 	/**
-	 * Соединение.
+	 * Возвращает пул соединений только для чтения.
+	 * <p>
+	 * Размер пула задаётся системным свойством {@value Settings#POOL_SIZE}.
+	 *
+	 * @return пул соединений.
 	 */
-	@Nullable
-	private static Connection connection;
+	@NotNull
+	public static ConnectionPool getReadPool()
+	{
+		return ReadPoolHolder.POOL;
+	}
 
 	/**
-	 * Возвращает соединение.
+	 * Возвращает пул соединений для изменения данных.
+	 * <p>
+	 * База данных допускает только одну пишущую транзакцию, поэтому в пуле одно соединение.
 	 *
-	 * @return соединение.
+	 * @return пул соединений.
 	 */
 	@NotNull
-	public static Connection getConnection()
+	public static ConnectionPool getWritePool()
+	{
+		return WritePoolHolder.POOL;
+	}
+
+	/**
+	 * Класс отложенного определения адреса базы данных.
+	 * <p>
+	 * Если база данных лежит в каталоге, соединения открываются на сам файл.
+	 * Если база данных упакована в архив, она однократно извлекается во временный файл,
+	 * чтобы все соединения обоих пулов работали с одной и той же копией.
+	 */
+	private static final class UrlHolder
 	{
-		if (Database.connection == null) {
-			try {
-				DriverManager.registerDriver(new JDBC());
-				Database.connection = DriverManager.getConnection("jdbc:sqlite::resource:" + FILE);
-			} catch (SQLException exception) {
-				throw new DatabaseException("Не удалось подключиться к базе данных.", exception);
+		/**
+		 * Адрес базы данных.
+		 */
+		@NotNull
+		private static final String URL = "jdbc:sqlite:" + UrlHolder.resolve();
+
+		/**
+		 * Возвращает путь к файлу базы данных.
+		 *
+		 * @return путь к файлу базы данных.
+		 * @throws DatabaseException если база данных не найдена или её не удалось извлечь.
+		 */
+		@NotNull
+		private static Path resolve()
+		{
+			URL resource = Database.class.getResource("/" + FILE);
+
+			try
+			{
+				if (resource == null) {
+					throw new FileNotFoundException(FILE);
+				}
+
+				if (Objects.equals(resource.getProtocol(), "file")) {
+					return Path.of(resource.toURI());
+				}
+
+				Path file = Files.createTempFile("names", ".db");
+				file.toFile().deleteOnExit();
+
+				try (InputStream stream = resource.openStream())
+				{
+					Files.copy(stream, file, StandardCopyOption.REPLACE_EXISTING);
+				}
+
+				return file;
+			}
+			catch (IOException | URISyntaxException exception)
+			{
+				throw new DatabaseException("Не удалось извлечь базу данных.", exception);
 			}
 		}
+	}
+
+	/**
+	 * Класс отложенной инициализации пула соединений только для чтения.
+	 */
+	private static final class ReadPoolHolder
+	{
+		/**
+		 * Пул соединений.
+		 */
+		@NotNull
+		private static final ConnectionPool POOL;
 
-		return Database.connection;
+		static {
+			SQLiteConfig config = new SQLiteConfig();
+			config.setReadOnly(true);
+
+			POOL = new ConnectionPool(UrlHolder.URL, config.toProperties(), Settings.getPoolSize());
+		}
+	}
+
+	/**
+	 * Класс отложенной инициализации пула соединений для изменения данных.
+	 */
+	private static final class WritePoolHolder
+	{
+		/**
+		 * Пул соединений.
+		 */
+		@NotNull
+		private static final ConnectionPool POOL = new ConnectionPool(
+			UrlHolder.URL, new SQLiteConfig().toProperties(), 1
+		);
 	}
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.modules;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Класс словаря значений характеристик имён.
+ * <p>
+ * Происхождение, континент и страны имеют немного различных значений, поэтому каждое значение
+ * хранится в одном экземпляре и получает постоянный номер. Номера выдаются подряд с нуля
+ * и используются индексами вместо строк.
+ * Словарь принадлежит хранилищу или набору имён, для которого он создан, и освобождается вместе с ним.
+ * Значения не удаляются из словаря, поэтому в него заносятся только значения из хранилища,
+ * но не значения из запросов.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class Dictionary
+{
+	/**
+	 * Признак отсутствующего значения.
+	 */
+	public static final int ABSENT = -1;
+
+	/**
+	 * Номера значений.
+	 */
+	@NotNull
+	private final ConcurrentMap<@NotNull String, @NotNull Integer> ids;
+
+	/**
+	 * Значения по номерам.
+	 */
+	@NotNull
+	private volatile String @NotNull [] values;
+
+	/**
+	 * Количество значений.
+	 */
+	private volatile int size;
+
+	/**
+	 * Конструктор для {@code Dictionary}.
+	 */
+	public Dictionary()
+	{
+		this.ids = new ConcurrentHashMap<>();
+		this.values = new String[64];
+	}
+
+	/**
+	 * Возвращает единственный экземпляр значения.
+	 *
+	 * @param value значение.
+	 * @return экземпляр значения из словаря.
+	 */
+	@NotNull
+	public String intern(@NotNull final String value)
+	{
+		return this.getValue(this.getId(value));
+	}
+
+	/**
+	 * Возвращает номер значения, при необходимости занося значение в словарь.
+	 *
+	 * @param value значение.
+	 * @return номер значения.
+	 */
+	public int getId(@NotNull final String value)
+	{
+		Integer id = this.ids.get(value);
+
+		if (id != null) {
+			return id;
+		}
+
+		return this.register(value);
+	}
+
+	/**
+	 * Возвращает номер значения без занесения значения в словарь.
+	 *
+	 * @param value значение.
+	 * @return номер значения или {@link #ABSENT}, если значения нет в словаре.
+	 */
+	public int findId(@NotNull final String value)
+	{
+		Integer id = this.ids.get(value);
+
+		if (id == null) {
+			return ABSENT;
+		}
+
+		return id;
+	}
+
+	/**
+	 * Возвращает значение по номеру.
+	 *
+	 * @param id номер значения.
+	 * @return значение.
+	 * @throws IndexOutOfBoundsException если значения с таким номером нет.
+	 */
+	@NotNull
+	public String getValue(final int id)
+	{
+		return this.values[id];
+	}
+
+	/**
+	 * Возвращает количество значений в словаре.
+	 *
+	 * @return количество значений.
+	 */
+	public int size()
+	{
+		return this.size;
+	}
+
+	/**
+	 * Заносит значение в словарь.
+	 * <p>
+	 * Значение записывается в массив до публикации номера, поэтому поток,
+	 * получивший номер, всегда найдёт по нему значение.
+	 *
+	 * @param value значение.
+	 * @return номер значения.
+	 */
+	private synchronized int register(@NotNull final String value)
+	{
+		Integer id = this.ids.get(value);
+
+		if (id != null) {
+			return id;
+		}
+
+		String[] values = this.values;
+
+		if (this.size == values.length) {
+			values = Arrays.copyOf(values, values.length * 2);
+		}
+
+		values[this.size] = value;
+		this.values = values;
+		this.ids.put(value, this.size);
+
+		return this.size++;
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.modules;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.text.Normalizer;
+
+/**
+ * Класс фонетических кодов имён.
+ * <p>
+ * Код строится по правилам Soundex: первая буква имени и три цифры групп похоже звучащих согласных.
+ * Кириллица перед кодированием переводится в латиницу, а надстрочные знаки удаляются,
+ * поэтому одинаково звучащие имена на разных языках получают один код,
+ * например «Алексей», «Aleksey» и «Alexei».
+ *
+ * @author Алексей Каленчуков
+ */
+public final class Phonetics
+{
+	/**
+	 * Длина кода.
+	 */
+	private static final int LENGTH = 4;
+
+	/**
+	 * Группы букв латинского алфавита от {@code a} до {@code z}.
+	 * <p>
+	 * Гласные относятся к группе {@code 0} и разделяют одинаковые согласные,
+	 * буквы {@code h} и {@code w} пропускаются и не разделяют их.
+	 */
+	@NotNull
+	private static final String GROUPS = "0123012-02245501262301-202";
+
+	/**
+	 * Латинские соответствия букв кириллицы от {@code а} до {@code я}.
+	 */
+	@NotNull
+	private static final String[] CYRILLIC = {
+		"a", "b", "v", "g", "d", "e", "zh", "z", "i", "i", "k", "l", "m", "n", "o", "p",
+		"r", "s", "t", "u", "f", "kh", "ts", "ch", "sh", "shch", "", "y", "", "e", "yu", "ya"
+	};
+
+	/**
+	 * Конструктор для {@code Phonetics}.
+	 */
+	private Phonetics() {}
+
+	/**
+	 * Возвращает фонетический код имени.
+	 *
+	 * @param value имя.
+	 * @return код или пустая строка, если в имени нет букв.
+	 */
+	@NotNull
+	public static String encode(@NotNull final String value)
+	{
+		String letters = Phonetics.transliterate(value);
+
+		if (letters.isEmpty()) {
+			return "";
+		}
+
+		StringBuilder code = new StringBuilder(LENGTH);
+		code.append(Character.toUpperCase(letters.charAt(0)));
+		char last = GROUPS.charAt(letters.charAt(0) - 'a');
+
+		for (int index = 1; index < letters.length() && code.length() < LENGTH; index++)
+		{
+			char group = GROUPS.charAt(letters.charAt(index) - 'a');
+
+			if (group == '-') {
+				continue;
+			}
+
+			if (group != '0' && group != last) {
+				code.append(group);
+			}
+
+			last = group;
+		}
+
+		while (code.length() < LENGTH)
+		{
+			code.append('0');
+		}
+
+		return code.toString();
+	}
+
+	/**
+	 * Возвращает буквы имени латиницей в нижнем регистре.
+	 * <p>
+	 * Надстрочные знаки удаляются, «дж» передаётся как {@code j}, остальные символы пропускаются.
+	 *
+	 * @param value имя.
+	 * @return буквы имени.
+	 */
+	@NotNull
+	private static String transliterate(@NotNull final String value)
+	{
+		String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+		StringBuilder letters = new StringBuilder(decomposed.length());
+
+		for (int index = 0; index < decomposed.length(); index++)
+		{
+			char symbol = Character.toLowerCase(decomposed.charAt(index));
+
+			if (symbol >= 'a' && symbol <= 'z') {
+				letters.append(symbol);
+			}
+			else if (symbol == 'д' && index + 1 < decomposed.length() && Character.toLowerCase(decomposed.charAt(index + 1)) == 'ж') {
+				letters.append('j');
+				index++;
+			}
+			else if (symbol >= 'а' && symbol <= 'я') {
+				letters.append(CYRILLIC[symbol - 'а']);
+			}
+			else if (symbol == 'і') {
+				letters.append('i');
+			}
+			else if (symbol == 'є') {
+				letters.append("ye");
+			}
+			else if (symbol == 'ґ') {
+				letters.append('g');
+			}
+		}
+
+		return letters.toString();
+	}
+}
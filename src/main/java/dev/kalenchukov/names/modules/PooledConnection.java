@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.modules;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Класс соединения, полученного из пула.
+ * <p>
+ * Закрытие возвращает соединение в пул, а не закрывает его.
+ * Подготовленные запросы, полученные через {@link #prepare(String)}, принадлежат соединению
+ * и не должны закрываться вызывающим кодом.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class PooledConnection implements AutoCloseable
+{
+	/**
+	 * Пул соединений.
+	 */
+	@NotNull
+	private final ConnectionPool pool;
+
+	/**
+	 * Соединение с кешем подготовленных запросов.
+	 */
+	@NotNull
+	private final StatementCache cache;
+
+	/**
+	 * Признак возвращения соединения в пул.
+	 */
+	private boolean released;
+
+	/**
+	 * Конструктор для {@code PooledConnection}.
+	 *
+	 * @param pool пул соединений.
+	 * @param cache соединение с кешем подготовленных запросов.
+	 */
+	PooledConnection(@NotNull final ConnectionPool pool, @NotNull final StatementCache cache)
+	{
+		this.pool = pool;
+		this.cache = cache;
+		this.released = false;
+	}
+
+	/**
+	 * Возвращает соединение.
+	 *
+	 * @return соединение.
+	 */
+	@NotNull
+	public Connection getConnection()
+	{
+		if (this.released) {
+			throw new IllegalStateException("Соединение уже возвращено в пул.");
+		}
+
+		return this.cache.getConnection();
+	}
+
+	/**
+	 * Возвращает подготовленный запрос из кеша соединения.
+	 *
+	 * @param sql текст запроса.
+	 * @return подготовленный запрос.
+	 * @throws SQLException если не удалось подготовить запрос.
+	 */
+	@NotNull
+	public PreparedStatement prepare(@NotNull final String sql)
+		throws SQLException
+	{
+		if (this.released) {
+			throw new IllegalStateException("Соединение уже возвращено в пул.");
+		}
+
+		return this.cache.prepare(sql);
+	}
+
+	/**
+	 * Возвращает соединение в пул.
+	 */
+	@Override
+	public void close()
+	{
+		if (!this.released)
+		{
+			this.released = true;
+			this.pool.release(this.cache);
+		}
+	}
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.modules;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+
+/**
+ * Класс настроек.
+ * <p>
+ * Значения настроек задаются через системные свойства.
+ */
+public final class Settings
+{
+	/**
+	 * Свойство хранилища имён.
+	 * <p>
+	 * Допустимые значения: {@code database}, {@code memory} и {@code file}.
+	 */
+	@NotNull
+	public static final String STORAGE = "dev.kalenchukov.names.storage";
+
+	/**
+	 * Свойство пути к файлу снимка имён для хранилища {@code file}.
+	 */
+	@NotNull
+	public static final String STORAGE_FILE = "dev.kalenchukov.names.storage.file";
+
+	/**
+	 * Свойство размера пула соединений только для чтения.
+	 * <p>
+	 * По умолчанию равен количеству доступных процессоров.
+	 */
+	@NotNull
+	public static final String POOL_SIZE = "dev.kalenchukov.names.pool.size";
+
+	/**
+	 * Свойство наибольшего времени ожидания соединения из пула в миллисекундах.
+	 */
+	@NotNull
+	public static final String POOL_TIMEOUT = "dev.kalenchukov.names.pool.timeout";
+
+	/**
+	 * Свойство количества имён в одном пакете при пакетном добавлении.
+	 */
+	@NotNull
+	public static final String INSERT_BATCH_SIZE = "dev.kalenchukov.names.insert.batch.size";
+
+	/**
+	 * Свойство включения фильтра Блума перед поиском имён по названию.
+	 */
+	@NotNull
+	public static final String FILTER = "dev.kalenchukov.names.filter";
+
+	/**
+	 * Свойство допустимой вероятности ложноположительного ответа фильтра Блума.
+	 */
+	@NotNull
+	public static final String FILTER_FPP = "dev.kalenchukov.names.filter.fpp";
+
+	/**
+	 * Свойство включения встроенных показателей запросов.
+	 */
+	@NotNull
+	public static final String METRICS = "dev.kalenchukov.names.metrics";
+
+	/**
+	 * Свойство включения фоновой подготовки хранилища при загрузке класса {@code Names}.
+	 */
+	@NotNull
+	public static final String WARMUP = "dev.kalenchukov.names.warmup";
+
+	/**
+	 * Конструктор для {@code Settings}.
+	 */
+	private Settings() {}
+
+	/**
+	 * Возвращает значение свойства.
+	 *
+	 * @param key свойство.
+	 * @param defaultValue значение по умолчанию.
+	 * @return значение свойства.
+	 */
+	@NotNull
+	public static String getString(@NotNull final String key, @NotNull final String defaultValue)
+	{
+		String value = System.getProperty(key);
+
+		if (value == null || value.isBlank()) {
+			return defaultValue;
+		}
+
+		return value.trim();
+	}
+
+	/**
+	 * Возвращает числовое значение свойства.
+	 *
+	 * @param key свойство.
+	 * @param defaultValue значение по умолчанию.
+	 * @return значение свойства.
+	 * @throws IllegalArgumentException если значение свойства не является числом.
+	 */
+	public static int getInt(@NotNull final String key, final int defaultValue)
+	{
+		String value = Settings.getString(key, String.valueOf(defaultValue));
+
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException exception) {
+			throw new IllegalArgumentException("Значение свойства '" + key + "' не является числом.", exception);
+		}
+	}
+
+	/**
+	 * Возвращает логическое значение свойства.
+	 *
+	 * @param key свойство.
+	 * @param defaultValue значение по умолчанию.
+	 * @return значение свойства.
+	 */
+	public static boolean getBoolean(@NotNull final String key, final boolean defaultValue)
+	{
+		return Boolean.parseBoolean(Settings.getString(key, String.valueOf(defaultValue)));
+	}
+
+	/**
+	 * Возвращает дробное значение свойства.
+	 *
+	 * @param key свойство.
+	 * @param defaultValue значение по умолчанию.
+	 * @return значение свойства.
+	 * @throws IllegalArgumentException если значение свойства не является числом.
+	 */
+	public static double getDouble(@NotNull final String key, final double defaultValue)
+	{
+		String value = Settings.getString(key, String.valueOf(defaultValue));
+
+		try {
+			return Double.parseDouble(value);
+		} catch (NumberFormatException exception) {
+			throw new IllegalArgumentException("Значение свойства '" + key + "' не является числом.", exception);
+		}
+	}
+
+	/**
+	 * Возвращает размер пула соединений только для чтения.
+	 *
+	 * @return размер пула соединений.
+	 */
+	public static int getPoolSize()
+	{
+		return Settings.getInt(POOL_SIZE, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Возвращает наибольшее время ожидания соединения из пула.
+	 *
+	 * @return время ожидания в миллисекундах.
+	 */
+	public static int getPoolTimeout()
+	{
+		return Settings.getInt(POOL_TIMEOUT, 30_000);
+	}
+
+	/**
+	 * Возвращает количество имён в одном пакете при пакетном добавлении.
+	 *
+	 * @return количество имён в пакете.
+	 */
+	public static int getInsertBatchSize()
+	{
+		return Settings.getInt(INSERT_BATCH_SIZE, 1000);
+	}
+
+	/**
+	 * Проверяет, включён ли фильтр Блума перед поиском имён по названию.
+	 *
+	 * @return {@code true}, если фильтр включён, иначе {@code false}.
+	 */
+	public static boolean isFilterEnabled()
+	{
+		return Settings.getBoolean(FILTER, false);
+	}
+
+	/**
+	 * Возвращает допустимую вероятность ложноположительного ответа фильтра Блума.
+	 *
+	 * @return вероятность ложноположительного ответа.
+	 */
+	public static double getFilterFpp()
+	{
+		return Settings.getDouble(FILTER_FPP, 0.01);
+	}
+
+	/**
+	 * Проверяет, включены ли встроенные показатели запросов.
+	 *
+	 * @return {@code true}, если показатели включены, иначе {@code false}.
+	 */
+	public static boolean isMetricsEnabled()
+	{
+		return Settings.getBoolean(METRICS, false);
+	}
+
+	/**
+	 * Проверяет, включена ли фоновая подготовка хранилища.
+	 *
+	 * @return {@code true}, если подготовка включена, иначе {@code false}.
+	 */
+	public static boolean isWarmupEnabled()
+	{
+		return Settings.getBoolean(WARMUP, false);
+	}
+
+	/**
+	 * Возвращает хранилище имён.
+	 *
+	 * @return хранилище имён.
+	 */
+	@NotNull
+	public static Storage getStorage()
+	{
+		String value = Settings.getString(STORAGE, "database");
+
+		for (Storage storage : Storage.values())
+		{
+			if (storage.getValue().equalsIgnoreCase(value)) {
+				return storage;
+			}
+		}
+
+		throw new IllegalArgumentException("Неизвестное хранилище имён '" + value + "'.");
+	}
+
+	/**
+	 * Возвращает путь к файлу снимка имён.
+	 *
+	 * @return путь к файлу снимка имён.
+	 * @throws IllegalArgumentException если свойство не задано.
+	 */
+	@NotNull
+	public static Path getStorageFile()
+	{
+		String value = Settings.getString(STORAGE_FILE, "");
+
+		if (value.isEmpty()) {
+			throw new IllegalArgumentException("Не указан файл снимка имён в свойстве '" + STORAGE_FILE + "'.");
+		}
+
+		return Path.of(value);
+	}
+
+	/**
+	 * Перечисление хранилищ имён.
+	 */
+	public enum Storage
+	{
+		/**
+		 * База данных.
+		 */
+		DATABASE("database"),
+
+		/**
+		 * Снимок базы данных в памяти.
+		 */
+		MEMORY("memory"),
+
+		/**
+		 * Снимок в памяти, загруженный из файла снимка имён.
+		 */
+		FILE("file");
+
+		/**
+		 * Значение свойства.
+		 */
+		@NotNull
+		private final String value;
+
+		/**
+		 * Конструктор для {@code Storage}.
+		 *
+		 * @param value значение свойства.
+		 */
+		Storage(@NotNull final String value)
+		{
+			this.value = value;
+		}
+
+		/**
+		 * Возвращает значение свойства.
+		 *
+		 * @return значение свойства.
+		 */
+		@NotNull
+		public String getValue()
+		{
+			return this.value;
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.modules;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Класс кеша подготовленных запросов соединения.
+ * <p>
+ * Кеш принадлежит одному соединению и используется только тем, кто получил соединение из пула,
+ * поэтому подготовленные запросы не используются одновременно.
+ * При превышении размера кеша закрывается запрос, который дольше всех не использовался.
+ *
+ * @author Алексей Каленчуков
+ */
+final class StatementCache
+{
+	/**
+	 * Наибольшее количество подготовленных запросов.
+	 */
+	private static final int CAPACITY = 64;
+
+	/**
+	 * Соединение.
+	 */
+	@NotNull
+	private final Connection connection;
+
+	/**
+	 * Подготовленные запросы по тексту запроса.
+	 */
+	@NotNull
+	private final Map<@NotNull String, @NotNull PreparedStatement> statements;
+
+	/**
+	 * Количество попаданий в кеш.
+	 */
+	@NotNull
+	private final LongAdder hits;
+
+	/**
+	 * Количество промахов кеша.
+	 */
+	@NotNull
+	private final LongAdder misses;
+
+	/**
+	 * Конструктор для {@code StatementCache}.
+	 *
+	 * @param connection соединение.
+	 * @param hits количество попаданий в кеш.
+	 * @param misses количество промахов кеша.
+	 */
+	StatementCache(@NotNull final Connection connection,
+				   @NotNull final LongAdder hits,
+				   @NotNull final LongAdder misses)
+	{
+		this.connection = connection;
+		this.statements = new LinkedHashMap<>(16, 0.75f, true);
+		this.hits = hits;
+		this.misses = misses;
+	}
+
+	/**
+	 * Возвращает соединение.
+	 *
+	 * @return соединение.
+	 */
+	@NotNull
+	Connection getConnection()
+	{
+		return this.connection;
+	}
+
+	/**
+	 * Возвращает подготовленный запрос.
+	 * <p>
+	 * Запрос подготавливается при первом обращении и далее берётся из кеша.
+	 *
+	 * @param sql текст запроса.
+	 * @return подготовленный запрос.
+	 * @throws SQLException если не удалось подготовить запрос.
+	 */
+	@NotNull
+	PreparedStatement prepare(@NotNull final String sql)
+		throws SQLException
+	{
+		PreparedStatement statement = this.statements.get(sql);
+
+		if (statement != null && !statement.isClosed())
+		{
+			this.hits.increment();
+
+			return statement;
+		}
+
+		this.misses.increment();
+
+		statement = this.connection.prepareStatement(sql);
+		this.statements.put(sql, statement);
+
+		if (this.statements.size() > CAPACITY)
+		{
+			Iterator<PreparedStatement> iterator = this.statements.values().iterator();
+			PreparedStatement eldest = iterator.next();
+			iterator.remove();
+			eldest.close();
+		}
+
+		return statement;
+	}
+
+	/**
+	 * Закрывает подготовленные запросы и соединение.
+	 *
+	 * @throws SQLException если не удалось закрыть соединение.
+	 */
+	void close()
+		throws SQLException
+	{
+		for (PreparedStatement statement : this.statements.values())
+		{
+			statement.close();
+		}
+
+		this.statements.clear();
+		this.connection.close();
+	}
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.modules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Класс издателя элементов потока.
+ * <p>
+ * Для каждого подписчика поток открывается при первом запросе элементов
+ * и читается ровно настолько, насколько подписчик запросил.
+ * Поток закрывается после передачи последнего элемента, при ошибке и при отмене подписки.
+ * Элементы передаются в потоке, запросившем их.
+ *
+ * @param <T> тип элементов.
+ * @author Алексей Каленчуков
+ */
+public final class StreamPublisher<T> implements Flow.Publisher<T>
+{
+	/**
+	 * Источник потоков элементов.
+	 */
+	@NotNull
+	private final Supplier<@NotNull Stream<T>> source;
+
+	/**
+	 * Конструктор для {@code StreamPublisher}.
+	 *
+	 * @param source источник потоков элементов, вызываемый отдельно для каждого подписчика.
+	 */
+	public StreamPublisher(@NotNull final Supplier<@NotNull Stream<T>> source)
+	{
+		this.source = Objects.requireNonNull(source);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param subscriber {@inheritDoc}
+	 */
+	@Override
+	public void subscribe(@NotNull final Flow.Subscriber<? super T> subscriber)
+	{
+		Objects.requireNonNull(subscriber);
+
+		subscriber.onSubscribe(new StreamSubscription<>(this.source, subscriber));
+	}
+
+	/**
+	 * Класс подписки на элементы потока.
+	 *
+	 * @param <T> тип элементов.
+	 */
+	private static final class StreamSubscription<T> implements Flow.Subscription
+	{
+		/**
+		 * Источник потока элементов.
+		 */
+		@NotNull
+		private final Supplier<@NotNull Stream<T>> source;
+
+		/**
+		 * Подписчик.
+		 */
+		@NotNull
+		private final Flow.Subscriber<? super T> subscriber;
+
+		/**
+		 * Количество запрошенных и ещё не переданных элементов.
+		 */
+		@NotNull
+		private final AtomicLong requested = new AtomicLong();
+
+		/**
+		 * Количество незавершённых вызовов передачи элементов.
+		 */
+		@NotNull
+		private final AtomicInteger wip = new AtomicInteger();
+
+		/**
+		 * Открытый поток элементов.
+		 */
+		private Stream<T> stream;
+
+		/**
+		 * Итератор открытого потока элементов.
+		 */
+		private Iterator<T> iterator;
+
+		/**
+		 * Признак отмены или завершения подписки.
+		 */
+		private volatile boolean cancelled;
+
+		/**
+		 * Ошибка запроса, которую нужно передать подписчику.
+		 */
+		@Nullable
+		private volatile Throwable error;
+
+		/**
+		 * Конструктор для {@code StreamSubscription}.
+		 *
+		 * @param source источник потока элементов.
+		 * @param subscriber подписчик.
+		 */
+		private StreamSubscription(@NotNull final Supplier<@NotNull Stream<T>> source,
+								   @NotNull final Flow.Subscriber<? super T> subscriber)
+		{
+			this.source = source;
+			this.subscriber = subscriber;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * Ошибка неположительного количества передаётся подписчику при передаче элементов,
+		 * чтобы она не пересекалась с вызовами {@code onNext}.
+		 *
+		 * @param count {@inheritDoc}
+		 */
+		@Override
+		public void request(final long count)
+		{
+			if (count <= 0)
+			{
+				if (this.error == null) {
+					this.error = new IllegalArgumentException("Количество запрашиваемых элементов должно быть больше 0.");
+				}
+
+				this.drain();
+
+				return;
+			}
+
+			this.requested.getAndUpdate(current -> {
+				long sum = current + count;
+
+				return sum < 0 ? Long.MAX_VALUE : sum;
+			});
+
+			this.drain();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void cancel()
+		{
+			this.cancelled = true;
+			this.drain();
+		}
+
+		/**
+		 * Передаёт подписчику запрошенные элементы.
+		 * <p>
+		 * Одновременно передачу выполняет только один поток, повторные вызовы
+		 * из других потоков и из обработчиков подписчика учитываются им же.
+		 */
+		private void drain()
+		{
+			if (this.wip.getAndIncrement() != 0) {
+				return;
+			}
+
+			int missed = 1;
+
+			do
+			{
+				if (this.cancelled) {
+					this.close();
+				} else if (this.error != null) {
+					this.cancelled = true;
+					this.close();
+					this.subscriber.onError(this.error);
+				} else {
+					this.emit();
+				}
+
+				missed = this.wip.addAndGet(-missed);
+			}
+			while (missed != 0);
+		}
+
+		/**
+		 * Передаёт подписчику элементы в пределах запрошенного количества.
+		 */
+		private void emit()
+		{
+			long emitted = 0;
+			long requested = this.requested.get();
+
+			try {
+				if (this.iterator == null)
+				{
+					this.stream = this.source.get();
+					this.iterator = this.stream.iterator();
+				}
+
+				while (!this.cancelled && this.error == null)
+				{
+					if (!this.iterator.hasNext())
+					{
+						this.cancelled = true;
+						this.close();
+						this.subscriber.onComplete();
+
+						return;
+					}
+
+					if (emitted == requested) {
+						break;
+					}
+
+					this.subscriber.onNext(this.iterator.next());
+					emitted++;
+				}
+			} catch (RuntimeException exception) {
+				this.cancelled = true;
+				this.close();
+				this.subscriber.onError(exception);
+
+				return;
+			}
+
+			if (this.cancelled) {
+				this.close();
+			} else if (requested != Long.MAX_VALUE) {
+				this.requested.addAndGet(-emitted);
+			}
+		}
+
+		/**
+		 * Закрывает открытый поток элементов.
+		 */
+		private void close()
+		{
+			if (this.stream != null)
+			{
+				Stream<T> stream = this.stream;
+				this.stream = null;
+				this.iterator = null;
+
+				stream.close();
+			}
+		}
+	}
+}
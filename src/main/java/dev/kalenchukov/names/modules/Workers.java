@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.modules;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Класс исполнителя асинхронных запросов по умолчанию.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class Workers
+{
+	/**
+	 * Конструктор для {@code Workers}.
+	 */
+	private Workers() {}
+
+	/**
+	 * Возвращает исполнитель асинхронных запросов по умолчанию.
+	 * <p>
+	 * Если среда выполнения поддерживает виртуальные потоки, каждый запрос выполняется
+	 * в отдельном виртуальном потоке, а количество одновременных запросов ограничивает пул соединений.
+	 * Иначе запросы выполняются в пуле потоков-демонов размером с пул соединений только для чтения.
+	 *
+	 * @return исполнитель.
+	 */
+	@NotNull
+	public static ExecutorService getDefault()
+	{
+		return DefaultHolder.EXECUTOR;
+	}
+
+	/**
+	 * Создаёт исполнитель с виртуальными потоками.
+	 *
+	 * @return исполнитель или {@code null}, если виртуальные потоки не поддерживаются.
+	 */
+	@Nullable
+	private static ExecutorService createVirtual()
+	{
+		try {
+			Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+
+			return (ExecutorService) method.invoke(null);
+		} catch (ReflectiveOperationException | UnsupportedOperationException exception) {
+			return null;
+		}
+	}
+
+	/**
+	 * Создаёт пул потоков-демонов.
+	 *
+	 * @param size размер пула.
+	 * @return исполнитель.
+	 */
+	@NotNull
+	private static ExecutorService createFixed(final int size)
+	{
+		AtomicInteger number = new AtomicInteger();
+
+		ThreadFactory factory = runnable -> {
+			Thread thread = new Thread(runnable, "names-worker-" + number.incrementAndGet());
+			thread.setDaemon(true);
+
+			return thread;
+		};
+
+		return Executors.newFixedThreadPool(size, factory);
+	}
+
+	/**
+	 * Класс отложенной инициализации исполнителя по умолчанию.
+	 */
+	private static final class DefaultHolder
+	{
+		/**
+		 * Исполнитель по умолчанию.
+		 */
+		@NotNull
+		private static final ExecutorService EXECUTOR = DefaultHolder.create();
+
+		/**
+		 * Создаёт исполнитель по умолчанию.
+		 *
+		 * @return исполнитель.
+		 */
+		@NotNull
+		private static ExecutorService create()
+		{
+			ExecutorService executor = Workers.createVirtual();
+
+			if (executor == null) {
+				executor = Workers.createFixed(Settings.getPoolSize());
+			}
+
+			return executor;
+		}
+	}
+}
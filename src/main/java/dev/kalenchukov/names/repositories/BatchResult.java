@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.repositories;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Класс результата пакетного добавления имён.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class BatchResult
+{
+	/**
+	 * Количество добавленных имён.
+	 */
+	private final long rows;
+
+	/**
+	 * Количество выполненных пакетов.
+	 */
+	private final int batches;
+
+	/**
+	 * Длительность добавления в наносекундах.
+	 */
+	private final long nanos;
+
+	/**
+	 * Конструктор для {@code BatchResult}.
+	 *
+	 * @param rows количество добавленных имён.
+	 * @param batches количество выполненных пакетов.
+	 * @param nanos длительность добавления в наносекундах.
+	 */
+	public BatchResult(final long rows, final int batches, final long nanos)
+	{
+		this.rows = rows;
+		this.batches = batches;
+		this.nanos = nanos;
+	}
+
+	/**
+	 * Возвращает количество добавленных имён.
+	 *
+	 * @return количество добавленных имён.
+	 */
+	public long getRows()
+	{
+		return this.rows;
+	}
+
+	/**
+	 * Возвращает количество выполненных пакетов.
+	 *
+	 * @return количество выполненных пакетов.
+	 */
+	public int getBatches()
+	{
+		return this.batches;
+	}
+
+	/**
+	 * Возвращает длительность добавления.
+	 *
+	 * @return длительность добавления.
+	 */
+	@NotNull
+	public Duration getDuration()
+	{
+		return Duration.ofNanos(this.nanos);
+	}
+
+	/**
+	 * Возвращает скорость добавления.
+	 *
+	 * @return количество добавленных имён в секунду.
+	 */
+	public double getRowsPerSecond()
+	{
+		if (this.nanos <= 0) {
+			return 0;
+		}
+
+		return this.rows * 1_000_000_000.0 / this.nanos;
+	}
+
+	/**
+	 * Возвращает значение объекта в виде строки.
+	 *
+	 * @return строку.
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		return "BatchResult{" +
+			"rows=" + this.rows + ", " +
+			"batches=" + this.batches + ", " +
+			"duration=" + this.getDuration() + ", " +
+			"rowsPerSecond=" + Math.round(this.getRowsPerSecond()) +
+			'}';
+	}
+}
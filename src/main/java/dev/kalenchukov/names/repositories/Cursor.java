@@ -0,0 +1,255 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.repositories;
+
+import dev.kalenchukov.names.exceptions.DatabaseException;
+import dev.kalenchukov.names.modules.ConnectionPool;
+import dev.kalenchukov.names.modules.PooledConnection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Класс курсора по результату запроса.
+ * <p>
+ * Соединение берётся из пула и запрос выполняется при получении первой строки.
+ * Строки преобразуются по одной по мере чтения.
+ * Соединение возвращается в пул после чтения последней строки или при закрытии курсора.
+ *
+ * @param <T> тип элементов.
+ * @author Алексей Каленчуков
+ */
+final class Cursor<T> extends Spliterators.AbstractSpliterator<T> implements AutoCloseable
+{
+	/**
+	 * Пул соединений.
+	 */
+	@NotNull
+	private final ConnectionPool pool;
+
+	/**
+	 * Текст запроса.
+	 */
+	@NotNull
+	private final String sql;
+
+	/**
+	 * Параметры запроса.
+	 */
+	@NotNull
+	private final Parameters parameters;
+
+	/**
+	 * Преобразователь строки результата.
+	 */
+	@NotNull
+	private final Mapper<T> mapper;
+
+	/**
+	 * Соединение.
+	 */
+	@Nullable
+	private PooledConnection connection;
+
+	/**
+	 * Результат запроса.
+	 */
+	@Nullable
+	private ResultSet resultSet;
+
+	/**
+	 * Признак закрытия курсора.
+	 */
+	private boolean closed;
+
+	/**
+	 * Конструктор для {@code Cursor}.
+	 *
+	 * @param pool пул соединений.
+	 * @param sql текст запроса.
+	 * @param parameters параметры запроса.
+	 * @param mapper преобразователь строки результата.
+	 */
+	Cursor(@NotNull final ConnectionPool pool,
+		   @NotNull final String sql,
+		   @NotNull final Parameters parameters,
+		   @NotNull final Mapper<T> mapper)
+	{
+		super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+
+		this.pool = pool;
+		this.sql = sql;
+		this.parameters = parameters;
+		this.mapper = mapper;
+		this.closed = false;
+	}
+
+	/**
+	 * Возвращает поток элементов курсора.
+	 * <p>
+	 * Закрытие потока закрывает курсор.
+	 *
+	 * @return поток элементов.
+	 */
+	@NotNull
+	Stream<@NotNull T> stream()
+	{
+		return StreamSupport.stream(this, false).onClose(this::close);
+	}
+
+	/**
+	 * Передаёт следующий элемент.
+	 *
+	 * @param action действие над элементом.
+	 * @return {@code true}, если элемент был передан, иначе {@code false}.
+	 */
+	@Override
+	public boolean tryAdvance(@NotNull final Consumer<? super T> action)
+	{
+		if (this.closed) {
+			return false;
+		}
+
+		T element;
+
+		try {
+			if (this.resultSet == null) {
+				this.open();
+			}
+
+			if (!this.resultSet.next())
+			{
+				this.close();
+
+				return false;
+			}
+
+			element = this.mapper.map(this.resultSet);
+		}
+		catch (SQLException exception)
+		{
+			this.close();
+
+			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+		}
+
+		action.accept(element);
+
+		return true;
+	}
+
+	/**
+	 * Закрывает результат запроса и возвращает соединение в пул.
+	 */
+	@Override
+	public void close()
+	{
+		if (this.closed) {
+			return;
+		}
+
+		this.closed = true;
+
+		try {
+			if (this.resultSet != null) {
+				this.resultSet.close();
+			}
+		}
+		catch (SQLException exception)
+		{
+			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+		}
+		finally
+		{
+			this.resultSet = null;
+
+			if (this.connection != null)
+			{
+				this.connection.close();
+				this.connection = null;
+			}
+		}
+	}
+
+	/**
+	 * Берёт соединение из пула и выполняет запрос.
+	 *
+	 * @throws SQLException если не удалось выполнить запрос.
+	 */
+	private void open()
+		throws SQLException
+	{
+		this.connection = this.pool.borrow();
+
+		PreparedStatement statement = this.connection.prepare(this.sql);
+		this.parameters.bind(statement);
+
+		this.resultSet = statement.executeQuery();
+	}
+
+	/**
+	 * Интерфейс для установки параметров запроса.
+	 */
+	@FunctionalInterface
+	interface Parameters
+	{
+		/**
+		 * Устанавливает параметры запроса.
+		 *
+		 * @param statement подготовленный запрос.
+		 * @throws SQLException если не удалось установить параметры.
+		 */
+		void bind(@NotNull PreparedStatement statement)
+			throws SQLException;
+	}
+
+	/**
+	 * Интерфейс для преобразования строки результата запроса.
+	 *
+	 * @param <T> тип элемента.
+	 */
+	@FunctionalInterface
+	interface Mapper<T>
+	{
+		/**
+		 * Преобразует текущую строку результата запроса.
+		 *
+		 * @param resultSet результат запроса.
+		 * @return элемент.
+		 * @throws SQLException если не удалось получить значения столбцов.
+		 */
+		@NotNull
+		T map(@NotNull ResultSet resultSet)
+			throws SQLException;
+	}
+}
@@ -0,0 +1,812 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.repositories;
+
+import dev.kalenchukov.names.entities.Name;
+import dev.kalenchukov.names.entities.NameField;
+import dev.kalenchukov.names.entities.NameProjection;
+import dev.kalenchukov.names.entities.NameQuery;
+import dev.kalenchukov.names.exceptions.NameNotFoundException;
+import dev.kalenchukov.names.indexes.BloomFilter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+/**
+ * Класс репозитория имён с фильтром Блума.
+ * <p>
+ * Перед поиском имени по названию проверяет фильтр, построенный по всем именам
+ * при создании репозитория. Названия, которых точно нет среди имён,
+ * отклоняются без обращения к исходному репозиторию.
+ * Добавленные имена вносятся в фильтр, удалённые остаются в нём
+ * и лишь увеличивают долю ложноположительных ответов.
+ *
+ * @author Алексей Каленчуков
+ */
+public class FilteredNameRepository implements NameRepositories
+{
+	/**
+	 * Исходный репозиторий имён.
+	 */
+	@NotNull
+	private final NameRepositories source;
+
+	/**
+	 * Фильтр названий имён.
+	 */
+	@NotNull
+	private final BloomFilter filter;
+
+	/**
+	 * Конструктор для {@code FilteredNameRepository}.
+	 *
+	 * @param source исходный репозиторий имён.
+	 * @param fpp допустимая вероятность ложноположительного ответа фильтра.
+	 * @throws IllegalArgumentException если вероятность не находится в интервале от 0 до 1.
+	 */
+	public FilteredNameRepository(@NotNull final NameRepositories source, final double fpp)
+	{
+		this.source = source;
+		this.filter = new BloomFilter(source.count(), fpp);
+
+		try (Stream<Name> names = source.streamAll())
+		{
+			names.forEach(name -> this.filter.add(name.getValue()));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int count()
+	{
+		return this.source.count();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param name {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean existsByName(@NotNull final String name)
+	{
+		if (!this.filter.mightContain(name)) {
+			return false;
+		}
+
+		return this.source.existsByName(name);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param name {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Name getByName(@NotNull final String name)
+	{
+		if (!this.filter.mightContain(name)) {
+			throw new NameNotFoundException("Имя '" + name + "' не найдено.");
+		}
+
+		return this.source.getByName(name);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param names {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Map<@NotNull String, @NotNull Name> getByNames(@NotNull final Collection<@NotNull String> names)
+	{
+		Collection<String> candidates = this.filter(names);
+
+		if (candidates.isEmpty()) {
+			return new LinkedHashMap<>();
+		}
+
+		return this.source.getByNames(candidates);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param names {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Set<@NotNull String> existsByNames(@NotNull final Collection<@NotNull String> names)
+	{
+		Collection<String> candidates = this.filter(names);
+
+		if (candidates.isEmpty()) {
+			return new LinkedHashSet<>();
+		}
+
+		return this.source.existsByNames(candidates);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByCountry(@NotNull final String country)
+	{
+		return this.source.getByCountry(country);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByCountry(@NotNull final String country,
+												  @Nullable final String after,
+												  final int limit)
+	{
+		return this.source.getByCountry(country, after, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByCountryDensity(@NotNull final String country)
+	{
+		return this.source.getByCountryDensity(country);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getAll()
+	{
+		return this.source.getAll();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getAll(@Nullable final String after, final int limit)
+	{
+		return this.source.getAll(after, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Stream<@NotNull Name> streamAll()
+	{
+		return this.source.streamAll();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Stream<@NotNull Name> streamByCountry(@NotNull final String country)
+	{
+		return this.source.streamByCountry(country);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Stream<@NotNull Name> streamByCountryDensity(@NotNull final String country)
+	{
+		return this.source.streamByCountryDensity(country);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishAll()
+	{
+		return this.source.publishAll();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishByCountry(@NotNull final String country)
+	{
+		return this.source.publishByCountry(country);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishByCountryDensity(@NotNull final String country)
+	{
+		return this.source.publishByCountryDensity(country);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishBetweenUsageWorld(final int min, final int max)
+	{
+		return this.source.publishBetweenUsageWorld(min, max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishBetweenUsageCountry(final int min, final int max)
+	{
+		return this.source.publishBetweenUsageCountry(min, max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishBetweenRankWorld(final int min, final int max)
+	{
+		return this.source.publishBetweenRankWorld(min, max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishBetweenRankCountry(final int min, final int max)
+	{
+		return this.source.publishBetweenRankCountry(min, max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenUsageWorld(final int min, final int max)
+	{
+		return this.source.getBetweenUsageWorld(min, max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenUsageWorld(final int min,
+														  final int max,
+														  @Nullable final Name after,
+														  final int limit)
+	{
+		return this.source.getBetweenUsageWorld(min, max, after, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenUsageCountry(final int min, final int max)
+	{
+		return this.source.getBetweenUsageCountry(min, max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenUsageCountry(final int min,
+															final int max,
+															@Nullable final Name after,
+															final int limit)
+	{
+		return this.source.getBetweenUsageCountry(min, max, after, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenRankWorld(final int min, final int max)
+	{
+		return this.source.getBetweenRankWorld(min, max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenRankWorld(final int min,
+														 final int max,
+														 @Nullable final Name after,
+														 final int limit)
+	{
+		return this.source.getBetweenRankWorld(min, max, after, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenRankCountry(final int min, final int max)
+	{
+		return this.source.getBetweenRankCountry(min, max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenRankCountry(final int min,
+														   final int max,
+														   @Nullable final Name after,
+														   final int limit)
+	{
+		return this.source.getBetweenRankCountry(min, max, after, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull String> getNameValuesByCountry(@NotNull final String country)
+	{
+		return this.source.getNameValuesByCountry(country);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull String> getNameValuesBetweenRankWorld(final int min, final int max)
+	{
+		return this.source.getNameValuesBetweenRankWorld(min, max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @param fields {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull NameProjection> getFieldsByCountry(@NotNull final String country, @NotNull final Set<@NotNull NameField> fields)
+	{
+		return this.source.getFieldsByCountry(country, fields);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @param fields {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull NameProjection> getFieldsBetweenRankWorld(final int min,
+																   final int max,
+																   @NotNull final Set<@NotNull NameField> fields)
+	{
+		return this.source.getFieldsBetweenRankWorld(min, max, fields);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param prefix {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull Name> getByPrefix(@NotNull final String prefix, final int limit)
+	{
+		return this.source.getByPrefix(prefix, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param query {@inheritDoc}
+	 * @param maxEdits {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull Name> searchFuzzy(@NotNull final String query,
+										   final int maxEdits,
+										   final int limit)
+	{
+		return this.source.searchFuzzy(query, maxEdits, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param name {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull Name> getBySoundsLike(@NotNull final String name)
+	{
+		return this.source.getBySoundsLike(name);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByLength(final int length)
+	{
+		return this.source.getByLength(length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenLength(final int min, final int max)
+	{
+		return this.source.getBetweenLength(min, max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param continent {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByContinent(@NotNull final String continent)
+	{
+		return this.source.getByContinent(continent);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param origin {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByOrigin(@NotNull final String origin)
+	{
+		return this.source.getByOrigin(origin);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param attributes {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByAttributes(@NotNull final Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes)
+	{
+		return this.source.getByAttributes(attributes);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param attributes {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int countByAttributes(@NotNull final Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes)
+	{
+		return this.source.countByAttributes(attributes);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param query {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull Name> getByQuery(@NotNull final NameQuery query)
+	{
+		return this.source.getByQuery(query);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param query {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull NameProjection> getFieldsByQuery(@NotNull final NameQuery query)
+	{
+		return this.source.getFieldsByQuery(query);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param name {@inheritDoc}
+	 */
+	@Override
+	public void add(@NotNull final Name name)
+	{
+		this.filter.add(name.getValue());
+		this.source.add(name);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param names {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public BatchResult addAll(@NotNull final Collection<@NotNull Name> names)
+	{
+		for (Name name : names)
+		{
+			this.filter.add(name.getValue());
+		}
+
+		return this.source.addAll(names);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param names {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public BatchResult addAll(@NotNull final Iterator<@NotNull Name> names)
+	{
+		return this.source.addAll(new Iterator<>()
+		{
+			@Override
+			public boolean hasNext()
+			{
+				return names.hasNext();
+			}
+
+			@Override
+			public Name next()
+			{
+				Name name = names.next();
+				FilteredNameRepository.this.filter.add(name.getValue());
+
+				return name;
+			}
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param name {@inheritDoc}
+	 */
+	@Override
+	public void deleteByName(@NotNull final String name)
+	{
+		this.source.deleteByName(name);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void create()
+	{
+		this.source.create();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void warmUp()
+	{
+		this.source.warmUp();
+	}
+
+	/**
+	 * Возвращает названия, которые могут присутствовать среди имён.
+	 *
+	 * @param names названия имён.
+	 * @return названия имён, прошедшие фильтр.
+	 */
+	@NotNull
+	private Collection<@NotNull String> filter(@NotNull final Collection<@NotNull String> names)
+	{
+		List<String> candidates = new ArrayList<>(names.size());
+
+		for (String name : names)
+		{
+			if (this.filter.mightContain(name)) {
+				candidates.add(name);
+			}
+		}
+
+		return candidates;
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.repositories;
+
+import dev.kalenchukov.names.entities.Name;
+import dev.kalenchukov.names.modules.Collation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Класс имени, найденного нечётким поиском.
+ *
+ * @author Алексей Каленчуков
+ */
+final class FuzzyMatch
+{
+	/**
+	 * Порядок найденных имён: по расстоянию, затем по убыванию количества людей с именем в мире,
+	 * затем по названию.
+	 */
+	@NotNull
+	private static final Comparator<@NotNull FuzzyMatch> ORDER = Comparator
+		.comparingInt(FuzzyMatch::getDistance)
+		.thenComparing(match -> match.getName().getUsageWorld(), Comparator.reverseOrder())
+		.thenComparing(match -> match.getName().getValue(), Collation::compare);
+
+	/**
+	 * Имя.
+	 */
+	@NotNull
+	private final Name name;
+
+	/**
+	 * Расстояние Левенштейна от запроса до названия имени.
+	 */
+	private final int distance;
+
+	/**
+	 * Конструктор для {@code FuzzyMatch}.
+	 *
+	 * @param name имя.
+	 * @param distance расстояние от запроса до названия имени.
+	 */
+	FuzzyMatch(@NotNull final Name name, final int distance)
+	{
+		this.name = name;
+		this.distance = distance;
+	}
+
+	/**
+	 * Возвращает имя.
+	 *
+	 * @return имя.
+	 */
+	@NotNull
+	Name getName()
+	{
+		return this.name;
+	}
+
+	/**
+	 * Возвращает расстояние от запроса до названия имени.
+	 *
+	 * @return расстояние.
+	 */
+	int getDistance()
+	{
+		return this.distance;
+	}
+
+	/**
+	 * Возвращает лучшие найденные имена.
+	 *
+	 * @param matches найденные имена.
+	 * @param limit наибольшее количество имён.
+	 * @return имена, упорядоченные по расстоянию, количеству людей с именем в мире и названию.
+	 */
+	@NotNull
+	static List<@NotNull Name> top(@NotNull final Collection<@NotNull FuzzyMatch> matches, final int limit)
+	{
+		return matches.stream()
+			.sorted(ORDER)
+			.limit(limit)
+			.map(FuzzyMatch::getName)
+			.toList();
+	}
+}
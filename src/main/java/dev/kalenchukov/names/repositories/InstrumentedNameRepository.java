@@ -0,0 +1,1059 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.repositories;
+
+import dev.kalenchukov.names.entities.Name;
+import dev.kalenchukov.names.entities.NameField;
+import dev.kalenchukov.names.entities.NameProjection;
+import dev.kalenchukov.names.entities.NameQuery;
+import dev.kalenchukov.names.metrics.QueryListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Класс репозитория имён с измерением запросов.
+ * <p>
+ * Измеряет длительность и количество возвращённых строк каждого метода исходного репозитория
+ * и передаёт их слушателям. Потоки измеряются до закрытия, издатели до завершения подписки.
+ *
+ * @author Алексей Каленчуков
+ */
+public class InstrumentedNameRepository implements NameRepositories
+{
+	/**
+	 * Журнал ошибок слушателей.
+	 */
+	@NotNull
+	private static final System.Logger LOGGER = System.getLogger(InstrumentedNameRepository.class.getName());
+
+	/**
+	 * Исходный репозиторий имён.
+	 */
+	@NotNull
+	private final NameRepositories source;
+
+	/**
+	 * Слушатели запросов.
+	 */
+	@NotNull
+	private final QueryListener @NotNull [] listeners;
+
+	/**
+	 * Конструктор для {@code InstrumentedNameRepository}.
+	 *
+	 * @param source исходный репозиторий имён.
+	 * @param listeners слушатели запросов.
+	 */
+	public InstrumentedNameRepository(@NotNull final NameRepositories source,
+									  @NotNull final Collection<@NotNull QueryListener> listeners)
+	{
+		this.source = source;
+		this.listeners = listeners.toArray(new QueryListener[0]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int count()
+	{
+		return this.measure("count()", () -> this.source.count(), count -> 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param name {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean existsByName(@NotNull final String name)
+	{
+		return this.measure("existsByName(name)", () -> this.source.existsByName(name), exists -> exists ? 1 : 0);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param name {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Name getByName(@NotNull final String name)
+	{
+		return this.measure("getByName(name)", () -> this.source.getByName(name), found -> 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param names {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Map<@NotNull String, @NotNull Name> getByNames(@NotNull final Collection<@NotNull String> names)
+	{
+		return this.measure("getByNames(names)", () -> this.source.getByNames(names), Map::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param names {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Set<@NotNull String> existsByNames(@NotNull final Collection<@NotNull String> names)
+	{
+		return this.measure("existsByNames(names)", () -> this.source.existsByNames(names), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByCountry(@NotNull final String country)
+	{
+		return this.measure("getByCountry(country)", () -> this.source.getByCountry(country), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByCountry(@NotNull final String country,
+												  @Nullable final String after,
+												  final int limit)
+	{
+		return this.measure("getByCountry(country, after, limit)", () -> this.source.getByCountry(country, after, limit), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByCountryDensity(@NotNull final String country)
+	{
+		return this.measure("getByCountryDensity(country)", () -> this.source.getByCountryDensity(country), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getAll()
+	{
+		return this.measure("getAll()", () -> this.source.getAll(), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getAll(@Nullable final String after, final int limit)
+	{
+		return this.measure("getAll(after, limit)", () -> this.source.getAll(after, limit), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Stream<@NotNull Name> streamAll()
+	{
+		return this.stream("streamAll()", () -> this.source.streamAll());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Stream<@NotNull Name> streamByCountry(@NotNull final String country)
+	{
+		return this.stream("streamByCountry(country)", () -> this.source.streamByCountry(country));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Stream<@NotNull Name> streamByCountryDensity(@NotNull final String country)
+	{
+		return this.stream("streamByCountryDensity(country)", () -> this.source.streamByCountryDensity(country));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishAll()
+	{
+		return this.publish("publishAll()", this.source.publishAll());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishByCountry(@NotNull final String country)
+	{
+		return this.publish("publishByCountry(country)", this.source.publishByCountry(country));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishByCountryDensity(@NotNull final String country)
+	{
+		return this.publish("publishByCountryDensity(country)", this.source.publishByCountryDensity(country));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishBetweenUsageWorld(final int min, final int max)
+	{
+		return this.publish("publishBetweenUsageWorld(min, max)", this.source.publishBetweenUsageWorld(min, max));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishBetweenUsageCountry(final int min, final int max)
+	{
+		return this.publish("publishBetweenUsageCountry(min, max)", this.source.publishBetweenUsageCountry(min, max));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishBetweenRankWorld(final int min, final int max)
+	{
+		return this.publish("publishBetweenRankWorld(min, max)", this.source.publishBetweenRankWorld(min, max));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishBetweenRankCountry(final int min, final int max)
+	{
+		return this.publish("publishBetweenRankCountry(min, max)", this.source.publishBetweenRankCountry(min, max));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenUsageWorld(final int min, final int max)
+	{
+		return this.measure("getBetweenUsageWorld(min, max)", () -> this.source.getBetweenUsageWorld(min, max), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenUsageWorld(final int min,
+														  final int max,
+														  @Nullable final Name after,
+														  final int limit)
+	{
+		return this.measure("getBetweenUsageWorld(min, max, after, limit)", () -> this.source.getBetweenUsageWorld(min, max, after, limit), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenUsageCountry(final int min, final int max)
+	{
+		return this.measure("getBetweenUsageCountry(min, max)", () -> this.source.getBetweenUsageCountry(min, max), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenUsageCountry(final int min,
+															final int max,
+															@Nullable final Name after,
+															final int limit)
+	{
+		return this.measure("getBetweenUsageCountry(min, max, after, limit)", () -> this.source.getBetweenUsageCountry(min, max, after, limit), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenRankWorld(final int min, final int max)
+	{
+		return this.measure("getBetweenRankWorld(min, max)", () -> this.source.getBetweenRankWorld(min, max), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenRankWorld(final int min,
+														 final int max,
+														 @Nullable final Name after,
+														 final int limit)
+	{
+		return this.measure("getBetweenRankWorld(min, max, after, limit)", () -> this.source.getBetweenRankWorld(min, max, after, limit), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenRankCountry(final int min, final int max)
+	{
+		return this.measure("getBetweenRankCountry(min, max)", () -> this.source.getBetweenRankCountry(min, max), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenRankCountry(final int min,
+														   final int max,
+														   @Nullable final Name after,
+														   final int limit)
+	{
+		return this.measure("getBetweenRankCountry(min, max, after, limit)", () -> this.source.getBetweenRankCountry(min, max, after, limit), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull String> getNameValuesByCountry(@NotNull final String country)
+	{
+		return this.measure("getNameValuesByCountry(country)", () -> this.source.getNameValuesByCountry(country), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull String> getNameValuesBetweenRankWorld(final int min, final int max)
+	{
+		return this.measure("getNameValuesBetweenRankWorld(min, max)", () -> this.source.getNameValuesBetweenRankWorld(min, max), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @param fields {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull NameProjection> getFieldsByCountry(@NotNull final String country, @NotNull final Set<@NotNull NameField> fields)
+	{
+		return this.measure("getFieldsByCountry(country, fields)", () -> this.source.getFieldsByCountry(country, fields), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @param fields {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull NameProjection> getFieldsBetweenRankWorld(final int min,
+																   final int max,
+																   @NotNull final Set<@NotNull NameField> fields)
+	{
+		return this.measure("getFieldsBetweenRankWorld(min, max, fields)", () -> this.source.getFieldsBetweenRankWorld(min, max, fields), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param prefix {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull Name> getByPrefix(@NotNull final String prefix, final int limit)
+	{
+		return this.measure("getByPrefix(prefix, limit)", () -> this.source.getByPrefix(prefix, limit), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param query {@inheritDoc}
+	 * @param maxEdits {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull Name> searchFuzzy(@NotNull final String query,
+										   final int maxEdits,
+										   final int limit)
+	{
+		return this.measure("searchFuzzy(query, maxEdits, limit)", () -> this.source.searchFuzzy(query, maxEdits, limit), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param name {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull Name> getBySoundsLike(@NotNull final String name)
+	{
+		return this.measure("getBySoundsLike(name)", () -> this.source.getBySoundsLike(name), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByLength(final int length)
+	{
+		return this.measure("getByLength(length)", () -> this.source.getByLength(length), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenLength(final int min, final int max)
+	{
+		return this.measure("getBetweenLength(min, max)", () -> this.source.getBetweenLength(min, max), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param continent {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByContinent(@NotNull final String continent)
+	{
+		return this.measure("getByContinent(continent)", () -> this.source.getByContinent(continent), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param origin {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByOrigin(@NotNull final String origin)
+	{
+		return this.measure("getByOrigin(origin)", () -> this.source.getByOrigin(origin), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param attributes {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByAttributes(@NotNull final Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes)
+	{
+		return this.measure("getByAttributes(attributes)", () -> this.source.getByAttributes(attributes), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param attributes {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int countByAttributes(@NotNull final Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes)
+	{
+		return this.measure("countByAttributes(attributes)", () -> this.source.countByAttributes(attributes), count -> 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param query {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull Name> getByQuery(@NotNull final NameQuery query)
+	{
+		return this.measure("getByQuery(query)", () -> this.source.getByQuery(query), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param query {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull NameProjection> getFieldsByQuery(@NotNull final NameQuery query)
+	{
+		return this.measure("getFieldsByQuery(query)", () -> this.source.getFieldsByQuery(query), Collection::size);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param name {@inheritDoc}
+	 */
+	@Override
+	public void add(@NotNull final Name name)
+	{
+		this.run("add(name)", () -> this.source.add(name));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param names {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public BatchResult addAll(@NotNull final Collection<@NotNull Name> names)
+	{
+		return this.measure("addAll(names)", () -> this.source.addAll(names), result -> (int) result.getRows());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param names {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public BatchResult addAll(@NotNull final Iterator<@NotNull Name> names)
+	{
+		return this.measure("addAll(names)", () -> this.source.addAll(names), result -> (int) result.getRows());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param name {@inheritDoc}
+	 */
+	@Override
+	public void deleteByName(@NotNull final String name)
+	{
+		this.run("deleteByName(name)", () -> this.source.deleteByName(name));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void create()
+	{
+		this.run("create()", () -> this.source.create());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void warmUp()
+	{
+		this.source.warmUp();
+	}
+
+	/**
+	 * Выполняет запрос и передаёт слушателям его показатели.
+	 *
+	 * @param method метод репозитория.
+	 * @param query запрос.
+	 * @param rows функция подсчёта возвращённых строк.
+	 * @param <T> тип результата.
+	 * @return результат запроса.
+	 */
+	private <T> T measure(@NotNull final String method,
+						  @NotNull final Supplier<T> query,
+						  @NotNull final ToIntFunction<T> rows)
+	{
+		long start = System.nanoTime();
+		T result;
+
+		try {
+			result = query.get();
+		} catch (RuntimeException exception) {
+			this.record(method, System.nanoTime() - start, 0, exception);
+
+			throw exception;
+		}
+
+		this.record(method, System.nanoTime() - start, rows.applyAsInt(result), null);
+
+		return result;
+	}
+
+	/**
+	 * Выполняет запрос без результата и передаёт слушателям его показатели.
+	 *
+	 * @param method метод репозитория.
+	 * @param query запрос.
+	 */
+	private void run(@NotNull final String method, @NotNull final Runnable query)
+	{
+		this.measure(method, () -> {
+			query.run();
+
+			return null;
+		}, result -> 0);
+	}
+
+	/**
+	 * Возвращает поток, показатели которого передаются слушателям при закрытии.
+	 * <p>
+	 * Если при обходе потока возникло исключение, то при закрытии слушателям передаётся первое из них.
+	 *
+	 * @param method метод репозитория.
+	 * @param query запрос.
+	 * @return поток имён.
+	 */
+	@NotNull
+	private Stream<@NotNull Name> stream(@NotNull final String method,
+										 @NotNull final Supplier<@NotNull Stream<@NotNull Name>> query)
+	{
+		long start = System.nanoTime();
+		Stream<Name> stream;
+
+		try {
+			stream = query.get();
+		} catch (RuntimeException exception) {
+			this.record(method, System.nanoTime() - start, 0, exception);
+
+			throw exception;
+		}
+
+		MeasuredSpliterator spliterator = new MeasuredSpliterator(stream.spliterator());
+
+		return StreamSupport.stream(spliterator, false)
+			.onClose(stream::close)
+			.onClose(() -> this.record(method, System.nanoTime() - start, spliterator.rows, spliterator.error));
+	}
+
+	/**
+	 * Возвращает издателя, показатели подписок на которого передаются слушателям.
+	 *
+	 * @param method метод репозитория.
+	 * @param publisher исходный издатель.
+	 * @return издатель имён.
+	 */
+	@NotNull
+	private Flow.Publisher<@NotNull Name> publish(@NotNull final String method,
+												  @NotNull final Flow.Publisher<@NotNull Name> publisher)
+	{
+		return subscriber -> publisher.subscribe(new Flow.Subscriber<>()
+		{
+			/**
+			 * Начало подписки.
+			 */
+			private final long start = System.nanoTime();
+
+			/**
+			 * Признак переданных показателей.
+			 */
+			private final AtomicBoolean reported = new AtomicBoolean();
+
+			/**
+			 * Количество полученных имён.
+			 */
+			private volatile int rows;
+
+			@Override
+			public void onSubscribe(final Flow.Subscription subscription)
+			{
+				subscriber.onSubscribe(new Flow.Subscription()
+				{
+					@Override
+					public void request(final long count)
+					{
+						subscription.request(count);
+					}
+
+					@Override
+					public void cancel()
+					{
+						subscription.cancel();
+						report(null);
+					}
+				});
+			}
+
+			@Override
+			public void onNext(final Name name)
+			{
+				this.rows++;
+				subscriber.onNext(name);
+			}
+
+			@Override
+			public void onError(final Throwable throwable)
+			{
+				this.report(throwable);
+				subscriber.onError(throwable);
+			}
+
+			@Override
+			public void onComplete()
+			{
+				this.report(null);
+				subscriber.onComplete();
+			}
+
+			/**
+			 * Передаёт слушателям показатели подписки один раз.
+			 *
+			 * @param error исключение или {@code null}.
+			 */
+			private void report(@Nullable final Throwable error)
+			{
+				if (this.reported.compareAndSet(false, true)) {
+					InstrumentedNameRepository.this.record(method, System.nanoTime() - this.start, this.rows, error);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Класс обхода потока имён с подсчётом строк и запоминанием исключения.
+	 */
+	private static final class MeasuredSpliterator implements Spliterator<@NotNull Name>
+	{
+		/**
+		 * Исходный обход.
+		 */
+		@NotNull
+		private final Spliterator<@NotNull Name> source;
+
+		/**
+		 * Количество полученных имён.
+		 */
+		private int rows;
+
+		/**
+		 * Первое исключение, возникшее при обходе.
+		 */
+		@Nullable
+		private RuntimeException error;
+
+		/**
+		 * Конструктор для {@code MeasuredSpliterator}.
+		 *
+		 * @param source исходный обход.
+		 */
+		private MeasuredSpliterator(@NotNull final Spliterator<@NotNull Name> source)
+		{
+			this.source = source;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @param action {@inheritDoc}
+		 * @return {@inheritDoc}
+		 */
+		@Override
+		public boolean tryAdvance(@NotNull final Consumer<? super @NotNull Name> action)
+		{
+			try {
+				return this.source.tryAdvance(name -> {
+					this.rows++;
+					action.accept(name);
+				});
+			} catch (RuntimeException exception) {
+				this.fail(exception);
+
+				throw exception;
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @param action {@inheritDoc}
+		 */
+		@Override
+		public void forEachRemaining(@NotNull final Consumer<? super @NotNull Name> action)
+		{
+			try {
+				this.source.forEachRemaining(name -> {
+					this.rows++;
+					action.accept(name);
+				});
+			} catch (RuntimeException exception) {
+				this.fail(exception);
+
+				throw exception;
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * Обход не делится, чтобы строки и исключение учитывались в одном месте.
+		 *
+		 * @return {@code null}.
+		 */
+		@Nullable
+		@Override
+		public Spliterator<@NotNull Name> trySplit()
+		{
+			return null;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @return {@inheritDoc}
+		 */
+		@Override
+		public long estimateSize()
+		{
+			return this.source.estimateSize();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @return {@inheritDoc}
+		 */
+		@Override
+		public int characteristics()
+		{
+			return this.source.characteristics();
+		}
+
+		/**
+		 * Запоминает первое исключение обхода.
+		 *
+		 * @param exception исключение.
+		 */
+		private void fail(@NotNull final RuntimeException exception)
+		{
+			if (this.error == null) {
+				this.error = exception;
+			}
+		}
+	}
+
+	/**
+	 * Передаёт показатели запроса слушателям.
+	 * <p>
+	 * Слушатели подключаются сторонними модулями, поэтому исключение слушателя записывается в журнал
+	 * и не влияет ни на результат запроса, ни на вызов остальных слушателей.
+	 *
+	 * @param method метод репозитория.
+	 * @param nanos длительность в наносекундах.
+	 * @param rows количество возвращённых строк.
+	 * @param error исключение или {@code null}, если запрос выполнен успешно.
+	 */
+	private void record(@NotNull final String method, final long nanos, final int rows, @Nullable final Throwable error)
+	{
+		for (QueryListener listener : this.listeners)
+		{
+			try
+			{
+				listener.onQuery(method, nanos, rows, error);
+			}
+			catch (RuntimeException exception)
+			{
+				LOGGER.log(
+					System.Logger.Level.WARNING, "Слушатель " + listener.getClass().getName() + " завершился с ошибкой.", exception
+				);
+			}
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.repositories;
+
+import dev.kalenchukov.names.modules.ConnectionPool;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Класс обновления файла базы данных имён.
+ * <p>
+ * Запускается при сборке для поставляемой базы данных, чтобы запросы не меняли схему таблицы.
+ * Может использоваться и для базы данных, созданной прежней версией библиотеки.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class NameDatabaseUpgrade
+{
+	/**
+	 * Конструктор для {@code NameDatabaseUpgrade}.
+	 */
+	private NameDatabaseUpgrade() {}
+
+	/**
+	 * Обновляет схему таблицы в файлах базы данных.
+	 * <p>
+	 * Файлы, которых нет, пропускаются.
+	 *
+	 * @param args пути к файлам базы данных.
+	 */
+	public static void main(@NotNull final String @NotNull [] args)
+	{
+		for (String arg : args)
+		{
+			Path file = Path.of(arg);
+
+			if (Files.notExists(file)) {
+				continue;
+			}
+
+			try (ConnectionPool pool = new ConnectionPool("jdbc:sqlite:" + file, new Properties(), 1))
+			{
+				new NameRepository(pool, pool).upgrade();
+			}
+		}
+	}
+}
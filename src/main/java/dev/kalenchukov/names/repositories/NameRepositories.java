@@ -25,9 +25,19 @@
 package dev.kalenchukov.names.repositories;
 
 import dev.kalenchukov.names.entities.Name;
+import dev.kalenchukov.names.entities.NameField;
+import dev.kalenchukov.names.entities.NameProjection;
+import dev.kalenchukov.names.entities.NameQuery;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
 /**
  * Интерфейс для реализации репозитория имён.
@@ -60,6 +70,26 @@ public interface NameRepositories
 	@NotNull
 	Name getByName(@NotNull String name);
 
+	/**
+	 * Возвращает найденные имена по названиям.
+	 * <p>
+	 * Отсутствующие имена не приводят к исключению, а пропускаются.
+	 *
+	 * @param names названия имён.
+	 * @return найденные имена по переданным названиям.
+	 */
+	@NotNull
+	Map<@NotNull String, @NotNull Name> getByNames(@NotNull Collection<@NotNull String> names);
+
+	/**
+	 * Возвращает существующие имена из указанных.
+	 *
+	 * @param names названия имён.
+	 * @return переданные названия существующих имён.
+	 */
+	@NotNull
+	Set<@NotNull String> existsByNames(@NotNull Collection<@NotNull String> names);
+
 	/**
 	 * Возвращает список имён в указанной стране.
 	 *
@@ -69,6 +99,21 @@ public interface NameRepositories
 	@NotNull
 	Collection<@NotNull Name> getByCountry(@NotNull String country);
 
+	/**
+	 * Возвращает страницу списка имён в указанной стране.
+	 * <p>
+	 * Страница начинается сразу после имени {@code after} в порядке возрастания названия,
+	 * поэтому стоимость страницы не зависит от её номера.
+	 *
+	 * @param country страна.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка имён в указанной стране.
+	 * @throws IllegalArgumentException если количество имён на странице отрицательное.
+	 */
+	@NotNull
+	Collection<@NotNull Name> getByCountry(@NotNull String country, @Nullable String after, int limit);
+
 	/**
 	 * Возвращает список имён в указанной стране по плотности населения.
 	 *
@@ -86,6 +131,142 @@ public interface NameRepositories
 	@NotNull
 	Collection<@NotNull Name> getAll();
 
+	/**
+	 * Возвращает страницу списка всех имён.
+	 * <p>
+	 * Страница начинается сразу после имени {@code after} в порядке возрастания названия,
+	 * поэтому стоимость страницы не зависит от её номера.
+	 *
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка всех имён.
+	 * @throws IllegalArgumentException если количество имён на странице отрицательное.
+	 */
+	@NotNull
+	Collection<@NotNull Name> getAll(@Nullable String after, int limit);
+
+	/**
+	 * Возвращает поток всех имён.
+	 * <p>
+	 * Имена читаются по мере обработки потока.
+	 * Поток удерживает ресурсы хранилища, поэтому его необходимо закрыть.
+	 *
+	 * @return поток всех имён.
+	 */
+	@NotNull
+	Stream<@NotNull Name> streamAll();
+
+	/**
+	 * Возвращает поток имён в указанной стране.
+	 * <p>
+	 * Имена читаются по мере обработки потока.
+	 * Поток удерживает ресурсы хранилища, поэтому его необходимо закрыть.
+	 *
+	 * @param country страна.
+	 * @return поток имён в указанной стране.
+	 */
+	@NotNull
+	Stream<@NotNull Name> streamByCountry(@NotNull String country);
+
+	/**
+	 * Возвращает поток имён в указанной стране по плотности населения.
+	 * <p>
+	 * Имена читаются по мере обработки потока.
+	 * Поток удерживает ресурсы хранилища, поэтому его необходимо закрыть.
+	 *
+	 * @param country страна.
+	 * @return поток имён в указанной стране по плотности населения.
+	 */
+	@NotNull
+	Stream<@NotNull Name> streamByCountryDensity(@NotNull String country);
+
+	/**
+	 * Возвращает издателя всех имён.
+	 * <p>
+	 * Имена читаются по мере запроса подписчиком, при отмене подписки чтение прекращается
+	 * и ресурсы хранилища освобождаются.
+	 *
+	 * @return издатель всех имён.
+	 */
+	@NotNull
+	Flow.Publisher<@NotNull Name> publishAll();
+
+	/**
+	 * Возвращает издателя имён в указанной стране.
+	 * <p>
+	 * Имена читаются по мере запроса подписчиком, при отмене подписки чтение прекращается
+	 * и ресурсы хранилища освобождаются.
+	 *
+	 * @param country страна.
+	 * @return издатель имён в указанной стране.
+	 */
+	@NotNull
+	Flow.Publisher<@NotNull Name> publishByCountry(@NotNull String country);
+
+	/**
+	 * Возвращает издателя имён в указанной стране по плотности населения.
+	 * <p>
+	 * Имена читаются по мере запроса подписчиком, при отмене подписки чтение прекращается
+	 * и ресурсы хранилища освобождаются.
+	 *
+	 * @param country страна.
+	 * @return издатель имён в указанной стране по плотности населения.
+	 */
+	@NotNull
+	Flow.Publisher<@NotNull Name> publishByCountryDensity(@NotNull String country);
+
+	/**
+	 * Возвращает издателя имён по интервалу использования в мире.
+	 * <p>
+	 * Имена читаются по мере запроса подписчиком, при отмене подписки чтение прекращается
+	 * и ресурсы хранилища освобождаются.
+	 *
+	 * @param min минимальное количество использований.
+	 * @param max максимальное количество использований.
+	 * @return издатель имён по интервалу использования в мире.
+	 */
+	@NotNull
+	Flow.Publisher<@NotNull Name> publishBetweenUsageWorld(int min, int max);
+
+	/**
+	 * Возвращает издателя имён по интервалу использования в стране.
+	 * <p>
+	 * Имена читаются по мере запроса подписчиком, при отмене подписки чтение прекращается
+	 * и ресурсы хранилища освобождаются.
+	 *
+	 * @param min минимальное количество использований.
+	 * @param max максимальное количество использований.
+	 * @return издатель имён по интервалу использования в стране.
+	 */
+	@NotNull
+	Flow.Publisher<@NotNull Name> publishBetweenUsageCountry(int min, int max);
+
+	/**
+	 * Возвращает издателя имён по интервалу рейтинга в мире.
+	 * <p>
+	 * Имена читаются по мере запроса подписчиком, при отмене подписки чтение прекращается
+	 * и ресурсы хранилища освобождаются.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @return издатель имён по интервалу рейтинга в мире.
+	 */
+	@NotNull
+	Flow.Publisher<@NotNull Name> publishBetweenRankWorld(int min, int max);
+
+	/**
+	 * Возвращает издателя имён по интервалу рейтинга в стране.
+	 * <p>
+	 * Имена читаются по мере запроса подписчиком, при отмене подписки чтение прекращается
+	 * и ресурсы хранилища освобождаются.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @return издатель имён по интервалу рейтинга в стране.
+	 */
+	@NotNull
+	Flow.Publisher<@NotNull Name> publishBetweenRankCountry(int min, int max);
+
 	/**
 	 * Возвращает список имён по интервалу использования в мире.
 	 *
@@ -96,6 +277,22 @@ public interface NameRepositories
 	@NotNull
 	Collection<@NotNull Name> getBetweenUsageWorld(int min, int max);
 
+	/**
+	 * Возвращает страницу списка имён по интервалу использования в мире.
+	 * <p>
+	 * Имена упорядочены по возрастанию значения, а при равенстве по возрастанию названия.
+	 * Страница начинается сразу после имени {@code after}, последнего на предыдущей странице.
+	 *
+	 * @param min минимальное количество использований.
+	 * @param max максимальное количество использований.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка имён.
+	 * @throws IllegalArgumentException если количество имён на странице отрицательное.
+	 */
+	@NotNull
+	Collection<@NotNull Name> getBetweenUsageWorld(int min, int max, @Nullable Name after, int limit);
+
 	/**
 	 * Возвращает список имён по интервалу использования в стране.
 	 *
@@ -106,6 +303,22 @@ public interface NameRepositories
 	@NotNull
 	Collection<@NotNull Name> getBetweenUsageCountry(int min, int max);
 
+	/**
+	 * Возвращает страницу списка имён по интервалу использования в стране.
+	 * <p>
+	 * Имена упорядочены по возрастанию значения, а при равенстве по возрастанию названия.
+	 * Страница начинается сразу после имени {@code after}, последнего на предыдущей странице.
+	 *
+	 * @param min минимальное количество использований.
+	 * @param max максимальное количество использований.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка имён.
+	 * @throws IllegalArgumentException если количество имён на странице отрицательное.
+	 */
+	@NotNull
+	Collection<@NotNull Name> getBetweenUsageCountry(int min, int max, @Nullable Name after, int limit);
+
 	/**
 	 * Возвращает список имён по интервалу рейтинга в мире.
 	 *
@@ -116,6 +329,22 @@ public interface NameRepositories
 	@NotNull
 	Collection<@NotNull Name> getBetweenRankWorld(int min, int max);
 
+	/**
+	 * Возвращает страницу списка имён по интервалу рейтинга в мире.
+	 * <p>
+	 * Имена упорядочены по возрастанию значения, а при равенстве по возрастанию названия.
+	 * Страница начинается сразу после имени {@code after}, последнего на предыдущей странице.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка имён.
+	 * @throws IllegalArgumentException если количество имён на странице отрицательное.
+	 */
+	@NotNull
+	Collection<@NotNull Name> getBetweenRankWorld(int min, int max, @Nullable Name after, int limit);
+
 	/**
 	 * Возвращает список имён по интервалу рейтинга в стране.
 	 *
@@ -126,6 +355,191 @@ public interface NameRepositories
 	@NotNull
 	Collection<@NotNull Name> getBetweenRankCountry(int min, int max);
 
+	/**
+	 * Возвращает страницу списка имён по интервалу рейтинга в стране.
+	 * <p>
+	 * Имена упорядочены по возрастанию значения, а при равенстве по возрастанию названия.
+	 * Страница начинается сразу после имени {@code after}, последнего на предыдущей странице.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка имён.
+	 * @throws IllegalArgumentException если количество имён на странице отрицательное.
+	 */
+	@NotNull
+	Collection<@NotNull Name> getBetweenRankCountry(int min, int max, @Nullable Name after, int limit);
+
+	/**
+	 * Возвращает названия имён в указанной стране.
+	 * <p>
+	 * В отличие от {@link #getByCountry(String)}, читается только название имени.
+	 *
+	 * @param country страна.
+	 * @return названия имён в указанной стране, упорядоченные по названию.
+	 */
+	@NotNull
+	List<@NotNull String> getNameValuesByCountry(@NotNull String country);
+
+	/**
+	 * Возвращает названия имён по интервалу рейтинга в мире.
+	 * <p>
+	 * В отличие от {@link #getBetweenRankWorld(int, int)}, читается только название имени.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @return названия имён, упорядоченные по рейтингу и названию.
+	 */
+	@NotNull
+	List<@NotNull String> getNameValuesBetweenRankWorld(int min, int max);
+
+	/**
+	 * Возвращает выбранные поля имён в указанной стране.
+	 *
+	 * @param country страна.
+	 * @param fields выбранные поля.
+	 * @return проекции имён в указанной стране, упорядоченные по названию.
+	 * @throws IllegalArgumentException если поля не указаны.
+	 */
+	@NotNull
+	List<@NotNull NameProjection> getFieldsByCountry(@NotNull String country, @NotNull Set<@NotNull NameField> fields);
+
+	/**
+	 * Возвращает выбранные поля имён по интервалу рейтинга в мире.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @param fields выбранные поля.
+	 * @return проекции имён, упорядоченные по рейтингу и названию.
+	 * @throws IllegalArgumentException если поля не указаны.
+	 */
+	@NotNull
+	List<@NotNull NameProjection> getFieldsBetweenRankWorld(int min, int max, @NotNull Set<@NotNull NameField> fields);
+
+	/**
+	 * Возвращает самые популярные имена, начинающиеся с указанной строки.
+	 * <p>
+	 * Регистр не учитывается так же, как при поиске имени по названию.
+	 * Подходит для подсказок при вводе имени.
+	 *
+	 * @param prefix начало имени.
+	 * @param limit наибольшее количество имён.
+	 * @return имена, упорядоченные по месту в мире и названию.
+	 * @throws IllegalArgumentException если количество имён отрицательное.
+	 */
+	@NotNull
+	List<@NotNull Name> getByPrefix(@NotNull String prefix, int limit);
+
+	/**
+	 * Возвращает имена, похожие на указанное, с учётом опечаток.
+	 * <p>
+	 * Похожесть измеряется расстоянием Левенштейна без учёта регистра:
+	 * количеством вставок, удалений и замен символов.
+	 *
+	 * @param query имя с возможными опечатками.
+	 * @param maxEdits наибольшее расстояние.
+	 * @param limit наибольшее количество имён.
+	 * @return имена, упорядоченные по расстоянию, по убыванию количества людей с именем в мире и по названию.
+	 * @throws IllegalArgumentException если расстояние или количество имён отрицательное.
+	 */
+	@NotNull
+	List<@NotNull Name> searchFuzzy(@NotNull String query, int maxEdits, int limit);
+
+	/**
+	 * Возвращает имена, которые звучат так же, как указанное.
+	 * <p>
+	 * Имена сравниваются по фонетическому коду Soundex, кириллица перед кодированием переводится в латиницу,
+	 * поэтому «Jon» находит «John», а «Алексей» находит «Aleksey» и «Alexei».
+	 *
+	 * @param name имя.
+	 * @return имена, упорядоченные по убыванию количества людей с именем в мире и по названию.
+	 */
+	@NotNull
+	List<@NotNull Name> getBySoundsLike(@NotNull String name);
+
+	/**
+	 * Возвращает список имён по количеству символов в имени.
+	 *
+	 * @param length количество символов в имени.
+	 * @return список имён, упорядоченный по названию.
+	 */
+	@NotNull
+	Collection<@NotNull Name> getByLength(int length);
+
+	/**
+	 * Возвращает список имён по интервалу количества символов в имени.
+	 *
+	 * @param min минимальное количество символов в имени.
+	 * @param max максимальное количество символов в имени.
+	 * @return список имён, упорядоченный по количеству символов в имени и названию.
+	 */
+	@NotNull
+	Collection<@NotNull Name> getBetweenLength(int min, int max);
+
+	/**
+	 * Возвращает список имён с указанного континента.
+	 *
+	 * @param continent континент.
+	 * @return список имён, упорядоченный по названию.
+	 */
+	@NotNull
+	Collection<@NotNull Name> getByContinent(@NotNull String continent);
+
+	/**
+	 * Возвращает список имён указанного происхождения.
+	 *
+	 * @param origin происхождение.
+	 * @return список имён, упорядоченный по названию.
+	 */
+	@NotNull
+	Collection<@NotNull Name> getByOrigin(@NotNull String origin);
+
+	/**
+	 * Возвращает список имён, подходящих под значения характеристик.
+	 * <p>
+	 * Имя подходит, если значение каждой указанной характеристики без учёта регистра совпадает
+	 * с одним из её допустимых значений. Без характеристик подходят все имена, а с пустым
+	 * множеством значений — ни одно.
+	 *
+	 * @param attributes допустимые значения по характеристикам {@link NameField#ORIGIN},
+	 * {@link NameField#CONTINENT}, {@link NameField#COUNTRY} и {@link NameField#COUNTRY_DENSITY}.
+	 * @return список имён, упорядоченный по названию.
+	 * @throws IllegalArgumentException если характеристика не является категорией.
+	 * @see NameField#isCategory()
+	 */
+	@NotNull
+	Collection<@NotNull Name> getByAttributes(@NotNull Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes);
+
+	/**
+	 * Возвращает количество имён, подходящих под значения характеристик, не загружая имена.
+	 *
+	 * @param attributes допустимые значения по характеристикам, как в {@link #getByAttributes(Map)}.
+	 * @return количество имён.
+	 * @throws IllegalArgumentException если характеристика не является категорией.
+	 */
+	int countByAttributes(@NotNull Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes);
+
+	/**
+	 * Возвращает список имён по запросу.
+	 * <p>
+	 * Выбранные поля проекций запроса не учитываются.
+	 *
+	 * @param query запрос.
+	 * @return список имён в порядке запроса.
+	 */
+	@NotNull
+	List<@NotNull Name> getByQuery(@NotNull NameQuery query);
+
+	/**
+	 * Возвращает проекции имён по запросу.
+	 *
+	 * @param query запрос с выбранными полями проекций.
+	 * @return список проекций в порядке запроса.
+	 */
+	@NotNull
+	List<@NotNull NameProjection> getFieldsByQuery(@NotNull NameQuery query);
+
 	/**
 	 * Добавляет имя.
 	 *
@@ -133,6 +547,30 @@ public interface NameRepositories
 	 */
 	void add(@NotNull Name name);
 
+	/**
+	 * Добавляет имена пакетами.
+	 * <p>
+	 * Каждый пакет добавляется в отдельной транзакции.
+	 * При ошибке добавление прекращается, ранее добавленные пакеты сохраняются.
+	 *
+	 * @param names имена.
+	 * @return результат добавления.
+	 */
+	@NotNull
+	BatchResult addAll(@NotNull Collection<@NotNull Name> names);
+
+	/**
+	 * Добавляет имена пакетами.
+	 * <p>
+	 * Каждый пакет добавляется в отдельной транзакции.
+	 * При ошибке добавление прекращается, ранее добавленные пакеты сохраняются.
+	 *
+	 * @param names имена.
+	 * @return результат добавления.
+	 */
+	@NotNull
+	BatchResult addAll(@NotNull Iterator<@NotNull Name> names);
+
 	/**
 	 * Удаляет имя.
 	 *
@@ -144,4 +582,12 @@ public interface NameRepositories
 	 * Создаёт таблицу для имён.
 	 */
 	void create();
+
+	/**
+	 * Подготавливает репозиторий к запросам.
+	 * <p>
+	 * Открывает соединения, подготавливает запросы и строит индексы заранее,
+	 * чтобы первые запросы не ждали этого.
+	 */
+	void warmUp();
 }
@@ -25,14 +25,27 @@
 package dev.kalenchukov.names.repositories;
 
 import dev.kalenchukov.names.entities.Name;
+import dev.kalenchukov.names.entities.NameField;
+import dev.kalenchukov.names.entities.NameProjection;
+import dev.kalenchukov.names.entities.NameQuery;
 import dev.kalenchukov.names.exceptions.DatabaseException;
 import dev.kalenchukov.names.exceptions.NameNotFoundException;
+import dev.kalenchukov.names.modules.Collation;
+import dev.kalenchukov.names.modules.ConnectionPool;
 import dev.kalenchukov.names.modules.Database;
+import dev.kalenchukov.names.modules.Dictionary;
+import dev.kalenchukov.names.modules.Phonetics;
+import dev.kalenchukov.names.modules.PooledConnection;
+import dev.kalenchukov.names.modules.Settings;
+import dev.kalenchukov.names.modules.StreamPublisher;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.sql.*;
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.*;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Класс репозитория имён.
@@ -42,17 +55,166 @@ import java.util.Collection;
 public class NameRepository implements NameRepositories
 {
 	/**
-	 * Соединение с базой данных.
+	 * Наибольшее количество названий в одном запросе пакетного поиска.
+	 */
+	private static final int BATCH_SIZE = 512;
+
+	/**
+	 * Количество полей имени.
+	 */
+	private static final int FIELDS = NameField.values().length;
+
+	/**
+	 * Запрос имени по названию.
+	 */
+	@NotNull
+	private static final String SELECT_BY_NAME = """
+		SELECT * FROM `names` WHERE `name_key` = ? LIMIT 1
+		""";
+
+	/**
+	 * Запрос наличия имени.
+	 */
+	@NotNull
+	private static final String EXISTS_BY_NAME = """
+		SELECT EXISTS(SELECT 1 FROM `names` WHERE `name_key` = ?) AS `exists`
+		""";
+
+	/**
+	 * Запрос количества имён.
+	 */
+	@NotNull
+	private static final String COUNT = """
+		SELECT COUNT(*) AS `count` FROM `names`
+		""";
+
+	/**
+	 * Запрос имён в стране.
+	 */
+	@NotNull
+	private static final String SELECT_BY_COUNTRY = "SELECT * FROM `names` WHERE `country_key` = ? ORDER BY name ASC";
+
+	/**
+	 * Запрос имён в стране по плотности населения.
+	 */
+	@NotNull
+	private static final String SELECT_BY_COUNTRY_DENSITY =
+		"SELECT * FROM `names` WHERE `country_density_key` = ? ORDER BY name ASC";
+
+	/**
+	 * Запросы, подготавливаемые на каждом соединении при {@link #warmUp()}.
+	 */
+	@NotNull
+	private static final List<@NotNull String> WARM_UP = List.of(
+		SELECT_BY_NAME, EXISTS_BY_NAME, COUNT, SELECT_BY_COUNTRY, SELECT_BY_COUNTRY_DENSITY
+	);
+
+	/**
+	 * Текстовые столбцы ключей, вычисляемые из значений имени при добавлении.
+	 * <p>
+	 * Длина ключа названия хранится в числовом столбце {@code key_length}.
+	 */
+	@NotNull
+	private static final List<@NotNull String> KEY_COLUMNS = List.of(
+		"name_key", "country_key", "country_density_key", "sounds_like", "origin_key", "continent_key"
+	);
+
+	/**
+	 * Версия ключей, хранимая в {@code PRAGMA user_version}.
+	 * <p>
+	 * Увеличивается при изменении {@link Collation#fold(String)}, {@link Phonetics#encode(String)}
+	 * или набора столбцов ключей.
+	 * Выпуск Java в версию не входит, чтобы создание хранилища на другом выпуске не пересчитывало все ключи:
+	 * ключи поставляемой базы данных вычисляются при сборке, а свёртка символов её имён
+	 * не различается между выпусками Java.
+	 */
+	private static final int KEY_VERSION = 4;
+
+	/**
+	 * Наибольший символ Юникода, ограничивающий сверху интервал названий с общим началом.
+	 */
+	@NotNull
+	private static final String PREFIX_BOUND = new String(Character.toChars(Character.MAX_CODE_POINT));
+
+	/**
+	 * Запрос добавления имени.
+	 */
+	@NotNull
+	private static final String INSERT = """
+		INSERT INTO `names` (`name`, `length`, `rank_world`, `rank_country`, `usage_world`, `usage_country`, `origin`, `continent`, `country`, `country_density`,
+			`name_key`, `country_key`, `country_density_key`, `sounds_like`, `origin_key`, `continent_key`, `key_length`)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	/**
+	 * Запрос имён по фонетическому коду.
+	 */
+	@NotNull
+	private static final String SELECT_BY_SOUNDS_LIKE =
+		"SELECT * FROM `names` WHERE `sounds_like` = ? ORDER BY usage_world DESC, name ASC";
+
+	/**
+	 * Пул соединений только для чтения.
+	 */
+	@NotNull
+	private final ConnectionPool readPool;
+
+	/**
+	 * Пул соединений для изменения данных.
+	 */
+	@NotNull
+	private final ConnectionPool writePool;
+
+	/**
+	 * Количество имён в одном пакете при пакетном добавлении.
+	 */
+	private final int insertBatchSize;
+
+	/**
+	 * Словарь происхождений, континентов и стран, прочитанных из базы данных.
 	 */
 	@NotNull
-	private final Connection connection;
+	private final Dictionary dictionary;
 
 	/**
 	 * Конструктор для {@code NameRepository}.
 	 */
 	public NameRepository()
 	{
-		this.connection = Database.getConnection();
+		this(Database.getReadPool(), Database.getWritePool());
+	}
+
+	/**
+	 * Конструктор для {@code NameRepository}.
+	 *
+	 * @param readPool пул соединений только для чтения.
+	 * @param writePool пул соединений для изменения данных.
+	 */
+	public NameRepository(@NotNull final ConnectionPool readPool, @NotNull final ConnectionPool writePool)
+	{
+		this(readPool, writePool, Settings.getInsertBatchSize());
+	}
+
+	/**
+	 * Конструктор для {@code NameRepository}.
+	 *
+	 * @param readPool пул соединений только для чтения.
+	 * @param writePool пул соединений для изменения данных.
+	 * @param insertBatchSize количество имён в одном пакете при пакетном добавлении.
+	 * @throws IllegalArgumentException если количество имён в пакете меньше 1.
+	 */
+	public NameRepository(@NotNull final ConnectionPool readPool,
+						  @NotNull final ConnectionPool writePool,
+						  final int insertBatchSize)
+	{
+		if (insertBatchSize < 1) {
+			throw new IllegalArgumentException("Количество имён в пакете должно быть больше 0.");
+		}
+
+		this.readPool = readPool;
+		this.writePool = writePool;
+		this.insertBatchSize = insertBatchSize;
+		this.dictionary = new Dictionary();
 	}
 
 	/**
@@ -65,33 +227,20 @@ public class NameRepository implements NameRepositories
 	@Override
 	public Name getByName(@NotNull final String name)
 	{
-		String sql = """
-			SELECT * FROM `names` WHERE `name` = ? COLLATE NOCASE LIMIT 1
-			""";
-
-		try (PreparedStatement statement = connection.prepareStatement(sql))
+		try (PooledConnection connection = this.readPool.borrow())
 		{
-			statement.setString(1, name);
-			statement.execute();
-
-			ResultSet resultSet = statement.getResultSet();
+			PreparedStatement statement = connection.prepare(SELECT_BY_NAME);
+			statement.setString(1, Collation.fold(name));
 
-			if (resultSet.next())
+			try (ResultSet resultSet = statement.executeQuery())
 			{
-				return Name.of(
-					resultSet.getString("name"),
-					resultSet.getInt("rank_world"),
-					resultSet.getInt("rank_country"),
-					resultSet.getInt("usage_world"),
-					resultSet.getInt("usage_country"),
-					resultSet.getString("origin"),
-					resultSet.getString("continent"),
-					resultSet.getString("country"),
-					resultSet.getString("country_density")
-				);
-			}
+				if (resultSet.next())
+				{
+					return this.toName(resultSet);
+				}
 
-			throw new NameNotFoundException("Имя '" + name + "' не найдено.");
+				throw new NameNotFoundException("Имя '" + name + "' не найдено.");
+			}
 		}
 		catch (SQLException exception)
 		{
@@ -101,130 +250,107 @@ public class NameRepository implements NameRepositories
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * Названия ищутся запросами {@code IN} не более чем по {@value #BATCH_SIZE} названий.
 	 *
+	 * @param names {@inheritDoc}
 	 * @return {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	public Collection<@NotNull Name> getAll()
+	public Map<@NotNull String, @NotNull Name> getByNames(@NotNull final Collection<@NotNull String> names)
 	{
-		Collection<Name> names = new ArrayList<>();
+		Map<String, Name> namesByKey = new HashMap<>();
 
-		String sql = "SELECT * FROM `names` ORDER BY name ASC";
-
-		try (PreparedStatement statement = connection.prepareStatement(sql))
+		for (List<String> keys : NameRepository.toBatches(names))
 		{
-			statement.execute();
+			String sql = "SELECT * FROM `names` WHERE `name_key` IN (" + NameRepository.toPlaceholders(keys) + ")";
 
-			ResultSet resultSet = statement.getResultSet();
+			Cursor<Name> cursor = new Cursor<>(this.readPool, sql, statement -> NameRepository.bind(statement, keys), this::toName);
 
-			while (resultSet.next())
+			try (Stream<Name> rows = cursor.stream())
 			{
-				names.add(
-					Name.of(
-						resultSet.getString("name"),
-						resultSet.getInt("rank_world"),
-						resultSet.getInt("rank_country"),
-						resultSet.getInt("usage_world"),
-						resultSet.getInt("usage_country"),
-						resultSet.getString("origin"),
-						resultSet.getString("continent"),
-						resultSet.getString("country"),
-						resultSet.getString("country_density")
-					)
-				);
+				rows.forEach(name -> namesByKey.putIfAbsent(Collation.fold(name.getValue()), name));
 			}
 		}
-		catch (SQLException exception)
+
+		Map<String, Name> found = new LinkedHashMap<>();
+
+		for (String name : names)
 		{
-			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+			Name value = namesByKey.get(Collation.fold(name));
+
+			if (value != null) {
+				found.put(name, value);
+			}
 		}
 
-		return names;
+		return found;
 	}
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * Названия ищутся запросами {@code IN} не более чем по {@value #BATCH_SIZE} названий.
 	 *
-	 * @param country {@inheritDoc}
+	 * @param names {@inheritDoc}
 	 * @return {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	public Collection<@NotNull Name> getByCountry(@NotNull final String country)
+	public Set<@NotNull String> existsByNames(@NotNull final Collection<@NotNull String> names)
 	{
-		Collection<Name> names = new ArrayList<>();
-
-		String sql = "SELECT * FROM `names` WHERE `country` = ? COLLATE NOCASE ORDER BY name ASC";
+		Set<String> existingKeys = new HashSet<>();
 
-		try (PreparedStatement statement = connection.prepareStatement(sql))
+		for (List<String> keys : NameRepository.toBatches(names))
 		{
-			statement.setString(1, country);
-			statement.execute();
+			String sql = "SELECT `name` FROM `names` WHERE `name_key` IN (" + NameRepository.toPlaceholders(keys) + ")";
 
-			ResultSet resultSet = statement.getResultSet();
+			Cursor<String> cursor = new Cursor<>(
+				this.readPool, sql, statement -> NameRepository.bind(statement, keys), resultSet -> resultSet.getString("name")
+			);
 
-			while (resultSet.next())
+			try (Stream<String> rows = cursor.stream())
 			{
-				names.add(
-					Name.of(
-						resultSet.getString("name"),
-						resultSet.getInt("rank_world"),
-						resultSet.getInt("rank_country"),
-						resultSet.getInt("usage_world"),
-						resultSet.getInt("usage_country"),
-						resultSet.getString("origin"),
-						resultSet.getString("continent"),
-						resultSet.getString("country"),
-						resultSet.getString("country_density")
-					)
-				);
+				rows.forEach(name -> existingKeys.add(Collation.fold(name)));
 			}
 		}
-		catch (SQLException exception)
+
+		Set<String> found = new LinkedHashSet<>();
+
+		for (String name : names)
 		{
-			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+			if (existingKeys.contains(Collation.fold(name))) {
+				found.add(name);
+			}
 		}
 
-		return names;
+		return found;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 *
-	 * @param country {@inheritDoc}
 	 * @return {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	public Collection<@NotNull Name> getByCountryDensity(@NotNull final String country)
+	public Collection<@NotNull Name> getAll()
 	{
 		Collection<Name> names = new ArrayList<>();
 
-		String sql = "SELECT * FROM `names` WHERE `country_density` = ? COLLATE NOCASE ORDER BY name ASC";
+		String sql = "SELECT * FROM `names` ORDER BY name ASC";
 
-		try (PreparedStatement statement = connection.prepareStatement(sql))
+		try (PooledConnection connection = this.readPool.borrow())
 		{
-			statement.setString(1, country);
-			statement.execute();
-
-			ResultSet resultSet = statement.getResultSet();
+			PreparedStatement statement = connection.prepare(sql);
 
-			while (resultSet.next())
+			try (ResultSet resultSet = statement.executeQuery())
 			{
-				names.add(
-					Name.of(
-						resultSet.getString("name"),
-						resultSet.getInt("rank_world"),
-						resultSet.getInt("rank_country"),
-						resultSet.getInt("usage_world"),
-						resultSet.getInt("usage_country"),
-						resultSet.getString("origin"),
-						resultSet.getString("continent"),
-						resultSet.getString("country"),
-						resultSet.getString("country_density")
-					)
-				);
+				while (resultSet.next())
+				{
+					names.add(this.toName(resultSet));
+				}
 			}
 		}
 		catch (SQLException exception)
@@ -238,97 +364,64 @@ public class NameRepository implements NameRepositories
 	/**
 	 * {@inheritDoc}
 	 *
-	 * @param min {@inheritDoc}
-	 * @param max {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
 	 * @return {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	public Collection<@NotNull Name> getBetweenUsageWorld(final int min, final int max)
+	public Collection<@NotNull Name> getAll(@Nullable final String after, final int limit)
 	{
-		Collection<Name> names = new ArrayList<>();
-
-		String sql = "SELECT * FROM `names` WHERE `usage_world` BETWEEN ? AND ? ORDER BY usage_world ASC";
+		NameRepository.checkLimit(limit);
 
-		try (PreparedStatement statement = connection.prepareStatement(sql))
+		if (after == null)
 		{
-			statement.setInt(1, min);
-			statement.setInt(2, max);
-			statement.execute();
+			String sql = "SELECT * FROM `names` ORDER BY name ASC LIMIT ?";
 
-			ResultSet resultSet = statement.getResultSet();
-
-			while (resultSet.next())
-			{
-				names.add(
-					Name.of(
-						resultSet.getString("name"),
-						resultSet.getInt("rank_world"),
-						resultSet.getInt("rank_country"),
-						resultSet.getInt("usage_world"),
-						resultSet.getInt("usage_country"),
-						resultSet.getString("origin"),
-						resultSet.getString("continent"),
-						resultSet.getString("country"),
-						resultSet.getString("country_density")
-					)
-				);
-			}
-		}
-		catch (SQLException exception)
-		{
-			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+			return this.query(sql, statement -> statement.setInt(1, limit));
 		}
 
-		return names;
+		String sql = "SELECT * FROM `names` WHERE `name` > ? ORDER BY name ASC LIMIT ?";
+
+		return this.query(sql, statement -> {
+			statement.setString(1, after);
+			statement.setInt(2, limit);
+		});
 	}
 
 	/**
 	 * {@inheritDoc}
 	 *
-	 * @param min {@inheritDoc}
-	 * @param max {@inheritDoc}
+	 * @param country {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
 	 * @return {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	public Collection<@NotNull Name> getBetweenUsageCountry(final int min, final int max)
+	public Collection<@NotNull Name> getByCountry(@NotNull final String country,
+												  @Nullable final String after,
+												  final int limit)
 	{
-		Collection<Name> names = new ArrayList<>();
-
-		String sql = "SELECT * FROM `names` WHERE `usage_country` BETWEEN ? AND ? ORDER BY usage_country ASC";
+		NameRepository.checkLimit(limit);
 
-		try (PreparedStatement statement = connection.prepareStatement(sql))
+		if (after == null)
 		{
-			statement.setInt(1, min);
-			statement.setInt(2, max);
-			statement.execute();
+			String sql = "SELECT * FROM `names` WHERE `country_key` = ? ORDER BY name ASC LIMIT ?";
 
-			ResultSet resultSet = statement.getResultSet();
-
-			while (resultSet.next())
-			{
-				names.add(
-					Name.of(
-						resultSet.getString("name"),
-						resultSet.getInt("rank_world"),
-						resultSet.getInt("rank_country"),
-						resultSet.getInt("usage_world"),
-						resultSet.getInt("usage_country"),
-						resultSet.getString("origin"),
-						resultSet.getString("continent"),
-						resultSet.getString("country"),
-						resultSet.getString("country_density")
-					)
-				);
-			}
-		}
-		catch (SQLException exception)
-		{
-			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+			return this.query(sql, statement -> {
+				statement.setString(1, Collation.fold(country));
+				statement.setInt(2, limit);
+			});
 		}
 
-		return names;
+		String sql = "SELECT * FROM `names` WHERE `country_key` = ? AND `name` > ? ORDER BY name ASC LIMIT ?";
+
+		return this.query(sql, statement -> {
+			statement.setString(1, Collation.fold(country));
+			statement.setString(2, after);
+			statement.setInt(3, limit);
+		});
 	}
 
 	/**
@@ -336,47 +429,18 @@ public class NameRepository implements NameRepositories
 	 *
 	 * @param min {@inheritDoc}
 	 * @param max {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
 	 * @return {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	public Collection<@NotNull Name> getBetweenRankWorld(final int min, final int max)
+	public Collection<@NotNull Name> getBetweenUsageWorld(final int min,
+														  final int max,
+														  @Nullable final Name after,
+														  final int limit)
 	{
-		Collection<Name> names = new ArrayList<>();
-
-		String sql = "SELECT * FROM `names` WHERE `rank_world` BETWEEN ? AND ? ORDER BY rank_world ASC";
-
-		try (PreparedStatement statement = connection.prepareStatement(sql))
-		{
-			statement.setInt(1, min);
-			statement.setInt(2, max);
-			statement.execute();
-
-			ResultSet resultSet = statement.getResultSet();
-
-			while (resultSet.next())
-			{
-				names.add(
-					Name.of(
-						resultSet.getString("name"),
-						resultSet.getInt("rank_world"),
-						resultSet.getInt("rank_country"),
-						resultSet.getInt("usage_world"),
-						resultSet.getInt("usage_country"),
-						resultSet.getString("origin"),
-						resultSet.getString("continent"),
-						resultSet.getString("country"),
-						resultSet.getString("country_density")
-					)
-				);
-			}
-		}
-		catch (SQLException exception)
-		{
-			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
-		}
-
-		return names;
+		return this.getBetween("usage_world", min, max, (after == null) ? null : after.getUsageWorld(), after, limit);
 	}
 
 	/**
@@ -384,171 +448,956 @@ public class NameRepository implements NameRepositories
 	 *
 	 * @param min {@inheritDoc}
 	 * @param max {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
 	 * @return {@inheritDoc}
 	 */
 	@NotNull
 	@Override
-	public Collection<@NotNull Name> getBetweenRankCountry(final int min, final int max)
+	public Collection<@NotNull Name> getBetweenUsageCountry(final int min,
+															final int max,
+															@Nullable final Name after,
+															final int limit)
 	{
-		Collection<Name> names = new ArrayList<>();
-
-		String sql = "SELECT * FROM `names` WHERE `rank_country` BETWEEN ? AND ? ORDER BY rank_country ASC";
-
-		try (PreparedStatement statement = connection.prepareStatement(sql))
-		{
-			statement.setInt(1, min);
-			statement.setInt(2, max);
-			statement.execute();
-
-			ResultSet resultSet = statement.getResultSet();
-
-			while (resultSet.next())
-			{
-				names.add(
-					Name.of(
-						resultSet.getString("name"),
-						resultSet.getInt("rank_world"),
-						resultSet.getInt("rank_country"),
-						resultSet.getInt("usage_world"),
-						resultSet.getInt("usage_country"),
-						resultSet.getString("origin"),
-						resultSet.getString("continent"),
-						resultSet.getString("country"),
-						resultSet.getString("country_density")
-					)
-				);
-			}
-		}
-		catch (SQLException exception)
-		{
-			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
-		}
-
-		return names;
+		return this.getBetween("usage_country", min, max, (after == null) ? null : after.getUsageCountry(), after, limit);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
 	 * @return {@inheritDoc}
 	 */
+	@NotNull
 	@Override
-	public int count()
+	public Collection<@NotNull Name> getBetweenRankWorld(final int min,
+														 final int max,
+														 @Nullable final Name after,
+														 final int limit)
 	{
-		String sql = """
-			SELECT COUNT(*) AS `count` FROM `names`
-			""";
-
-		try (PreparedStatement statement = connection.prepareStatement(sql)) {
-			statement.execute();
-
-			ResultSet resultSet = statement.getResultSet();
-			resultSet.next();
-
-			return resultSet.getInt("count");
-		}
-		catch (SQLException exception)
-		{
-			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
-		}
+		return this.getBetween("rank_world", min, max, (after == null) ? null : after.getRankWorld(), after, limit);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 *
-	 * @param name {@inheritDoc}
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
 	 * @return {@inheritDoc}
 	 */
+	@NotNull
 	@Override
-	public boolean existsByName(@NotNull final String name)
+	public Collection<@NotNull Name> getBetweenRankCountry(final int min,
+														   final int max,
+														   @Nullable final Name after,
+														   final int limit)
 	{
-		int count = 0;
-
-		String sql = """
-			SELECT COUNT(*) AS `count` FROM `names` WHERE `name` = ? COLLATE NOCASE LIMIT 1
-			""";
-
-		try (PreparedStatement statement = connection.prepareStatement(sql)) {
-			statement.setString(1, name);
-			statement.execute();
+		return this.getBetween("rank_country", min, max, (after == null) ? null : after.getRankCountry(), after, limit);
+	}
 
-			ResultSet resultSet = statement.getResultSet();
-			resultSet.next();
-			count = resultSet.getInt("count");
-		}
-		catch (SQLException exception)
-		{
-			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
-		}
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Stream<@NotNull Name> streamAll()
+	{
+		String sql = "SELECT * FROM `names` ORDER BY name ASC";
 
-		return (count != 0);
+		return new Cursor<>(this.readPool, sql, statement -> {}, this::toName).stream();
 	}
 
 	/**
 	 * {@inheritDoc}
 	 *
-	 * @param name {@inheritDoc}
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
 	 */
+	@NotNull
 	@Override
-	public void deleteByName(@NotNull final String name)
+	public Stream<@NotNull Name> streamByCountry(@NotNull final String country)
 	{
-		String sql = """
-			DELETE FROM `names` WHERE `name` = ? COLLATE NOCASE
-			""";
+		String sql = "SELECT * FROM `names` WHERE `country_key` = ? ORDER BY name ASC";
 
-		try (PreparedStatement statement = connection.prepareStatement(sql)) {
-			statement.setString(1, name);
-			statement.execute();
-		}
-		catch (SQLException exception)
-		{
-			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
-		}
+		return new Cursor<>(this.readPool, sql, statement -> statement.setString(1, Collation.fold(country)), this::toName).stream();
 	}
 
 	/**
 	 * {@inheritDoc}
 	 *
-	 * @param name {@inheritDoc}
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
 	 */
+	@NotNull
 	@Override
-	public void add(@NotNull final Name name)
+	public Stream<@NotNull Name> streamByCountryDensity(@NotNull final String country)
 	{
-		String sql = """
-			INSERT INTO names (name, length, rank_world, rank_country, usage_world, usage_country, origin, continent, country, country_density)
-			VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-			""";
-
-		try (PreparedStatement statement = connection.prepareStatement(sql))
-		{
-			statement.setString(1, name.getValue());
-			statement.setInt(2, name.getLength());
-			statement.setInt(3, name.getRankWorld());
-			statement.setInt(4, name.getRankCountry());
-			statement.setInt(5, name.getUsageWorld());
-			statement.setInt(6, name.getUsageCountry());
-			statement.setString(7, name.getOrigin());
-			statement.setString(8, name.getCountry());
-			statement.setString(9, name.getContinent());
-			statement.setString(10, name.getCountryDensity());
+		String sql = "SELECT * FROM `names` WHERE `country_density_key` = ? ORDER BY name ASC";
 
-			statement.execute();
-		}
-		catch (SQLException exception)
-		{
-			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
-		}
+		return new Cursor<>(this.readPool, sql, statement -> statement.setString(1, Collation.fold(country)), this::toName).stream();
 	}
 
 	/**
 	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
 	 */
+	@NotNull
 	@Override
-	public void create()
+	public Flow.Publisher<@NotNull Name> publishAll()
 	{
-		StringBuilder sql = new StringBuilder();
-		sql.append("CREATE TABLE IF NOT EXISTS `names` (");
-		sql.append("`id` INTEGER NOT NULL");
+		return new StreamPublisher<>(this::streamAll);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishByCountry(@NotNull final String country)
+	{
+		return new StreamPublisher<>(() -> this.streamByCountry(country));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishByCountryDensity(@NotNull final String country)
+	{
+		return new StreamPublisher<>(() -> this.streamByCountryDensity(country));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishBetweenUsageWorld(final int min, final int max)
+	{
+		return new StreamPublisher<>(() -> this.streamBetween("usage_world", min, max));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishBetweenUsageCountry(final int min, final int max)
+	{
+		return new StreamPublisher<>(() -> this.streamBetween("usage_country", min, max));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishBetweenRankWorld(final int min, final int max)
+	{
+		return new StreamPublisher<>(() -> this.streamBetween("rank_world", min, max));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishBetweenRankCountry(final int min, final int max)
+	{
+		return new StreamPublisher<>(() -> this.streamBetween("rank_country", min, max));
+	}
+
+	/**
+	 * Возвращает список всех имён в порядке записей таблицы.
+	 *
+	 * @return список всех имён.
+	 */
+	@NotNull
+	Collection<@NotNull Name> getAllInTableOrder()
+	{
+		Collection<Name> names = new ArrayList<>();
+
+		String sql = "SELECT * FROM `names` ORDER BY id ASC";
+
+		try (PooledConnection connection = this.readPool.borrow())
+		{
+			PreparedStatement statement = connection.prepare(sql);
+
+			try (ResultSet resultSet = statement.executeQuery())
+			{
+				while (resultSet.next())
+				{
+					names.add(this.toName(resultSet));
+				}
+			}
+		}
+		catch (SQLException exception)
+		{
+			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+		}
+
+		return names;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByCountry(@NotNull final String country)
+	{
+		Collection<Name> names = new ArrayList<>();
+
+		try (PooledConnection connection = this.readPool.borrow())
+		{
+			PreparedStatement statement = connection.prepare(SELECT_BY_COUNTRY);
+			statement.setString(1, Collation.fold(country));
+
+			try (ResultSet resultSet = statement.executeQuery())
+			{
+				while (resultSet.next())
+				{
+					names.add(this.toName(resultSet));
+				}
+			}
+		}
+		catch (SQLException exception)
+		{
+			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+		}
+
+		return names;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByCountryDensity(@NotNull final String country)
+	{
+		Collection<Name> names = new ArrayList<>();
+
+		try (PooledConnection connection = this.readPool.borrow())
+		{
+			PreparedStatement statement = connection.prepare(SELECT_BY_COUNTRY_DENSITY);
+			statement.setString(1, Collation.fold(country));
+
+			try (ResultSet resultSet = statement.executeQuery())
+			{
+				while (resultSet.next())
+				{
+					names.add(this.toName(resultSet));
+				}
+			}
+		}
+		catch (SQLException exception)
+		{
+			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+		}
+
+		return names;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenUsageWorld(final int min, final int max)
+	{
+		Collection<Name> names = new ArrayList<>();
+
+		String sql = "SELECT * FROM `names` WHERE `usage_world` BETWEEN ? AND ? ORDER BY usage_world ASC, name ASC";
+
+		try (PooledConnection connection = this.readPool.borrow())
+		{
+			PreparedStatement statement = connection.prepare(sql);
+			statement.setInt(1, min);
+			statement.setInt(2, max);
+
+			try (ResultSet resultSet = statement.executeQuery())
+			{
+				while (resultSet.next())
+				{
+					names.add(this.toName(resultSet));
+				}
+			}
+		}
+		catch (SQLException exception)
+		{
+			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+		}
+
+		return names;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenUsageCountry(final int min, final int max)
+	{
+		Collection<Name> names = new ArrayList<>();
+
+		String sql = "SELECT * FROM `names` WHERE `usage_country` BETWEEN ? AND ? ORDER BY usage_country ASC, name ASC";
+
+		try (PooledConnection connection = this.readPool.borrow())
+		{
+			PreparedStatement statement = connection.prepare(sql);
+			statement.setInt(1, min);
+			statement.setInt(2, max);
+
+			try (ResultSet resultSet = statement.executeQuery())
+			{
+				while (resultSet.next())
+				{
+					names.add(this.toName(resultSet));
+				}
+			}
+		}
+		catch (SQLException exception)
+		{
+			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+		}
+
+		return names;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenRankWorld(final int min, final int max)
+	{
+		Collection<Name> names = new ArrayList<>();
+
+		String sql = "SELECT * FROM `names` WHERE `rank_world` BETWEEN ? AND ? ORDER BY rank_world ASC, name ASC";
+
+		try (PooledConnection connection = this.readPool.borrow())
+		{
+			PreparedStatement statement = connection.prepare(sql);
+			statement.setInt(1, min);
+			statement.setInt(2, max);
+
+			try (ResultSet resultSet = statement.executeQuery())
+			{
+				while (resultSet.next())
+				{
+					names.add(this.toName(resultSet));
+				}
+			}
+		}
+		catch (SQLException exception)
+		{
+			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+		}
+
+		return names;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenRankCountry(final int min, final int max)
+	{
+		Collection<Name> names = new ArrayList<>();
+
+		String sql = "SELECT * FROM `names` WHERE `rank_country` BETWEEN ? AND ? ORDER BY rank_country ASC, name ASC";
+
+		try (PooledConnection connection = this.readPool.borrow())
+		{
+			PreparedStatement statement = connection.prepare(sql);
+			statement.setInt(1, min);
+			statement.setInt(2, max);
+
+			try (ResultSet resultSet = statement.executeQuery())
+			{
+				while (resultSet.next())
+				{
+					names.add(this.toName(resultSet));
+				}
+			}
+		}
+		catch (SQLException exception)
+		{
+			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+		}
+
+		return names;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int count()
+	{
+		try (PooledConnection connection = this.readPool.borrow())
+		{
+			PreparedStatement statement = connection.prepare(COUNT);
+
+			try (ResultSet resultSet = statement.executeQuery())
+			{
+				resultSet.next();
+
+				return resultSet.getInt("count");
+			}
+		}
+		catch (SQLException exception)
+		{
+			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param name {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean existsByName(@NotNull final String name)
+	{
+		try (PooledConnection connection = this.readPool.borrow())
+		{
+			PreparedStatement statement = connection.prepare(EXISTS_BY_NAME);
+			statement.setString(1, Collation.fold(name));
+
+			try (ResultSet resultSet = statement.executeQuery())
+			{
+				resultSet.next();
+
+				return resultSet.getBoolean("exists");
+			}
+		}
+		catch (SQLException exception)
+		{
+			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param name {@inheritDoc}
+	 */
+	@Override
+	public void deleteByName(@NotNull final String name)
+	{
+		String sql = """
+			DELETE FROM `names` WHERE `name_key` = ?
+			""";
+
+		try (PooledConnection connection = this.writePool.borrow())
+		{
+			PreparedStatement statement = connection.prepare(sql);
+			statement.setString(1, Collation.fold(name));
+			statement.executeUpdate();
+		}
+		catch (SQLException exception)
+		{
+			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull String> getNameValuesByCountry(@NotNull final String country)
+	{
+		String sql = "SELECT `name` FROM `names` WHERE `country_key` = ? ORDER BY name ASC";
+
+		return this.query(sql, statement -> statement.setString(1, Collation.fold(country)), resultSet -> resultSet.getString(1));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull String> getNameValuesBetweenRankWorld(final int min, final int max)
+	{
+		String sql = "SELECT `name` FROM `names` WHERE `rank_world` BETWEEN ? AND ? ORDER BY rank_world ASC, name ASC";
+
+		return this.query(sql, statement -> {
+			statement.setInt(1, min);
+			statement.setInt(2, max);
+		}, resultSet -> resultSet.getString(1));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @param fields {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull NameProjection> getFieldsByCountry(@NotNull final String country,
+															@NotNull final Set<@NotNull NameField> fields)
+	{
+		Set<NameField> selected = NameProjection.toFields(fields);
+
+		String sql = "SELECT " + NameRepository.toColumns(selected) + " FROM `names` " +
+			"WHERE `country_key` = ? ORDER BY name ASC";
+
+		return this.query(
+			sql, statement -> statement.setString(1, Collation.fold(country)), resultSet -> NameRepository.toProjection(resultSet, selected)
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @param fields {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull NameProjection> getFieldsBetweenRankWorld(final int min,
+																   final int max,
+																   @NotNull final Set<@NotNull NameField> fields)
+	{
+		Set<NameField> selected = NameProjection.toFields(fields);
+
+		String sql = "SELECT " + NameRepository.toColumns(selected) + " FROM `names` " +
+			"WHERE `rank_world` BETWEEN ? AND ? ORDER BY rank_world ASC, name ASC";
+
+		return this.query(sql, statement -> {
+			statement.setInt(1, min);
+			statement.setInt(2, max);
+		}, resultSet -> NameRepository.toProjection(resultSet, selected));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Начало имени проверяется интервалом по индексу названий без учёта регистра:
+	 * имена с началом {@code prefix} не меньше {@code prefix} и меньше {@code prefix},
+	 * дополненного наибольшим символом Юникода.
+	 *
+	 * @param prefix {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull Name> getByPrefix(@NotNull final String prefix, final int limit)
+	{
+		NameRepository.checkLimit(limit);
+
+		String sql = "SELECT * FROM `names` WHERE `name_key` >= ? AND `name_key` < ? " +
+			"ORDER BY rank_world ASC, name ASC LIMIT ?";
+
+		return this.query(sql, statement -> {
+			statement.setString(1, Collation.fold(prefix));
+			statement.setString(2, Collation.fold(prefix) + PREFIX_BOUND);
+			statement.setInt(3, limit);
+		}, this::toName);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Сначала из индекса по длине ключа читаются только различные ключи названий, длина которых отличается
+	 * от длины ключа запроса не более чем на количество правок, и расстояние вычисляется для каждого из них.
+	 * Затем полностью читаются только найденные имена.
+	 *
+	 * @param query {@inheritDoc}
+	 * @param maxEdits {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull Name> searchFuzzy(@NotNull final String query, final int maxEdits, final int limit)
+	{
+		NameRepository.checkEdits(maxEdits);
+		NameRepository.checkLimit(limit);
+
+		String key = Collation.fold(query);
+		String sql = "SELECT DISTINCT `name_key` FROM `names` WHERE `key_length` BETWEEN ? AND ?";
+
+		List<String> keys = this.query(sql, statement -> {
+			statement.setInt(1, key.length() - maxEdits);
+			statement.setInt(2, key.length() + maxEdits);
+		}, resultSet -> resultSet.getString("name_key"));
+		List<String> found = new ArrayList<>();
+
+		for (String value : keys)
+		{
+			if (Collation.distance(key, value) <= maxEdits) {
+				found.add(value);
+			}
+		}
+
+		List<FuzzyMatch> matches = new ArrayList<>();
+
+		for (List<String> batch : NameRepository.toBatches(found))
+		{
+			String names = "SELECT * FROM `names` WHERE `name_key` IN (" + NameRepository.toPlaceholders(batch) + ")";
+
+			matches.addAll(this.query(names, statement -> NameRepository.bind(statement, batch), resultSet -> {
+				Name name = this.toName(resultSet);
+
+				return new FuzzyMatch(name, Collation.distance(query, name.getValue()));
+			}));
+		}
+
+		return FuzzyMatch.top(matches, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Фонетические коды хранятся в отдельном столбце и вычисляются при добавлении имени.
+	 *
+	 * @param name {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull Name> getBySoundsLike(@NotNull final String name)
+	{
+		String code = Phonetics.encode(name);
+
+		if (code.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		return this.query(SELECT_BY_SOUNDS_LIKE, statement -> statement.setString(1, code), this::toName);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByLength(final int length)
+	{
+		String sql = "SELECT * FROM `names` WHERE `length` = ? ORDER BY name ASC";
+
+		return this.query(sql, statement -> statement.setInt(1, length));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenLength(final int min, final int max)
+	{
+		String sql = "SELECT * FROM `names` WHERE `length` BETWEEN ? AND ? ORDER BY length ASC, name ASC";
+
+		return this.query(sql, statement -> {
+			statement.setInt(1, min);
+			statement.setInt(2, max);
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param continent {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByContinent(@NotNull final String continent)
+	{
+		String sql = "SELECT * FROM `names` WHERE `continent_key` = ? ORDER BY name ASC";
+
+		return this.query(sql, statement -> statement.setString(1, Collation.fold(continent)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param origin {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByOrigin(@NotNull final String origin)
+	{
+		String sql = "SELECT * FROM `names` WHERE `origin_key` = ? ORDER BY name ASC";
+
+		return this.query(sql, statement -> statement.setString(1, Collation.fold(origin)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Условия проверяются одним запросом по столбцам ключей характеристик, у каждого из которых
+	 * есть индекс, поэтому база данных выбирает имена по индексу, а не просмотром всей таблицы.
+	 *
+	 * @param attributes {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByAttributes(@NotNull final Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes)
+	{
+		List<String> values = new ArrayList<>();
+		String condition = NameRepository.toCondition(attributes, values);
+
+		if (condition == null) {
+			return Collections.emptyList();
+		}
+
+		String sql = "SELECT * FROM `names`" + condition + " ORDER BY name ASC";
+
+		return this.query(sql, statement -> NameRepository.bind(statement, values));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param attributes {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int countByAttributes(@NotNull final Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes)
+	{
+		List<String> values = new ArrayList<>();
+		String condition = NameRepository.toCondition(attributes, values);
+
+		if (condition == null) {
+			return 0;
+		}
+
+		String sql = "SELECT COUNT(*) FROM `names`" + condition;
+
+		return this.query(sql, statement -> NameRepository.bind(statement, values), resultSet -> resultSet.getInt(1)).get(0);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Запрос выполняется одним параметризованным запросом к базе данных,
+	 * а индекс для него выбирает планировщик базы данных.
+	 *
+	 * @param query {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull Name> getByQuery(@NotNull final NameQuery query)
+	{
+		List<Object> values = new ArrayList<>();
+		String sql = NameRepository.toQuery(query, "*", values);
+
+		if (sql == null) {
+			return Collections.emptyList();
+		}
+
+		return this.query(sql, statement -> NameRepository.bind(statement, values), this::toName);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param query {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull NameProjection> getFieldsByQuery(@NotNull final NameQuery query)
+	{
+		Set<NameField> selected = query.getFields();
+		List<Object> values = new ArrayList<>();
+		String sql = NameRepository.toQuery(query, NameRepository.toColumns(selected), values);
+
+		if (sql == null) {
+			return Collections.emptyList();
+		}
+
+		return this.query(
+			sql, statement -> NameRepository.bind(statement, values), resultSet -> NameRepository.toProjection(resultSet, selected)
+		);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param name {@inheritDoc}
+	 */
+	@Override
+	public void add(@NotNull final Name name)
+	{
+		try (PooledConnection connection = this.writePool.borrow())
+		{
+			PreparedStatement statement = connection.prepare(INSERT);
+			NameRepository.bind(statement, name);
+
+			statement.executeUpdate();
+		}
+		catch (SQLException exception)
+		{
+			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param names {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public BatchResult addAll(@NotNull final Collection<@NotNull Name> names)
+	{
+		return this.addAll(names.iterator());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Количество имён в пакете задаётся системным свойством {@value Settings#INSERT_BATCH_SIZE}.
+	 *
+	 * @param names {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public BatchResult addAll(@NotNull final Iterator<@NotNull Name> names)
+	{
+		long start = System.nanoTime();
+		long rows = 0;
+		int batches = 0;
+
+		try (PooledConnection pooled = this.writePool.borrow())
+		{
+			Connection connection = pooled.getConnection();
+			PreparedStatement statement = pooled.prepare(INSERT);
+			boolean autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+
+			try {
+				int size = 0;
+
+				while (names.hasNext())
+				{
+					NameRepository.bind(statement, names.next());
+					statement.addBatch();
+					size++;
+
+					if (size == this.insertBatchSize || !names.hasNext())
+					{
+						statement.executeBatch();
+						connection.commit();
+
+						rows += size;
+						batches++;
+						size = 0;
+					}
+				}
+			} catch (SQLException | RuntimeException exception) {
+				statement.clearBatch();
+				connection.rollback();
+
+				throw exception;
+			} finally {
+				connection.setAutoCommit(autoCommit);
+			}
+		}
+		catch (SQLException exception)
+		{
+			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+		}
+
+		return new BatchResult(rows, batches, System.nanoTime() - start);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void create()
+	{
+		StringBuilder sql = new StringBuilder();
+		sql.append("CREATE TABLE IF NOT EXISTS `names` (");
+		sql.append("`id` INTEGER NOT NULL");
 
 		sql.append(", `name` TEXT NOT NULL");
 		sql.append(", `length` INTEGER NOT NULL");
@@ -560,18 +1409,637 @@ public class NameRepository implements NameRepositories
 		sql.append(", `continent` TEXT NOT NULL");
 		sql.append(", `country` TEXT NOT NULL");
 		sql.append(", `country_density` TEXT NOT NULL");
+		sql.append(", `name_key` TEXT NOT NULL DEFAULT ''");
+		sql.append(", `country_key` TEXT NOT NULL DEFAULT ''");
+		sql.append(", `country_density_key` TEXT NOT NULL DEFAULT ''");
+		sql.append(", `sounds_like` TEXT NOT NULL DEFAULT ''");
+		sql.append(", `origin_key` TEXT NOT NULL DEFAULT ''");
+		sql.append(", `continent_key` TEXT NOT NULL DEFAULT ''");
+		sql.append(", `key_length` INTEGER NOT NULL DEFAULT 0");
 
 		sql.append(", PRIMARY KEY(`id`)");
 		sql.append(", UNIQUE(`name`)");
 		sql.append(")");
 
-		try (Statement statement = connection.createStatement())
+		try (PooledConnection connection = this.writePool.borrow();
+			 Statement statement = connection.getConnection().createStatement())
 		{
 			statement.execute(sql.toString());
+
+			NameRepository.upgrade(connection.getConnection());
+		}
+		catch (SQLException exception)
+		{
+			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+		}
+	}
+
+	/**
+	 * Обновляет схему таблицы и ключи имён, если они созданы другой версией.
+	 * <p>
+	 * Запросы не меняют схему таблицы, поэтому базу данных, созданную прежней версией библиотеки,
+	 * нужно обновить этим методом или классом {@link NameDatabaseUpgrade} один раз перед запросами.
+	 * Поставляемая база данных обновляется при сборке.
+	 * Если версия ключей совпадает, то читается только она и соединение для изменения данных не используется.
+	 *
+	 * @throws DatabaseException если не удалось обновить схему таблицы.
+	 */
+	public void upgrade()
+	{
+		try (PooledConnection connection = this.readPool.borrow())
+		{
+			if (NameRepository.getVersion(connection.getConnection()) == KEY_VERSION) {
+				return;
+			}
+		}
+		catch (SQLException exception)
+		{
+			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+		}
+
+		try (PooledConnection connection = this.writePool.borrow())
+		{
+			NameRepository.upgrade(connection.getConnection());
+		}
+		catch (SQLException exception)
+		{
+			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
+		}
+	}
+
+	/**
+	 * Обновляет таблицу до текущей {@link #KEY_VERSION версии ключей}.
+	 * <p>
+	 * Если версия в {@code PRAGMA user_version} отличается, то в одной транзакции добавляются
+	 * недостающие столбцы ключей, ключи всех имён вычисляются заново, создаются недостающие индексы
+	 * и записывается текущая версия.
+	 * Ключи названия, происхождения, континента, страны и страны по плотности населения
+	 * вычисляются {@link Collation#fold(String)},
+	 * фонетический код вычисляется {@link Phonetics#encode(String)}.
+	 * Длина ключа названия ограничивает ключи, которые сравниваются при нечётком поиске.
+	 * Индексы без учёта регистра {@code NOCASE} заменяются индексами по ключам.
+	 * Индексы пар значения и названия нужны для постраничного получения имён по интервалу значений.
+	 *
+	 * @param connection соединение для изменения данных.
+	 * @throws SQLException если не удалось выполнить запрос.
+	 */
+	private static void upgrade(@NotNull final Connection connection)
+		throws SQLException
+	{
+		if (NameRepository.getVersion(connection) == KEY_VERSION) {
+			return;
+		}
+
+		Set<String> columns = new HashSet<>();
+
+		try (Statement statement = connection.createStatement();
+			 ResultSet resultSet = statement.executeQuery("PRAGMA table_info(`names`)"))
+		{
+			while (resultSet.next())
+			{
+				columns.add(resultSet.getString("name"));
+			}
+		}
+
+		boolean autoCommit = connection.getAutoCommit();
+		connection.setAutoCommit(false);
+
+		try (Statement statement = connection.createStatement())
+		{
+			for (String column : KEY_COLUMNS)
+			{
+				if (!columns.contains(column)) {
+					statement.execute("ALTER TABLE `names` ADD COLUMN `" + column + "` TEXT NOT NULL DEFAULT ''");
+				}
+			}
+
+			if (!columns.contains("key_length")) {
+				statement.execute("ALTER TABLE `names` ADD COLUMN `key_length` INTEGER NOT NULL DEFAULT 0");
+			}
+
+			String select = "SELECT `id`, `name`, `origin`, `continent`, `country`, `country_density` FROM `names`";
+			String sql = "UPDATE `names` SET `name_key` = ?, `country_key` = ?, `country_density_key` = ?, `sounds_like` = ?, " +
+				"`origin_key` = ?, `continent_key` = ?, `key_length` = ? WHERE `id` = ?";
+
+			try (ResultSet resultSet = statement.executeQuery(select);
+				 PreparedStatement update = connection.prepareStatement(sql))
+			{
+				while (resultSet.next())
+				{
+					String key = Collation.fold(resultSet.getString("name"));
+
+					update.setString(1, key);
+					update.setString(2, Collation.fold(resultSet.getString("country")));
+					update.setString(3, Collation.fold(resultSet.getString("country_density")));
+					update.setString(4, Phonetics.encode(resultSet.getString("name")));
+					update.setString(5, Collation.fold(resultSet.getString("origin")));
+					update.setString(6, Collation.fold(resultSet.getString("continent")));
+					update.setInt(7, key.length());
+					update.setLong(8, resultSet.getLong("id"));
+					update.addBatch();
+				}
+
+				update.executeBatch();
+			}
+
+			statement.execute("DROP INDEX IF EXISTS `names_name_nocase`");
+			statement.execute("DROP INDEX IF EXISTS `names_country`");
+			statement.execute("CREATE INDEX IF NOT EXISTS `names_name_key` ON `names` (`name_key`)");
+			statement.execute("CREATE INDEX IF NOT EXISTS `names_key_length` ON `names` (`key_length`, `name_key`)");
+			statement.execute("CREATE INDEX IF NOT EXISTS `names_length` ON `names` (`length`, `name`)");
+			statement.execute("CREATE INDEX IF NOT EXISTS `names_usage_world` ON `names` (`usage_world`, `name`)");
+			statement.execute("CREATE INDEX IF NOT EXISTS `names_usage_country` ON `names` (`usage_country`, `name`)");
+			statement.execute("CREATE INDEX IF NOT EXISTS `names_rank_world` ON `names` (`rank_world`, `name`)");
+			statement.execute("CREATE INDEX IF NOT EXISTS `names_rank_country` ON `names` (`rank_country`, `name`)");
+			statement.execute("CREATE INDEX IF NOT EXISTS `names_origin_key` ON `names` (`origin_key`, `name`)");
+			statement.execute("CREATE INDEX IF NOT EXISTS `names_continent_key` ON `names` (`continent_key`, `name`)");
+			statement.execute("CREATE INDEX IF NOT EXISTS `names_country_key` ON `names` (`country_key`, `name`)");
+			statement.execute(
+				"CREATE INDEX IF NOT EXISTS `names_country_density_key` ON `names` (`country_density_key`, `name`)"
+			);
+			statement.execute(
+				"CREATE INDEX IF NOT EXISTS `names_sounds_like` ON `names` (`sounds_like`, `usage_world` DESC, `name`)"
+			);
+			statement.execute("PRAGMA user_version = " + KEY_VERSION);
+			connection.commit();
+		} catch (SQLException | RuntimeException exception) {
+			connection.rollback();
+
+			throw exception;
+		} finally {
+			connection.setAutoCommit(autoCommit);
+		}
+	}
+
+	/**
+	 * Возвращает версию ключей базы данных.
+	 *
+	 * @param connection соединение.
+	 * @return версия ключей или 0, если ключи не вычислялись.
+	 * @throws SQLException если не удалось выполнить запрос.
+	 */
+	private static int getVersion(@NotNull final Connection connection)
+		throws SQLException
+	{
+		try (Statement statement = connection.createStatement();
+			 ResultSet resultSet = statement.executeQuery("PRAGMA user_version"))
+		{
+			return resultSet.next() ? resultSet.getInt(1) : 0;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Открывает соединения пула только для чтения и подготавливает на каждом частые запросы.
+	 * Запрос количества имён выполняется на каждом соединении, чтобы прочитать страницы базы данных в кеш.
+	 * Соединения берутся без ожидания, поэтому подготовка не ждёт соединений, занятых другими потоками,
+	 * и не может заблокировать их; занятые соединения подготавливаются при первом запросе.
+	 */
+	@Override
+	public void warmUp()
+	{
+		List<PooledConnection> connections = new ArrayList<>();
+
+		try
+		{
+			for (int index = 0; index < this.readPool.getSize(); index++)
+			{
+				PooledConnection connection = this.readPool.tryBorrow();
+
+				if (connection == null) {
+					break;
+				}
+
+				connections.add(connection);
+
+				for (String sql : WARM_UP)
+				{
+					connection.prepare(sql);
+				}
+
+				try (ResultSet resultSet = connection.prepare(COUNT).executeQuery())
+				{
+					resultSet.next();
+				}
+			}
 		}
 		catch (SQLException exception)
 		{
 			throw new DatabaseException("Не удалось выполнить запрос в базу данных.", exception);
 		}
+		finally
+		{
+			connections.forEach(PooledConnection::close);
+		}
+	}
+
+	/**
+	 * Возвращает поток имён по интервалу значений столбца.
+	 *
+	 * @param column столбец.
+	 * @param min минимальное значение.
+	 * @param max максимальное значение.
+	 * @return поток имён.
+	 */
+	@NotNull
+	private Stream<@NotNull Name> streamBetween(@NotNull final String column, final int min, final int max)
+	{
+		String sql = "SELECT * FROM `names` WHERE `" + column + "` BETWEEN ? AND ? ORDER BY " + column + " ASC, name ASC";
+
+		return new Cursor<>(this.readPool, sql, statement -> {
+			statement.setInt(1, min);
+			statement.setInt(2, max);
+		}, this::toName).stream();
+	}
+
+	/**
+	 * Возвращает страницу списка имён по интервалу значений столбца.
+	 * <p>
+	 * Следующая страница выбирается сравнением пары значения и названия,
+	 * поэтому запрос начинается с позиции в индексе по этим столбцам и не пропускает предыдущие страницы.
+	 * Имя предыдущей страницы не меньше минимального значения, поэтому нижняя граница задаётся этой парой.
+	 *
+	 * @param column столбец.
+	 * @param min минимальное значение.
+	 * @param max максимальное значение.
+	 * @param value значение столбца у имени, после которого начинается страница.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка имён.
+	 */
+	@NotNull
+	private Collection<@NotNull Name> getBetween(@NotNull final String column,
+												 final int min,
+												 final int max,
+												 @Nullable final Integer value,
+												 @Nullable final Name after,
+												 final int limit)
+	{
+		NameRepository.checkLimit(limit);
+
+		if (after == null || value == null || value < min)
+		{
+			String sql = "SELECT * FROM `names` WHERE `" + column + "` BETWEEN ? AND ? " +
+				"ORDER BY " + column + " ASC, name ASC LIMIT ?";
+
+			return this.query(sql, statement -> {
+				statement.setInt(1, min);
+				statement.setInt(2, max);
+				statement.setInt(3, limit);
+			});
+		}
+
+		String sql = "SELECT * FROM `names` WHERE (`" + column + "`, `name`) > (?, ?) AND `" + column + "` <= ? " +
+			"ORDER BY " + column + " ASC, name ASC LIMIT ?";
+
+		return this.query(sql, statement -> {
+			statement.setInt(1, value);
+			statement.setString(2, after.getValue());
+			statement.setInt(3, max);
+			statement.setInt(4, limit);
+		});
+	}
+
+	/**
+	 * Выполняет запрос и возвращает список имён.
+	 *
+	 * @param sql текст запроса.
+	 * @param parameters параметры запроса.
+	 * @return список имён.
+	 */
+	@NotNull
+	private Collection<@NotNull Name> query(@NotNull final String sql, @NotNull final Cursor.Parameters parameters)
+	{
+		return this.query(sql, parameters, this::toName);
+	}
+
+	/**
+	 * Выполняет запрос и возвращает список значений.
+	 *
+	 * @param sql текст запроса.
+	 * @param parameters параметры запроса.
+	 * @param mapper функция получения значения из строки результата.
+	 * @param <T> тип значений.
+	 * @return список значений.
+	 */
+	@NotNull
+	private <T> List<@NotNull T> query(@NotNull final String sql,
+									   @NotNull final Cursor.Parameters parameters,
+									   @NotNull final Cursor.Mapper<T> mapper)
+	{
+		try (Stream<T> values = new Cursor<>(this.readPool, sql, parameters, mapper).stream())
+		{
+			return values.collect(Collectors.toCollection(ArrayList::new));
+		}
+	}
+
+	/**
+	 * Возвращает список столбцов для выбранных полей.
+	 *
+	 * @param fields выбранные поля.
+	 * @return список столбцов через запятую.
+	 */
+	@NotNull
+	private static String toColumns(@NotNull final Set<@NotNull NameField> fields)
+	{
+		return fields.stream()
+			.map(field -> "`" + NameRepository.toColumn(field) + "`")
+			.collect(Collectors.joining(", "));
+	}
+
+	/**
+	 * Возвращает условие запроса по значениям характеристик.
+	 * <p>
+	 * Значения одной характеристики объединяются через {@code IN}, а условия разных
+	 * характеристик через {@code AND}.
+	 *
+	 * @param attributes допустимые значения по характеристикам.
+	 * @param values список, в который добавляются значения параметров условия.
+	 * @return условие с ведущим {@code WHERE}, пустая строка без характеристик
+	 * или {@code null}, если у характеристики нет допустимых значений.
+	 * @throws IllegalArgumentException если характеристика не является категорией.
+	 */
+	@Nullable
+	private static String toCondition(@NotNull final Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes,
+									  @NotNull final List<@NotNull String> values)
+	{
+		StringBuilder condition = new StringBuilder();
+		boolean empty = false;
+
+		for (Map.Entry<@NotNull NameField, @NotNull Set<@NotNull String>> attribute : attributes.entrySet())
+		{
+			NameField field = attribute.getKey();
+
+			if (!field.isCategory()) {
+				throw new IllegalArgumentException("Поле " + field + " не является категорией имени.");
+			}
+
+			List<String> keys = attribute.getValue().stream().map(Collation::fold).distinct().toList();
+
+			condition.append(condition.isEmpty() ? " WHERE " : " AND ");
+			condition.append("`").append(NameRepository.toColumn(field)).append("_key` IN (");
+			condition.append(NameRepository.toPlaceholders(keys)).append(")");
+			values.addAll(keys);
+			empty |= keys.isEmpty();
+		}
+
+		return empty ? null : condition.toString();
+	}
+
+	/**
+	 * Возвращает запрос к базе данных по запросу имён.
+	 * <p>
+	 * Условия по строковым полям проверяются по столбцам ключей через {@code IN},
+	 * а по числовым полям через {@code BETWEEN}. После порядка запроса имена упорядочены по названию.
+	 *
+	 * @param query запрос имён.
+	 * @param columns выбираемые столбцы.
+	 * @param values список, в который добавляются значения параметров запроса.
+	 * @return запрос или {@code null}, если у условия по строковому полю нет допустимых значений.
+	 */
+	@Nullable
+	private static String toQuery(@NotNull final NameQuery query,
+								  @NotNull final String columns,
+								  @NotNull final List<@NotNull Object> values)
+	{
+		StringBuilder sql = new StringBuilder("SELECT " + columns + " FROM `names`");
+		String separator = " WHERE ";
+
+		for (NameQuery.Condition condition : query.getConditions())
+		{
+			String column = NameRepository.toColumn(condition.getField());
+
+			sql.append(separator);
+			separator = " AND ";
+
+			if (condition.getField().isNumeric())
+			{
+				sql.append("`").append(column).append("` BETWEEN ? AND ?");
+				values.add(condition.getMin());
+				values.add(condition.getMax());
+			}
+			else
+			{
+				List<String> keys = condition.getValues().stream().map(Collation::fold).distinct().toList();
+
+				if (keys.isEmpty()) {
+					return null;
+				}
+
+				sql.append("`").append(column).append("_key` IN (").append(NameRepository.toPlaceholders(keys)).append(")");
+				values.addAll(keys);
+			}
+		}
+
+		sql.append(" ORDER BY ");
+
+		for (NameQuery.Order order : query.getOrders())
+		{
+			sql.append(NameRepository.toColumn(order.getField())).append(order.isDescending() ? " DESC, " : " ASC, ");
+		}
+
+		sql.append("name ASC LIMIT ? OFFSET ?");
+		values.add(query.getLimit());
+		values.add(query.getOffset());
+
+		return sql.toString();
+	}
+
+	/**
+	 * Возвращает столбец поля.
+	 *
+	 * @param field поле.
+	 * @return столбец.
+	 */
+	@NotNull
+	private static String toColumn(@NotNull final NameField field)
+	{
+		return switch (field)
+		{
+			case VALUE -> "name";
+			case LENGTH -> "length";
+			case RANK_WORLD -> "rank_world";
+			case RANK_COUNTRY -> "rank_country";
+			case USAGE_WORLD -> "usage_world";
+			case USAGE_COUNTRY -> "usage_country";
+			case ORIGIN -> "origin";
+			case CONTINENT -> "continent";
+			case COUNTRY -> "country";
+			case COUNTRY_DENSITY -> "country_density";
+		};
+	}
+
+	/**
+	 * Возвращает проекцию имени из текущей строки результата запроса.
+	 * <p>
+	 * Столбцы результата следуют в порядке выбранных полей.
+	 *
+	 * @param resultSet результат запроса.
+	 * @param fields выбранные поля.
+	 * @return проекция имени.
+	 * @throws SQLException если не удалось получить значения столбцов.
+	 */
+	@NotNull
+	private static NameProjection toProjection(@NotNull final ResultSet resultSet,
+											   @NotNull final Set<@NotNull NameField> fields)
+		throws SQLException
+	{
+		Object[] values = new Object[FIELDS];
+		int column = 1;
+
+		for (NameField field : fields)
+		{
+			if (field.isNumeric()) {
+				values[field.ordinal()] = resultSet.getInt(column++);
+			} else {
+				values[field.ordinal()] = resultSet.getString(column++);
+			}
+		}
+
+		return new NameProjection(fields, values);
+	}
+
+	/**
+	 * Разбивает названия на пакеты для запросов {@code IN}.
+	 * <p>
+	 * Названия приводятся к ключам {@link Collation#fold(String)}, повторы удаляются.
+	 * Размер каждого пакета дополняется до степени двойки повтором последнего названия,
+	 * чтобы число различных текстов запроса, а значит и подготовленных запросов, оставалось небольшим.
+	 *
+	 * @param names названия имён.
+	 * @return пакеты названий.
+	 */
+	@NotNull
+	private static List<@NotNull List<@NotNull String>> toBatches(@NotNull final Collection<@NotNull String> names)
+	{
+		List<String> keys = new ArrayList<>(new LinkedHashSet<>(names.stream().map(Collation::fold).toList()));
+		List<List<String>> batches = new ArrayList<>();
+
+		for (int start = 0; start < keys.size(); start += BATCH_SIZE)
+		{
+			List<String> batch = new ArrayList<>(keys.subList(start, Math.min(start + BATCH_SIZE, keys.size())));
+			int size = Integer.highestOneBit(batch.size() * 2 - 1);
+
+			while (batch.size() < size) {
+				batch.add(batch.get(batch.size() - 1));
+			}
+
+			batches.add(batch);
+		}
+
+		return batches;
+	}
+
+	/**
+	 * Возвращает параметры запроса для списка значений.
+	 *
+	 * @param values значения.
+	 * @return параметры запроса через запятую.
+	 */
+	@NotNull
+	private static String toPlaceholders(@NotNull final List<@NotNull String> values)
+	{
+		return String.join(", ", Collections.nCopies(values.size(), "?"));
+	}
+
+	/**
+	 * Устанавливает значения параметров запроса.
+	 *
+	 * @param statement подготовленный запрос.
+	 * @param values значения.
+	 * @throws SQLException если не удалось установить параметры.
+	 */
+	private static void bind(@NotNull final PreparedStatement statement, @NotNull final List<?> values)
+		throws SQLException
+	{
+		for (int index = 0; index < values.size(); index++)
+		{
+			statement.setObject(index + 1, values.get(index));
+		}
+	}
+
+	/**
+	 * Устанавливает значения параметров запроса добавления имени.
+	 *
+	 * @param statement подготовленный запрос.
+	 * @param name имя.
+	 * @throws SQLException если не удалось установить параметры.
+	 */
+	private static void bind(@NotNull final PreparedStatement statement, @NotNull final Name name)
+		throws SQLException
+	{
+		statement.setString(1, name.getValue());
+		statement.setInt(2, name.getLength());
+		statement.setInt(3, name.getRankWorld());
+		statement.setInt(4, name.getRankCountry());
+		statement.setInt(5, name.getUsageWorld());
+		statement.setInt(6, name.getUsageCountry());
+		statement.setString(7, name.getOrigin());
+		statement.setString(8, name.getContinent());
+		statement.setString(9, name.getCountry());
+		statement.setString(10, name.getCountryDensity());
+		String key = Collation.fold(name.getValue());
+
+		statement.setString(11, key);
+		statement.setString(12, Collation.fold(name.getCountry()));
+		statement.setString(13, Collation.fold(name.getCountryDensity()));
+		statement.setString(14, Phonetics.encode(name.getValue()));
+		statement.setString(15, Collation.fold(name.getOrigin()));
+		statement.setString(16, Collation.fold(name.getContinent()));
+		statement.setInt(17, key.length());
+	}
+
+	/**
+	 * Проверяет количество имён на странице.
+	 *
+	 * @param limit количество имён на странице.
+	 * @throws IllegalArgumentException если количество имён на странице отрицательное.
+	 */
+	private static void checkLimit(final int limit)
+	{
+		if (limit < 0) {
+			throw new IllegalArgumentException("Количество имён на странице не может быть отрицательным.");
+		}
+	}
+
+	/**
+	 * Проверяет наибольшее расстояние нечёткого поиска.
+	 *
+	 * @param maxEdits наибольшее расстояние.
+	 * @throws IllegalArgumentException если расстояние отрицательное.
+	 */
+	private static void checkEdits(final int maxEdits)
+	{
+		if (maxEdits < 0) {
+			throw new IllegalArgumentException("Расстояние между именами не может быть отрицательным.");
+		}
+	}
+
+	/**
+	 * Возвращает имя из текущей строки результата запроса.
+	 * <p>
+	 * Происхождение, континент и страны берутся из словаря репозитория,
+	 * поэтому имена с одинаковыми значениями ссылаются на одни и те же строки.
+	 *
+	 * @param resultSet результат запроса.
+	 * @return имя.
+	 * @throws SQLException если не удалось получить значения столбцов.
+	 */
+	@NotNull
+	private Name toName(@NotNull final ResultSet resultSet)
+		throws SQLException
+	{
+		return Name.of(
+			resultSet.getString("name"),
+			resultSet.getInt("rank_world"),
+			resultSet.getInt("rank_country"),
+			resultSet.getInt("usage_world"),
+			resultSet.getInt("usage_country"),
+			this.dictionary.intern(resultSet.getString("origin")),
+			this.dictionary.intern(resultSet.getString("continent")),
+			this.dictionary.intern(resultSet.getString("country")),
+			this.dictionary.intern(resultSet.getString("country_density"))
+		);
 	}
 }
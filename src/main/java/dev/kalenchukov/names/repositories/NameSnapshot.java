@@ -0,0 +1,1206 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.repositories;
+
+import dev.kalenchukov.names.entities.Name;
+import dev.kalenchukov.names.entities.NameField;
+import dev.kalenchukov.names.entities.NameQuery;
+import dev.kalenchukov.names.indexes.Bitmap;
+import dev.kalenchukov.names.indexes.BitmapIndex;
+import dev.kalenchukov.names.indexes.FuzzyIndex;
+import dev.kalenchukov.names.indexes.HashIndex;
+import dev.kalenchukov.names.indexes.PhoneticIndex;
+import dev.kalenchukov.names.indexes.PrefixIndex;
+import dev.kalenchukov.names.indexes.RangeIndex;
+import dev.kalenchukov.names.modules.Collation;
+import dev.kalenchukov.names.modules.Dictionary;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Класс неизменяемого снимка имён в памяти.
+ * <p>
+ * Имена хранятся в порядке записей таблицы, чтобы при поиске по названию
+ * возвращать ту же запись, что и база данных.
+ * Списки упорядочены так же, как в запросах к базе данных.
+ *
+ * @author Алексей Каленчуков
+ */
+final class NameSnapshot
+{
+	/**
+	 * Имена в порядке записей таблицы.
+	 */
+	@NotNull
+	private final Name[] names;
+
+	/**
+	 * Номера записей в порядке возрастания названия.
+	 */
+	@NotNull
+	private final int[] order;
+
+	/**
+	 * Позиции в порядке возрастания названия по номерам записей.
+	 */
+	@NotNull
+	private final int[] positions;
+
+	/**
+	 * Имена в порядке возрастания названия.
+	 */
+	@NotNull
+	private final List<@NotNull Name> namesByValue;
+
+	/**
+	 * Индекс названий без учёта регистра.
+	 */
+	@NotNull
+	private final HashIndex valueIndex;
+
+	/**
+	 * Индекс начала названий без учёта регистра.
+	 */
+	@NotNull
+	private final PrefixIndex prefixIndex;
+
+	/**
+	 * Индекс нечёткого поиска названий.
+	 */
+	@NotNull
+	private final FuzzyIndex fuzzyIndex;
+
+	/**
+	 * Индекс имён по фонетическому коду названия.
+	 */
+	@NotNull
+	private final PhoneticIndex phoneticIndex;
+
+	/**
+	 * Словарь значений характеристик, по номерам которых построены индексы характеристик.
+	 */
+	@NotNull
+	private final Dictionary dictionary;
+
+	/**
+	 * Индекс происхождения имён.
+	 */
+	@NotNull
+	private final BitmapIndex originIndex;
+
+	/**
+	 * Индекс континентов, на которых распространены имена.
+	 */
+	@NotNull
+	private final BitmapIndex continentIndex;
+
+	/**
+	 * Индекс стран, в которых больше всего людей с именем.
+	 */
+	@NotNull
+	private final BitmapIndex countryIndex;
+
+	/**
+	 * Индекс стран, в которых больше всего плотность людей с именем.
+	 */
+	@NotNull
+	private final BitmapIndex countryDensityIndex;
+
+	/**
+	 * Индекс количества людей с именем в мире.
+	 */
+	@NotNull
+	private final RangeIndex usageWorldIndex;
+
+	/**
+	 * Индекс количества людей с именем в стране.
+	 */
+	@NotNull
+	private final RangeIndex usageCountryIndex;
+
+	/**
+	 * Индекс места среди самых популярных имён в мире.
+	 */
+	@NotNull
+	private final RangeIndex rankWorldIndex;
+
+	/**
+	 * Индекс места среди самых популярных имён в стране.
+	 */
+	@NotNull
+	private final RangeIndex rankCountryIndex;
+
+	/**
+	 * Индекс интервалов по количеству символов в имени.
+	 */
+	@NotNull
+	private final RangeIndex lengthIndex;
+
+	/**
+	 * Конструктор для {@code NameSnapshot}.
+	 *
+	 * @param names имена в порядке записей таблицы.
+	 */
+	private NameSnapshot(@NotNull final Name[] names)
+	{
+		this.names = names;
+		this.order = IntStream.range(0, names.length)
+			.boxed()
+			.sorted((first, second) -> Collation.compare(names[first].getValue(), names[second].getValue()))
+			.mapToInt(Integer::intValue)
+			.toArray();
+		this.positions = new int[names.length];
+
+		for (int position = 0; position < this.order.length; position++)
+		{
+			this.positions[this.order[position]] = position;
+		}
+
+		this.namesByValue = new RowList(this.order, 0, this.order.length);
+		this.valueIndex = new HashIndex(Arrays.stream(names).map(Name::getValue).toArray(String[]::new));
+		this.prefixIndex = new PrefixIndex(
+			Arrays.stream(names).map(Name::getValue).toArray(String[]::new),
+			Arrays.stream(names).mapToInt(Name::getRankWorld).toArray(),
+			this.order
+		);
+		this.fuzzyIndex = new FuzzyIndex(Arrays.stream(names).map(Name::getValue).toArray(String[]::new));
+		this.phoneticIndex = new PhoneticIndex(
+			Arrays.stream(names).map(Name::getValue).toArray(String[]::new),
+			Arrays.stream(this.order)
+				.boxed()
+				.sorted(Comparator.comparingInt(row -> -names[row].getUsageWorld()))
+				.mapToInt(Integer::intValue)
+				.toArray()
+		);
+		this.dictionary = new Dictionary();
+		this.originIndex = this.createBitmapIndex(Name::getOrigin);
+		this.continentIndex = this.createBitmapIndex(Name::getContinent);
+		this.countryIndex = this.createBitmapIndex(Name::getCountry);
+		this.countryDensityIndex = this.createBitmapIndex(Name::getCountryDensity);
+		this.usageWorldIndex = this.createRangeIndex(Name::getUsageWorld);
+		this.usageCountryIndex = this.createRangeIndex(Name::getUsageCountry);
+		this.rankWorldIndex = this.createRangeIndex(Name::getRankWorld);
+		this.rankCountryIndex = this.createRangeIndex(Name::getRankCountry);
+		this.lengthIndex = this.createRangeIndex(Name::getLength);
+	}
+
+	/**
+	 * Создаёт снимок имён.
+	 *
+	 * @param names имена в порядке записей таблицы.
+	 * @return снимок имён.
+	 */
+	@NotNull
+	public static NameSnapshot of(@NotNull final Collection<@NotNull Name> names)
+	{
+		return new NameSnapshot(names.toArray(new Name[0]));
+	}
+
+	/**
+	 * Возвращает количество имён.
+	 *
+	 * @return количество имён.
+	 */
+	public int count()
+	{
+		return this.names.length;
+	}
+
+	/**
+	 * Возвращает имя по названию.
+	 *
+	 * @param name имя.
+	 * @return имя или {@code null}, если имя не найдено.
+	 */
+	@Nullable
+	public Name find(@NotNull final String name)
+	{
+		int row = this.valueIndex.get(name);
+
+		if (row < 0) {
+			return null;
+		}
+
+		return this.names[row];
+	}
+
+	/**
+	 * Возвращает список всех имён.
+	 *
+	 * @return список всех имён.
+	 */
+	@NotNull
+	public List<@NotNull Name> getAll()
+	{
+		return this.namesByValue;
+	}
+
+	/**
+	 * Возвращает страницу списка всех имён.
+	 *
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка всех имён.
+	 */
+	@NotNull
+	public List<@NotNull Name> getAll(@Nullable final String after, final int limit)
+	{
+		int start = this.startAfter(after);
+		int end = (int) Math.min((long) start + limit, this.order.length);
+
+		return this.namesByValue.subList(start, end);
+	}
+
+	/**
+	 * Возвращает список имён в указанной стране.
+	 *
+	 * @param country страна.
+	 * @return список имён в указанной стране.
+	 */
+	@NotNull
+	public List<@NotNull Name> getByCountry(@NotNull final String country)
+	{
+		return this.getByCountry(country, null, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Возвращает страницу списка имён в указанной стране.
+	 * <p>
+	 * Имена выбираются из индекса стран, а начало страницы находится двоичным поиском
+	 * по названиям, поэтому стоимость страницы не зависит от количества имён в других странах.
+	 *
+	 * @param country страна.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка имён в указанной стране.
+	 */
+	@NotNull
+	public List<@NotNull Name> getByCountry(@NotNull final String country, @Nullable final String after, final int limit)
+	{
+		return this.getByCategory(this.countryIndex, country, after, limit);
+	}
+
+	/**
+	 * Возвращает список имён в указанной стране по плотности населения.
+	 *
+	 * @param country страна.
+	 * @return список имён в указанной стране по плотности населения.
+	 */
+	@NotNull
+	public List<@NotNull Name> getByCountryDensity(@NotNull final String country)
+	{
+		return this.getByCategory(this.countryDensityIndex, country, null, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Возвращает список имён по интервалу использования в мире.
+	 *
+	 * @param min минимальное количество использований.
+	 * @param max максимальное количество использований.
+	 * @return список имён.
+	 */
+	@NotNull
+	public List<@NotNull Name> getBetweenUsageWorld(final int min, final int max)
+	{
+		return this.getBetween(this.usageWorldIndex, Name::getUsageWorld, min, max, null, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Возвращает страницу списка имён по интервалу использования в мире.
+	 *
+	 * @param min минимальное количество использований.
+	 * @param max максимальное количество использований.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка имён.
+	 */
+	@NotNull
+	public List<@NotNull Name> getBetweenUsageWorld(final int min, final int max, @Nullable final Name after, final int limit)
+	{
+		return this.getBetween(this.usageWorldIndex, Name::getUsageWorld, min, max, after, limit);
+	}
+
+	/**
+	 * Возвращает список имён по интервалу использования в стране.
+	 *
+	 * @param min минимальное количество использований.
+	 * @param max максимальное количество использований.
+	 * @return список имён.
+	 */
+	@NotNull
+	public List<@NotNull Name> getBetweenUsageCountry(final int min, final int max)
+	{
+		return this.getBetween(this.usageCountryIndex, Name::getUsageCountry, min, max, null, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Возвращает страницу списка имён по интервалу использования в стране.
+	 *
+	 * @param min минимальное количество использований.
+	 * @param max максимальное количество использований.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка имён.
+	 */
+	@NotNull
+	public List<@NotNull Name> getBetweenUsageCountry(final int min, final int max, @Nullable final Name after, final int limit)
+	{
+		return this.getBetween(this.usageCountryIndex, Name::getUsageCountry, min, max, after, limit);
+	}
+
+	/**
+	 * Возвращает список имён по интервалу рейтинга в мире.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @return список имён.
+	 */
+	@NotNull
+	public List<@NotNull Name> getBetweenRankWorld(final int min, final int max)
+	{
+		return this.getBetween(this.rankWorldIndex, Name::getRankWorld, min, max, null, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Возвращает страницу списка имён по интервалу рейтинга в мире.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка имён.
+	 */
+	@NotNull
+	public List<@NotNull Name> getBetweenRankWorld(final int min, final int max, @Nullable final Name after, final int limit)
+	{
+		return this.getBetween(this.rankWorldIndex, Name::getRankWorld, min, max, after, limit);
+	}
+
+	/**
+	 * Возвращает список имён по интервалу рейтинга в стране.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @return список имён.
+	 */
+	@NotNull
+	public List<@NotNull Name> getBetweenRankCountry(final int min, final int max)
+	{
+		return this.getBetween(this.rankCountryIndex, Name::getRankCountry, min, max, null, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Возвращает страницу списка имён по интервалу рейтинга в стране.
+	 *
+	 * @param min минимальное количество рейтинга.
+	 * @param max максимальное количество рейтинга.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка имён.
+	 */
+	@NotNull
+	public List<@NotNull Name> getBetweenRankCountry(final int min, final int max, @Nullable final Name after, final int limit)
+	{
+		return this.getBetween(this.rankCountryIndex, Name::getRankCountry, min, max, after, limit);
+	}
+
+	/**
+	 * Возвращает самые популярные имена, начинающиеся с указанной строки.
+	 *
+	 * @param prefix начало имени.
+	 * @param limit наибольшее количество имён.
+	 * @return имена, упорядоченные по месту в мире и названию.
+	 */
+	@NotNull
+	public List<@NotNull Name> getByPrefix(@NotNull final String prefix, final int limit)
+	{
+		int[] rows = this.prefixIndex.top(prefix, limit);
+
+		return new RowList(rows, 0, rows.length);
+	}
+
+	/**
+	 * Возвращает имена, похожие на указанное, с учётом опечаток.
+	 *
+	 * @param query имя с возможными опечатками.
+	 * @param maxEdits наибольшее расстояние Левенштейна.
+	 * @param limit наибольшее количество имён.
+	 * @return имена, упорядоченные по расстоянию, по убыванию количества людей с именем в мире и по названию.
+	 */
+	@NotNull
+	public List<@NotNull Name> searchFuzzy(@NotNull final String query, final int maxEdits, final int limit)
+	{
+		List<FuzzyMatch> matches = new ArrayList<>();
+
+		for (long found : this.fuzzyIndex.search(query, maxEdits))
+		{
+			matches.add(new FuzzyMatch(this.names[(int) found], (int) (found >>> 32)));
+		}
+
+		return FuzzyMatch.top(matches, limit);
+	}
+
+	/**
+	 * Возвращает имена, которые звучат так же, как указанное.
+	 *
+	 * @param name имя.
+	 * @return имена, упорядоченные по убыванию количества людей с именем в мире и по названию.
+	 */
+	@NotNull
+	public List<@NotNull Name> getBySoundsLike(@NotNull final String name)
+	{
+		int[] rows = this.phoneticIndex.get(name);
+
+		return new RowList(rows, 0, rows.length);
+	}
+
+	/**
+	 * Возвращает список имён по интервалу количества символов в имени.
+	 *
+	 * @param min минимальное количество символов в имени.
+	 * @param max максимальное количество символов в имени.
+	 * @return список имён, упорядоченный по количеству символов в имени и названию.
+	 */
+	@NotNull
+	public List<@NotNull Name> getBetweenLength(final int min, final int max)
+	{
+		return this.getBetween(this.lengthIndex, Name::getLength, min, max, null, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Возвращает список имён с указанного континента.
+	 *
+	 * @param continent континент.
+	 * @return список имён, упорядоченный по названию.
+	 */
+	@NotNull
+	public List<@NotNull Name> getByContinent(@NotNull final String continent)
+	{
+		return this.getByCategory(this.continentIndex, continent, null, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Возвращает список имён указанного происхождения.
+	 *
+	 * @param origin происхождение.
+	 * @return список имён, упорядоченный по названию.
+	 */
+	@NotNull
+	public List<@NotNull Name> getByOrigin(@NotNull final String origin)
+	{
+		return this.getByCategory(this.originIndex, origin, null, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Возвращает список имён, подходящих под значения характеристик.
+	 *
+	 * @param attributes допустимые значения по характеристикам.
+	 * @return список имён, упорядоченный по названию.
+	 */
+	@NotNull
+	public List<@NotNull Name> getByAttributes(@NotNull final Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes)
+	{
+		if (attributes.isEmpty()) {
+			return this.namesByValue;
+		}
+
+		int[] positions = this.match(attributes).toArray();
+
+		for (int position = 0; position < positions.length; position++)
+		{
+			positions[position] = this.order[positions[position]];
+		}
+
+		return new RowList(positions, 0, positions.length);
+	}
+
+	/**
+	 * Возвращает количество имён, подходящих под значения характеристик.
+	 *
+	 * @param attributes допустимые значения по характеристикам.
+	 * @return количество имён.
+	 */
+	public int countByAttributes(@NotNull final Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes)
+	{
+		if (attributes.isEmpty()) {
+			return this.names.length;
+		}
+
+		return this.match(attributes).cardinality();
+	}
+
+	/**
+	 * Возвращает список имён по запросу.
+	 * <p>
+	 * Для каждого условия по индексу оценивается количество подходящих имён: для названий по количеству
+	 * значений, для числовых полей по границам интервала, а для категорий точно по пересечению битовых карт.
+	 * Имена перебираются из наименьшего источника, остальные условия проверяются для каждого имени.
+	 * Без условий по индексам имена перебираются в порядке названия или, если запрос упорядочен
+	 * по числовому полю, в порядке индекса этого поля.
+	 * Если источник уже упорядочен как запрос, перебор останавливается после нужного количества имён,
+	 * иначе подходящие имена сортируются.
+	 *
+	 * @param query запрос.
+	 * @return список имён в порядке запроса.
+	 */
+	@NotNull
+	public List<@NotNull Name> getByQuery(@NotNull final NameQuery query)
+	{
+		List<Bitmap> categories = new ArrayList<>();
+		NameQuery.Condition source = null;
+		int sourceSize = this.names.length;
+
+		for (NameQuery.Condition condition : query.getConditions())
+		{
+			if (condition.getField().isCategory()) {
+				categories.add(this.toBitmap(condition.getField(), condition.getValues()));
+			}
+			else
+			{
+				int size = this.estimate(condition);
+
+				if (size < sourceSize)
+				{
+					source = condition;
+					sourceSize = size;
+				}
+			}
+		}
+
+		Bitmap matched = categories.isEmpty() ? null : NameSnapshot.intersect(categories);
+		List<NameQuery.Order> orders = query.getOrders();
+		NameField sortedBy = NameField.VALUE;
+		boolean descending = false;
+		int[] rows = this.order;
+
+		if (matched != null && matched.cardinality() <= sourceSize)
+		{
+			rows = matched.toArray();
+
+			for (int position = 0; position < rows.length; position++)
+			{
+				rows[position] = this.order[rows[position]];
+			}
+
+			source = null;
+			matched = null;
+		}
+		else if (source != null)
+		{
+			sortedBy = source.getField() == NameField.VALUE ? null : source.getField();
+			descending = !orders.isEmpty() && orders.get(0).getField() == sortedBy && orders.get(0).isDescending();
+			rows = this.select(source, descending);
+		}
+		else if (!orders.isEmpty() && orders.get(0).getField().isNumeric())
+		{
+			sortedBy = orders.get(0).getField();
+			descending = orders.get(0).isDescending();
+			rows = NameSnapshot.select(this.toRangeIndex(sortedBy), 0, this.names.length, descending);
+		}
+
+		boolean ordered = NameSnapshot.isOrdered(orders, sortedBy, descending);
+		long needed = ordered ? (long) query.getOffset() + query.getLimit() : rows.length;
+		int[] found = new int[(int) Math.min(rows.length, needed)];
+		int count = 0;
+
+		for (int row : rows)
+		{
+			if (count == found.length) {
+				break;
+			}
+
+			if (this.matches(row, query.getConditions(), source, matched)) {
+				found[count++] = row;
+			}
+		}
+
+		if (!ordered)
+		{
+			Comparator<Name> comparator = NameSnapshot.toComparator(orders);
+
+			found = Arrays.stream(found, 0, count)
+				.boxed()
+				.sorted((first, second) -> comparator.compare(this.names[first], this.names[second]))
+				.mapToInt(Integer::intValue)
+				.toArray();
+		}
+
+		int start = Math.min(query.getOffset(), count);
+		int end = (int) Math.min(count, (long) start + query.getLimit());
+
+		return new RowList(found, start, end);
+	}
+
+	/**
+	 * Создаёт индекс интервалов по характеристике имени.
+	 * <p>
+	 * При равенстве значений имена упорядочены по возрастанию названия.
+	 *
+	 * @param column характеристика имени.
+	 * @return индекс интервалов.
+	 */
+	@NotNull
+	private RangeIndex createRangeIndex(@NotNull final ToIntFunction<@NotNull Name> column)
+	{
+		return new RangeIndex(Arrays.stream(this.names).mapToInt(column).toArray(), this.order);
+	}
+
+	/**
+	 * Создаёт индекс значений по характеристике имени.
+	 * <p>
+	 * Индекс хранит позиции имён в порядке возрастания названия.
+	 *
+	 * @param column характеристика имени.
+	 * @return индекс значений.
+	 */
+	@NotNull
+	private BitmapIndex createBitmapIndex(@NotNull final Function<@NotNull Name, @NotNull String> column)
+	{
+		return new BitmapIndex(this.dictionary, Arrays.stream(this.names).map(column).toArray(String[]::new), this.order);
+	}
+
+	/**
+	 * Возвращает индекс значений характеристики.
+	 *
+	 * @param field характеристика.
+	 * @return индекс значений.
+	 */
+	@NotNull
+	private BitmapIndex toIndex(@NotNull final NameField field)
+	{
+		return switch (field)
+		{
+			case ORIGIN -> this.originIndex;
+			case CONTINENT -> this.continentIndex;
+			case COUNTRY -> this.countryIndex;
+			case COUNTRY_DENSITY -> this.countryDensityIndex;
+			default -> throw new IllegalArgumentException("Поле " + field + " не является категорией имени.");
+		};
+	}
+
+	/**
+	 * Возвращает позиции имён в порядке возрастания названия, подходящих под значения характеристик.
+	 * <p>
+	 * Значения одной характеристики объединяются, а множества разных характеристик
+	 * пересекаются начиная с наименьшего, чтобы промежуточные множества оставались малыми.
+	 *
+	 * @param attributes допустимые значения по характеристикам.
+	 * @return множество позиций имён.
+	 */
+	@NotNull
+	private Bitmap match(@NotNull final Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes)
+	{
+		List<Bitmap> conditions = new ArrayList<>(attributes.size());
+
+		for (Map.Entry<@NotNull NameField, @NotNull Set<@NotNull String>> attribute : attributes.entrySet())
+		{
+			conditions.add(this.toBitmap(attribute.getKey(), attribute.getValue()));
+		}
+
+		return NameSnapshot.intersect(conditions);
+	}
+
+	/**
+	 * Возвращает позиции имён в порядке возрастания названия с одним из значений характеристики.
+	 *
+	 * @param field характеристика.
+	 * @param values допустимые значения.
+	 * @return множество позиций имён.
+	 */
+	@NotNull
+	private Bitmap toBitmap(@NotNull final NameField field, @NotNull final Set<@NotNull String> values)
+	{
+		BitmapIndex index = this.toIndex(field);
+		Bitmap any = Bitmap.EMPTY;
+
+		for (String value : values)
+		{
+			any = any.or(index.get(value));
+		}
+
+		return any;
+	}
+
+	/**
+	 * Возвращает пересечение множеств, начиная с наименьшего.
+	 *
+	 * @param bitmaps непустой список множеств.
+	 * @return пересечение.
+	 */
+	@NotNull
+	private static Bitmap intersect(@NotNull final List<@NotNull Bitmap> bitmaps)
+	{
+		bitmaps.sort(Comparator.comparingInt(Bitmap::cardinality));
+
+		Bitmap found = bitmaps.get(0);
+
+		for (int bitmap = 1; bitmap < bitmaps.size() && !found.isEmpty(); bitmap++)
+		{
+			found = found.and(bitmaps.get(bitmap));
+		}
+
+		return found;
+	}
+
+	/**
+	 * Возвращает индекс интервалов числового поля.
+	 *
+	 * @param field числовое поле.
+	 * @return индекс интервалов.
+	 */
+	@NotNull
+	private RangeIndex toRangeIndex(@NotNull final NameField field)
+	{
+		return switch (field)
+		{
+			case LENGTH -> this.lengthIndex;
+			case RANK_WORLD -> this.rankWorldIndex;
+			case RANK_COUNTRY -> this.rankCountryIndex;
+			case USAGE_WORLD -> this.usageWorldIndex;
+			case USAGE_COUNTRY -> this.usageCountryIndex;
+			default -> throw new IllegalArgumentException("Поле " + field + " не является числовым.");
+		};
+	}
+
+	/**
+	 * Возвращает оценку сверху количества имён, подходящих под условие по названию или числовому полю.
+	 *
+	 * @param condition условие.
+	 * @return количество имён.
+	 */
+	private int estimate(@NotNull final NameQuery.Condition condition)
+	{
+		if (condition.getField() == NameField.VALUE) {
+			return condition.getValues().size();
+		}
+
+		RangeIndex index = this.toRangeIndex(condition.getField());
+
+		return Math.max(0, index.end(condition.getMax()) - index.start(condition.getMin()));
+	}
+
+	/**
+	 * Возвращает номера записей имён, подходящих под условие по названию или числовому полю.
+	 * <p>
+	 * Имена числового поля упорядочены по значению, а при равенстве по возрастанию названия.
+	 *
+	 * @param condition условие.
+	 * @param descending признак порядка по убыванию значения.
+	 * @return номера записей.
+	 */
+	@NotNull
+	private int[] select(@NotNull final NameQuery.Condition condition, final boolean descending)
+	{
+		if (condition.getField() == NameField.VALUE)
+		{
+			return condition.getValues().stream()
+				.mapToInt(this.valueIndex::get)
+				.filter(row -> row >= 0)
+				.distinct()
+				.toArray();
+		}
+
+		RangeIndex index = this.toRangeIndex(condition.getField());
+		int start = index.start(condition.getMin());
+
+		return NameSnapshot.select(index, start, Math.max(start, index.end(condition.getMax())), descending);
+	}
+
+	/**
+	 * Возвращает номера записей в интервале позиций индекса.
+	 * <p>
+	 * При порядке по убыванию группы равных значений следуют от большего к меньшему,
+	 * а внутри группы имена остаются в порядке возрастания названия.
+	 *
+	 * @param index индекс интервалов.
+	 * @param start начальная позиция.
+	 * @param end конечная позиция, не включая её.
+	 * @param descending признак порядка по убыванию значения.
+	 * @return номера записей.
+	 */
+	@NotNull
+	private static int[] select(@NotNull final RangeIndex index, final int start, final int end, final boolean descending)
+	{
+		int[] rows = new int[end - start];
+
+		if (descending)
+		{
+			int count = 0;
+			int groupEnd = end;
+
+			while (groupEnd > start)
+			{
+				int groupStart = Math.max(start, index.start(index.getValue(groupEnd - 1)));
+
+				for (int position = groupStart; position < groupEnd; position++)
+				{
+					rows[count++] = index.getRow(position);
+				}
+
+				groupEnd = groupStart;
+			}
+
+			return rows;
+		}
+
+		for (int position = start; position < end; position++)
+		{
+			rows[position - start] = index.getRow(position);
+		}
+
+		return rows;
+	}
+
+	/**
+	 * Проверяет, подходит ли имя под условия запроса.
+	 *
+	 * @param row номер записи.
+	 * @param conditions условия.
+	 * @param source условие источника имён, которое уже выполнено, или {@code null}.
+	 * @param matched позиции имён, подходящих под условия по категориям, или {@code null}, если они уже выполнены.
+	 * @return {@code true}, если имя подходит, иначе {@code false}.
+	 */
+	private boolean matches(final int row,
+							@NotNull final List<NameQuery.@NotNull Condition> conditions,
+							@Nullable final NameQuery.Condition source,
+							@Nullable final Bitmap matched)
+	{
+		if (matched != null && !matched.contains(this.positions[row])) {
+			return false;
+		}
+
+		Name name = this.names[row];
+
+		for (NameQuery.Condition condition : conditions)
+		{
+			NameField field = condition.getField();
+
+			if (condition == source || field.isCategory()) {
+				continue;
+			}
+
+			if (field.isNumeric())
+			{
+				int value = NameSnapshot.toNumber(name, field);
+
+				if (value < condition.getMin() || value > condition.getMax()) {
+					return false;
+				}
+			}
+			else if (condition.getValues().stream().noneMatch(value -> Collation.equals(value, name.getValue()))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Проверяет, упорядочены ли имена источника так же, как требует запрос.
+	 *
+	 * @param orders порядок запроса.
+	 * @param sortedBy поле, по которому, а затем по возрастанию названия упорядочен источник,
+	 * или {@code null}, если источник не упорядочен.
+	 * @param descending признак порядка источника по убыванию поля.
+	 * @return {@code true}, если сортировка не нужна.
+	 */
+	private static boolean isOrdered(@NotNull final List<NameQuery.@NotNull Order> orders,
+									 @Nullable final NameField sortedBy,
+									 final boolean descending)
+	{
+		if (sortedBy == null) {
+			return false;
+		}
+
+		int position = 0;
+
+		if (sortedBy != NameField.VALUE)
+		{
+			if (orders.isEmpty() || orders.get(0).getField() != sortedBy || orders.get(0).isDescending() != descending) {
+				return false;
+			}
+
+			position++;
+		}
+
+		return orders.size() == position
+			|| (orders.get(position).getField() == NameField.VALUE && !orders.get(position).isDescending());
+	}
+
+	/**
+	 * Возвращает сравнение имён в порядке запроса, а при равенстве по названию.
+	 *
+	 * @param orders порядок запроса.
+	 * @return сравнение имён.
+	 */
+	@NotNull
+	private static Comparator<@NotNull Name> toComparator(@NotNull final List<NameQuery.@NotNull Order> orders)
+	{
+		Comparator<Name> comparator = (first, second) -> 0;
+
+		for (NameQuery.Order order : orders)
+		{
+			NameField field = order.getField();
+			Comparator<Name> next = field.isNumeric()
+				? Comparator.comparingInt(name -> NameSnapshot.toNumber(name, field))
+				: (first, second) -> Collation.compare(NameSnapshot.toText(first, field), NameSnapshot.toText(second, field));
+
+			comparator = comparator.thenComparing(order.isDescending() ? next.reversed() : next);
+		}
+
+		return comparator.thenComparing((first, second) -> Collation.compare(first.getValue(), second.getValue()));
+	}
+
+	/**
+	 * Возвращает значение числового поля имени.
+	 *
+	 * @param name имя.
+	 * @param field числовое поле.
+	 * @return значение.
+	 */
+	private static int toNumber(@NotNull final Name name, @NotNull final NameField field)
+	{
+		return switch (field)
+		{
+			case LENGTH -> name.getLength();
+			case RANK_WORLD -> name.getRankWorld();
+			case RANK_COUNTRY -> name.getRankCountry();
+			case USAGE_WORLD -> name.getUsageWorld();
+			case USAGE_COUNTRY -> name.getUsageCountry();
+			default -> throw new IllegalArgumentException("Поле " + field + " не является числовым.");
+		};
+	}
+
+	/**
+	 * Возвращает значение строкового поля имени.
+	 *
+	 * @param name имя.
+	 * @param field строковое поле.
+	 * @return значение.
+	 */
+	@NotNull
+	private static String toText(@NotNull final Name name, @NotNull final NameField field)
+	{
+		return switch (field)
+		{
+			case VALUE -> name.getValue();
+			case ORIGIN -> name.getOrigin();
+			case CONTINENT -> name.getContinent();
+			case COUNTRY -> name.getCountry();
+			case COUNTRY_DENSITY -> name.getCountryDensity();
+			default -> throw new IllegalArgumentException("Поле " + field + " не является строковым.");
+		};
+	}
+
+	/**
+	 * Возвращает позицию в порядке возрастания названия, следующую за указанным именем.
+	 *
+	 * @param after имя или {@code null}.
+	 * @return позиция.
+	 */
+	private int startAfter(@Nullable final String after)
+	{
+		if (after == null) {
+			return 0;
+		}
+
+		int low = 0;
+		int high = this.order.length;
+
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+
+			if (Collation.compare(this.names[this.order[middle]].getValue(), after) <= 0) {
+				low = middle + 1;
+			}
+			else {
+				high = middle;
+			}
+		}
+
+		return low;
+	}
+
+	/**
+	 * Возвращает страницу списка имён с указанным значением характеристики.
+	 * <p>
+	 * Имена упорядочены по возрастанию названия.
+	 *
+	 * @param index индекс характеристики.
+	 * @param value значение характеристики.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка имён.
+	 */
+	@NotNull
+	private List<@NotNull Name> getByCategory(@NotNull final BitmapIndex index,
+											  @NotNull final String value,
+											  @Nullable final String after,
+											  final int limit)
+	{
+		int[] positions = index.get(value).select(this.startAfter(after), limit);
+
+		for (int position = 0; position < positions.length; position++)
+		{
+			positions[position] = this.order[positions[position]];
+		}
+
+		return new RowList(positions, 0, positions.length);
+	}
+
+	/**
+	 * Возвращает страницу списка имён по интервалу значений характеристики.
+	 * <p>
+	 * Имена упорядочены по возрастанию характеристики, а при равенстве по возрастанию названия.
+	 *
+	 * @param index индекс характеристики.
+	 * @param column характеристика имени.
+	 * @param min минимальное значение.
+	 * @param max максимальное значение.
+	 * @param after имя, после которого начинается страница, или {@code null} для первой страницы.
+	 * @param limit количество имён на странице.
+	 * @return страница списка имён.
+	 */
+	@NotNull
+	private List<@NotNull Name> getBetween(@NotNull final RangeIndex index,
+										   @NotNull final ToIntFunction<@NotNull Name> column,
+										   final int min,
+										   final int max,
+										   @Nullable final Name after,
+										   final int limit)
+	{
+		int start = index.start(min);
+		int end = index.end(max);
+
+		if (after != null)
+		{
+			int value = column.applyAsInt(after);
+			int low = start;
+			int high = Math.max(start, end);
+
+			while (low < high)
+			{
+				int middle = (low + high) >>> 1;
+				int compared = Integer.compare(index.getValue(middle), value);
+
+				if (compared == 0) {
+					compared = Collation.compare(this.names[index.getRow(middle)].getValue(), after.getValue());
+				}
+
+				if (compared <= 0) {
+					low = middle + 1;
+				}
+				else {
+					high = middle;
+				}
+			}
+
+			start = low;
+		}
+
+		end = (int) Math.min(end, (long) start + limit);
+
+		if (start >= end) {
+			return Collections.emptyList();
+		}
+
+		int[] rows = new int[end - start];
+
+		for (int position = start; position < end; position++)
+		{
+			rows[position - start] = index.getRow(position);
+		}
+
+		return new RowList(rows, 0, rows.length);
+	}
+
+	/**
+	 * Класс списка имён по номерам записей.
+	 */
+	private final class RowList extends AbstractList<@NotNull Name> implements RandomAccess
+	{
+		/**
+		 * Номера записей.
+		 */
+		@NotNull
+		private final int[] rows;
+
+		/**
+		 * Начальная позиция.
+		 */
+		private final int start;
+
+		/**
+		 * Конечная позиция, не включая её.
+		 */
+		private final int end;
+
+		/**
+		 * Конструктор для {@code RowList}.
+		 *
+		 * @param rows номера записей.
+		 * @param start начальная позиция.
+		 * @param end конечная позиция, не включая её.
+		 */
+		private RowList(@NotNull final int[] rows, final int start, final int end)
+		{
+			this.rows = rows;
+			this.start = start;
+			this.end = end;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @param position {@inheritDoc}
+		 * @return {@inheritDoc}
+		 */
+		@NotNull
+		@Override
+		public Name get(final int position)
+		{
+			Objects.checkIndex(position, this.size());
+
+			return NameSnapshot.this.names[this.rows[this.start + position]];
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @return {@inheritDoc}
+		 */
+		@Override
+		public int size()
+		{
+			return this.end - this.start;
+		}
+	}
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.repositories;
+
+import dev.kalenchukov.names.entities.Name;
+import dev.kalenchukov.names.exceptions.SnapshotException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Класс файла снимка имён.
+ * <p>
+ * Файл создаётся из базы данных и читается без обращения к базе данных и её драйверу.
+ * В файле хранятся только имена и словарь: при загрузке все имена разбираются заново,
+ * а индексы снимка строятся в памяти каждого процесса, поэтому время загрузки
+ * растёт с количеством имён так же, как при загрузке из базы данных, но без выполнения запросов.
+ * <p>
+ * Числа записываются от старшего байта к младшему, строки — длиной в байтах (2 байта)
+ * и байтами UTF-8. Файл состоит из частей:
+ * <ul>
+ *     <li>сигнатура {@code NMSN} и версия формата (по 4 байта);</li>
+ *     <li>количество строк словаря и строки словаря: происхождения, континенты и страны;</li>
+ *     <li>количество имён и имена в порядке записей таблицы: название, места в мире и стране,
+ *     количество людей в мире и стране, номера строк словаря для происхождения, континента,
+ *     страны и страны по плотности;</li>
+ *     <li>контрольная сумма CRC32 всех предыдущих байтов.</li>
+ * </ul>
+ *
+ * @author Алексей Каленчуков
+ */
+public final class NameSnapshotFile
+{
+	/**
+	 * Версия формата.
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * Сигнатура файла.
+	 */
+	private static final int MAGIC = 0x4E4D534E;
+
+	/**
+	 * Наибольшая длина строки в байтах.
+	 */
+	private static final int MAX_STRING_LENGTH = 0xFFFF;
+
+	/**
+	 * Размер сигнатуры, версии и контрольной суммы в байтах.
+	 */
+	private static final int FRAME_SIZE = 12;
+
+	/**
+	 * Наименьший размер строки словаря в байтах.
+	 */
+	private static final int MIN_STRING_SIZE = Short.BYTES;
+
+	/**
+	 * Наименьший размер имени в байтах.
+	 */
+	private static final int MIN_NAME_SIZE = Short.BYTES + 8 * Integer.BYTES;
+
+	/**
+	 * Конструктор для {@code NameSnapshotFile}.
+	 */
+	private NameSnapshotFile() {}
+
+	/**
+	 * Записывает все имена из базы данных в файл снимка.
+	 *
+	 * @param source репозиторий имён в базе данных.
+	 * @param path файл снимка.
+	 * @throws SnapshotException если не удалось записать файл.
+	 */
+	public static void write(@NotNull final NameRepository source, @NotNull final Path path)
+	{
+		NameSnapshotFile.write(source.getAllInTableOrder(), path);
+	}
+
+	/**
+	 * Записывает имена в файл снимка.
+	 * <p>
+	 * Файл записывается во временный файл рядом и заменяет прежний файл целиком,
+	 * поэтому читатели никогда не видят частично записанный снимок.
+	 *
+	 * @param names имена в порядке записей таблицы.
+	 * @param path файл снимка.
+	 * @throws SnapshotException если не удалось записать файл.
+	 */
+	public static void write(@NotNull final Collection<@NotNull Name> names, @NotNull final Path path)
+	{
+		Map<String, Integer> strings = new LinkedHashMap<>();
+
+		for (Name name : names)
+		{
+			strings.putIfAbsent(name.getOrigin(), strings.size());
+			strings.putIfAbsent(name.getContinent(), strings.size());
+			strings.putIfAbsent(name.getCountry(), strings.size());
+			strings.putIfAbsent(name.getCountryDensity(), strings.size());
+		}
+
+		Path directory = path.toAbsolutePath().getParent();
+		Path temporary = null;
+
+		try {
+			temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+
+			try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(temporary)))
+			{
+				CRC32 checksum = new CRC32();
+				DataOutputStream output = new DataOutputStream(new CheckedOutputStream(file, checksum));
+
+				output.writeInt(MAGIC);
+				output.writeInt(VERSION);
+				output.writeInt(strings.size());
+
+				for (String string : strings.keySet())
+				{
+					NameSnapshotFile.writeString(output, string);
+				}
+
+				output.writeInt(names.size());
+
+				for (Name name : names)
+				{
+					NameSnapshotFile.writeString(output, name.getValue());
+					output.writeInt(name.getRankWorld());
+					output.writeInt(name.getRankCountry());
+					output.writeInt(name.getUsageWorld());
+					output.writeInt(name.getUsageCountry());
+					output.writeInt(strings.get(name.getOrigin()));
+					output.writeInt(strings.get(name.getContinent()));
+					output.writeInt(strings.get(name.getCountry()));
+					output.writeInt(strings.get(name.getCountryDensity()));
+				}
+
+				output.flush();
+				new DataOutputStream(file).writeInt((int) checksum.getValue());
+			}
+
+			Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException exception) {
+			throw new SnapshotException("Не удалось записать снимок имён.", exception);
+		} finally {
+			NameSnapshotFile.deleteQuietly(temporary);
+		}
+	}
+
+	/**
+	 * Читает имена из файла снимка.
+	 * <p>
+	 * Файл отображается в память только для чтения и закрывается после разбора.
+	 *
+	 * @param path файл снимка.
+	 * @return имена в порядке записей таблицы.
+	 * @throws SnapshotException если файл не удалось прочитать, он повреждён или имеет другую версию формата.
+	 */
+	@NotNull
+	public static List<@NotNull Name> read(@NotNull final Path path)
+	{
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+		{
+			long size = channel.size();
+
+			if (size < FRAME_SIZE || size > Integer.MAX_VALUE) {
+				throw new SnapshotException("Снимок имён повреждён.");
+			}
+
+			return NameSnapshotFile.decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+		} catch (IOException exception) {
+			throw new SnapshotException("Не удалось прочитать снимок имён.", exception);
+		}
+	}
+
+	/**
+	 * Разбирает имена из содержимого файла снимка.
+	 *
+	 * @param buffer содержимое файла.
+	 * @return имена в порядке записей таблицы.
+	 * @throws SnapshotException если содержимое повреждено или имеет другую версию формата.
+	 */
+	@NotNull
+	private static List<@NotNull Name> decode(@NotNull final ByteBuffer buffer)
+	{
+		int end = buffer.limit() - Integer.BYTES;
+		CRC32 checksum = new CRC32();
+		checksum.update(buffer.duplicate().limit(end));
+
+		if (buffer.getInt() != MAGIC || (int) checksum.getValue() != buffer.getInt(end)) {
+			throw new SnapshotException("Снимок имён повреждён.");
+		}
+
+		int version = buffer.getInt();
+
+		if (version != VERSION) {
+			throw new SnapshotException("Неподдерживаемая версия снимка имён " + version + ".");
+		}
+
+		try {
+			String[] strings = new String[NameSnapshotFile.readCount(buffer, end, MIN_STRING_SIZE)];
+
+			for (int index = 0; index < strings.length; index++)
+			{
+				strings[index] = NameSnapshotFile.readString(buffer);
+			}
+
+			Name[] names = new Name[NameSnapshotFile.readCount(buffer, end, MIN_NAME_SIZE)];
+
+			for (int index = 0; index < names.length; index++)
+			{
+				names[index] = new Name(
+					NameSnapshotFile.readString(buffer),
+					buffer.getInt(),
+					buffer.getInt(),
+					buffer.getInt(),
+					buffer.getInt(),
+					strings[buffer.getInt()],
+					strings[buffer.getInt()],
+					strings[buffer.getInt()],
+					strings[buffer.getInt()]
+				);
+			}
+
+			if (buffer.position() != end) {
+				throw new SnapshotException("Снимок имён повреждён.");
+			}
+
+			return List.of(names);
+		} catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException exception) {
+			throw new SnapshotException("Снимок имён повреждён.", exception);
+		}
+	}
+
+	/**
+	 * Читает количество элементов.
+	 * <p>
+	 * Количество проверяется по оставшемуся размеру содержимого до выделения памяти под элементы,
+	 * поэтому повреждённое количество не приводит к выделению большого массива.
+	 *
+	 * @param buffer содержимое файла.
+	 * @param end позиция контрольной суммы.
+	 * @param size наименьший размер элемента в байтах.
+	 * @return количество элементов.
+	 * @throws SnapshotException если элементы не помещаются в оставшееся содержимое.
+	 */
+	private static int readCount(@NotNull final ByteBuffer buffer, final int end, final int size)
+	{
+		int count = buffer.getInt();
+
+		if (count < 0 || (long) count * size > end - buffer.position()) {
+			throw new SnapshotException("Снимок имён повреждён.");
+		}
+
+		return count;
+	}
+
+	/**
+	 * Записывает строку.
+	 *
+	 * @param output поток записи.
+	 * @param value строка.
+	 * @throws IOException если не удалось записать строку.
+	 * @throws SnapshotException если строка длиннее {@value #MAX_STRING_LENGTH} байт.
+	 */
+	private static void writeString(@NotNull final DataOutputStream output, @NotNull final String value)
+		throws IOException
+	{
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+		if (bytes.length > MAX_STRING_LENGTH) {
+			throw new SnapshotException("Строка '" + value + "' слишком длинная для снимка имён.");
+		}
+
+		output.writeShort(bytes.length);
+		output.write(bytes);
+	}
+
+	/**
+	 * Читает строку.
+	 *
+	 * @param buffer содержимое файла.
+	 * @return строка.
+	 */
+	@NotNull
+	private static String readString(@NotNull final ByteBuffer buffer)
+	{
+		byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+		buffer.get(bytes);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Удаляет файл, если он существует, не сообщая об ошибках.
+	 *
+	 * @param path файл или {@code null}.
+	 */
+	private static void deleteQuietly(@Nullable final Path path)
+	{
+		if (path == null) {
+			return;
+		}
+
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException ignored) {
+			// Временный файл остаётся на диске и может быть удалён вручную.
+		}
+	}
+}
@@ -0,0 +1,939 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.repositories;
+
+import dev.kalenchukov.names.entities.Name;
+import dev.kalenchukov.names.entities.NameField;
+import dev.kalenchukov.names.entities.NameProjection;
+import dev.kalenchukov.names.entities.NameQuery;
+import dev.kalenchukov.names.exceptions.NameNotFoundException;
+import dev.kalenchukov.names.modules.StreamPublisher;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+/**
+ * Класс репозитория имён в памяти.
+ * <p>
+ * При создании загружает все имена из базы данных в неизменяемый снимок
+ * и отвечает на запросы чтения из памяти.
+ * Изменения передаются в базу данных, после чего снимок создаётся заново.
+ * <p>
+ * Репозиторий, созданный из готового набора имён, например из файла {@link NameSnapshotFile},
+ * доступен только для чтения.
+ *
+ * @author Алексей Каленчуков
+ */
+public class NameSnapshotRepository implements NameRepositories
+{
+	/**
+	 * Репозиторий имён в базе данных или {@code null}, если репозиторий доступен только для чтения.
+	 */
+	@Nullable
+	private final NameRepository source;
+
+	/**
+	 * Снимок имён.
+	 */
+	@NotNull
+	private volatile NameSnapshot snapshot;
+
+	/**
+	 * Конструктор для {@code NameSnapshotRepository}.
+	 */
+	public NameSnapshotRepository()
+	{
+		this(new NameRepository());
+	}
+
+	/**
+	 * Конструктор для {@code NameSnapshotRepository}.
+	 *
+	 * @param source репозиторий имён в базе данных.
+	 */
+	public NameSnapshotRepository(@NotNull final NameRepository source)
+	{
+		this.source = source;
+		this.snapshot = NameSnapshot.of(source.getAllInTableOrder());
+	}
+
+	/**
+	 * Конструктор для {@code NameSnapshotRepository}.
+	 * <p>
+	 * Репозиторий доступен только для чтения.
+	 *
+	 * @param names имена в порядке записей таблицы.
+	 */
+	public NameSnapshotRepository(@NotNull final Collection<@NotNull Name> names)
+	{
+		this.source = null;
+		this.snapshot = NameSnapshot.of(names);
+	}
+
+	/**
+	 * Загружает имена из базы данных заново.
+	 *
+	 * @throws UnsupportedOperationException если репозиторий доступен только для чтения.
+	 */
+	public synchronized void refresh()
+	{
+		this.snapshot = NameSnapshot.of(this.getSource().getAllInTableOrder());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param name {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Name getByName(@NotNull final String name)
+	{
+		Name found = this.snapshot.find(name);
+
+		if (found == null) {
+			throw new NameNotFoundException("Имя '" + name + "' не найдено.");
+		}
+
+		return found;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param names {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Map<@NotNull String, @NotNull Name> getByNames(@NotNull final Collection<@NotNull String> names)
+	{
+		NameSnapshot snapshot = this.snapshot;
+		Map<String, Name> found = new LinkedHashMap<>();
+
+		for (String name : names)
+		{
+			Name value = snapshot.find(name);
+
+			if (value != null) {
+				found.put(name, value);
+			}
+		}
+
+		return found;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param names {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Set<@NotNull String> existsByNames(@NotNull final Collection<@NotNull String> names)
+	{
+		NameSnapshot snapshot = this.snapshot;
+		Set<String> found = new LinkedHashSet<>();
+
+		for (String name : names)
+		{
+			if (snapshot.find(name) != null) {
+				found.add(name);
+			}
+		}
+
+		return found;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getAll()
+	{
+		return this.snapshot.getAll();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getAll(@Nullable final String after, final int limit)
+	{
+		NameSnapshotRepository.checkLimit(limit);
+
+		return this.snapshot.getAll(after, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByCountry(@NotNull final String country,
+												  @Nullable final String after,
+												  final int limit)
+	{
+		NameSnapshotRepository.checkLimit(limit);
+
+		return this.snapshot.getByCountry(country, after, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenUsageWorld(final int min,
+														  final int max,
+														  @Nullable final Name after,
+														  final int limit)
+	{
+		NameSnapshotRepository.checkLimit(limit);
+
+		return this.snapshot.getBetweenUsageWorld(min, max, after, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenUsageCountry(final int min,
+															final int max,
+															@Nullable final Name after,
+															final int limit)
+	{
+		NameSnapshotRepository.checkLimit(limit);
+
+		return this.snapshot.getBetweenUsageCountry(min, max, after, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenRankWorld(final int min,
+														 final int max,
+														 @Nullable final Name after,
+														 final int limit)
+	{
+		NameSnapshotRepository.checkLimit(limit);
+
+		return this.snapshot.getBetweenRankWorld(min, max, after, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @param after {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenRankCountry(final int min,
+														   final int max,
+														   @Nullable final Name after,
+														   final int limit)
+	{
+		NameSnapshotRepository.checkLimit(limit);
+
+		return this.snapshot.getBetweenRankCountry(min, max, after, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Stream<@NotNull Name> streamAll()
+	{
+		return this.snapshot.getAll().stream();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Stream<@NotNull Name> streamByCountry(@NotNull final String country)
+	{
+		return this.snapshot.getByCountry(country).stream();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Stream<@NotNull Name> streamByCountryDensity(@NotNull final String country)
+	{
+		return this.snapshot.getByCountryDensity(country).stream();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishAll()
+	{
+		return new StreamPublisher<>(() -> this.snapshot.getAll().stream());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishByCountry(@NotNull final String country)
+	{
+		return new StreamPublisher<>(() -> this.snapshot.getByCountry(country).stream());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishByCountryDensity(@NotNull final String country)
+	{
+		return new StreamPublisher<>(() -> this.snapshot.getByCountryDensity(country).stream());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishBetweenUsageWorld(final int min, final int max)
+	{
+		return new StreamPublisher<>(() -> this.snapshot.getBetweenUsageWorld(min, max).stream());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishBetweenUsageCountry(final int min, final int max)
+	{
+		return new StreamPublisher<>(() -> this.snapshot.getBetweenUsageCountry(min, max).stream());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishBetweenRankWorld(final int min, final int max)
+	{
+		return new StreamPublisher<>(() -> this.snapshot.getBetweenRankWorld(min, max).stream());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Flow.Publisher<@NotNull Name> publishBetweenRankCountry(final int min, final int max)
+	{
+		return new StreamPublisher<>(() -> this.snapshot.getBetweenRankCountry(min, max).stream());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByCountry(@NotNull final String country)
+	{
+		return this.snapshot.getByCountry(country);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByCountryDensity(@NotNull final String country)
+	{
+		return this.snapshot.getByCountryDensity(country);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenUsageWorld(final int min, final int max)
+	{
+		return this.snapshot.getBetweenUsageWorld(min, max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenUsageCountry(final int min, final int max)
+	{
+		return this.snapshot.getBetweenUsageCountry(min, max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenRankWorld(final int min, final int max)
+	{
+		return this.snapshot.getBetweenRankWorld(min, max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenRankCountry(final int min, final int max)
+	{
+		return this.snapshot.getBetweenRankCountry(min, max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int count()
+	{
+		return this.snapshot.count();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param name {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public boolean existsByName(@NotNull final String name)
+	{
+		return this.snapshot.find(name) != null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param name {@inheritDoc}
+	 */
+	@Override
+	public synchronized void deleteByName(@NotNull final String name)
+	{
+		this.getSource().deleteByName(name);
+		this.refresh();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull String> getNameValuesByCountry(@NotNull final String country)
+	{
+		return NameSnapshotRepository.toValues(this.snapshot.getByCountry(country));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull String> getNameValuesBetweenRankWorld(final int min, final int max)
+	{
+		return NameSnapshotRepository.toValues(this.snapshot.getBetweenRankWorld(min, max));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param country {@inheritDoc}
+	 * @param fields {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull NameProjection> getFieldsByCountry(@NotNull final String country,
+															@NotNull final Set<@NotNull NameField> fields)
+	{
+		return NameSnapshotRepository.toProjections(this.snapshot.getByCountry(country), NameProjection.toFields(fields));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @param fields {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull NameProjection> getFieldsBetweenRankWorld(final int min,
+																   final int max,
+																   @NotNull final Set<@NotNull NameField> fields)
+	{
+		return NameSnapshotRepository.toProjections(this.snapshot.getBetweenRankWorld(min, max), NameProjection.toFields(fields));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param prefix {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull Name> getByPrefix(@NotNull final String prefix, final int limit)
+	{
+		NameSnapshotRepository.checkLimit(limit);
+
+		return this.snapshot.getByPrefix(prefix, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param query {@inheritDoc}
+	 * @param maxEdits {@inheritDoc}
+	 * @param limit {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull Name> searchFuzzy(@NotNull final String query, final int maxEdits, final int limit)
+	{
+		NameSnapshotRepository.checkEdits(maxEdits);
+		NameSnapshotRepository.checkLimit(limit);
+
+		return this.snapshot.searchFuzzy(query, maxEdits, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param name {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull Name> getBySoundsLike(@NotNull final String name)
+	{
+		return this.snapshot.getBySoundsLike(name);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByLength(final int length)
+	{
+		return this.snapshot.getBetweenLength(length, length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param min {@inheritDoc}
+	 * @param max {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getBetweenLength(final int min, final int max)
+	{
+		return this.snapshot.getBetweenLength(min, max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param continent {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByContinent(@NotNull final String continent)
+	{
+		return this.snapshot.getByContinent(continent);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param origin {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByOrigin(@NotNull final String origin)
+	{
+		return this.snapshot.getByOrigin(origin);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Условия вычисляются пересечением и объединением битовых карт индексов характеристик.
+	 *
+	 * @param attributes {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public Collection<@NotNull Name> getByAttributes(@NotNull final Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes)
+	{
+		NameSnapshotRepository.checkAttributes(attributes);
+
+		return this.snapshot.getByAttributes(attributes);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Количество берётся из битовой карты результата без создания списка имён.
+	 *
+	 * @param attributes {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public int countByAttributes(@NotNull final Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes)
+	{
+		NameSnapshotRepository.checkAttributes(attributes);
+
+		return this.snapshot.countByAttributes(attributes);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Имена перебираются из индекса наиболее избирательного условия.
+	 *
+	 * @param query {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull Name> getByQuery(@NotNull final NameQuery query)
+	{
+		return this.snapshot.getByQuery(query);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param query {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public List<@NotNull NameProjection> getFieldsByQuery(@NotNull final NameQuery query)
+	{
+		return NameSnapshotRepository.toProjections(this.snapshot.getByQuery(query), query.getFields());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param name {@inheritDoc}
+	 */
+	@Override
+	public synchronized void add(@NotNull final Name name)
+	{
+		this.getSource().add(name);
+		this.refresh();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param names {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public synchronized BatchResult addAll(@NotNull final Collection<@NotNull Name> names)
+	{
+		return this.addAll(names.iterator());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Снимок создаётся заново один раз после добавления всех пакетов.
+	 *
+	 * @param names {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public synchronized BatchResult addAll(@NotNull final Iterator<@NotNull Name> names)
+	{
+		NameRepository source = this.getSource();
+
+		try {
+			return source.addAll(names);
+		} finally {
+			this.refresh();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void create()
+	{
+		this.getSource().create();
+		this.refresh();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Снимок и его индексы строятся при создании репозитория, поэтому подготовка не требуется.
+	 */
+	@Override
+	public void warmUp()
+	{
+		// Репозиторий готов к запросам сразу после создания.
+	}
+
+	/**
+	 * Возвращает репозиторий имён в базе данных.
+	 *
+	 * @return репозиторий имён в базе данных.
+	 * @throws UnsupportedOperationException если репозиторий доступен только для чтения.
+	 */
+	@NotNull
+	private NameRepository getSource()
+	{
+		if (this.source == null) {
+			throw new UnsupportedOperationException("Репозиторий имён доступен только для чтения.");
+		}
+
+		return this.source;
+	}
+
+	/**
+	 * Возвращает названия имён.
+	 *
+	 * @param names имена.
+	 * @return названия имён.
+	 */
+	@NotNull
+	private static List<@NotNull String> toValues(@NotNull final Collection<@NotNull Name> names)
+	{
+		List<String> values = new ArrayList<>(names.size());
+
+		for (Name name : names)
+		{
+			values.add(name.getValue());
+		}
+
+		return values;
+	}
+
+	/**
+	 * Возвращает проекции имён.
+	 *
+	 * @param names имена.
+	 * @param fields выбранные поля.
+	 * @return проекции имён.
+	 */
+	@NotNull
+	private static List<@NotNull NameProjection> toProjections(@NotNull final Collection<@NotNull Name> names,
+															   @NotNull final Set<@NotNull NameField> fields)
+	{
+		List<NameProjection> projections = new ArrayList<>(names.size());
+
+		for (Name name : names)
+		{
+			projections.add(NameProjection.of(name, fields));
+		}
+
+		return projections;
+	}
+
+	/**
+	 * Проверяет количество имён на странице.
+	 *
+	 * @param limit количество имён на странице.
+	 * @throws IllegalArgumentException если количество имён на странице отрицательное.
+	 */
+	private static void checkLimit(final int limit)
+	{
+		if (limit < 0) {
+			throw new IllegalArgumentException("Количество имён на странице не может быть отрицательным.");
+		}
+	}
+
+	/**
+	 * Проверяет характеристики условий отбора.
+	 *
+	 * @param attributes допустимые значения по характеристикам.
+	 * @throws IllegalArgumentException если характеристика не является категорией.
+	 */
+	private static void checkAttributes(@NotNull final Map<@NotNull NameField, @NotNull Set<@NotNull String>> attributes)
+	{
+		for (NameField field : attributes.keySet())
+		{
+			if (!field.isCategory()) {
+				throw new IllegalArgumentException("Поле " + field + " не является категорией имени.");
+			}
+		}
+	}
+
+	/**
+	 * Проверяет наибольшее расстояние нечёткого поиска.
+	 *
+	 * @param maxEdits наибольшее расстояние.
+	 * @throws IllegalArgumentException если расстояние отрицательное.
+	 */
+	private static void checkEdits(final int maxEdits)
+	{
+		if (maxEdits < 0) {
+			throw new IllegalArgumentException("Расстояние между именами не может быть отрицательным.");
+		}
+	}
+}
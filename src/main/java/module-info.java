@@ -10,4 +10,7 @@ module dev.kalenchukov.names
 	exports dev.kalenchukov.names;
 	exports dev.kalenchukov.names.entities;
 	exports dev.kalenchukov.names.exceptions;
+	exports dev.kalenchukov.names.metrics;
+
+	uses dev.kalenchukov.names.metrics.QueryListener;
 }
\ No newline at end of file
@@ -0,0 +1,255 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.indexes;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки класса {@link Bitmap}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class BitmapTest
+{
+	/**
+	 * Количество чисел в блоке.
+	 */
+	private static final int CONTAINER = 65536;
+
+	/**
+	 * Количество чисел в блоках около границы между массивом и битовой картой.
+	 */
+	private static final int[] SIZES = {0, 1, 2, 4095, 4096, 4097, 8192, 40000, 65535, 65536};
+
+	/**
+	 * Количество блоков в проверяемых множествах.
+	 */
+	private static final int CONTAINERS = 4;
+
+	/**
+	 * Количество проверяемых множеств.
+	 */
+	private static final int ROUNDS = 40;
+
+	/**
+	 * Проверка создания множества из части массива.
+	 */
+	@Test
+	public void of()
+	{
+		Random random = new Random(1);
+
+		for (int round = 0; round < ROUNDS; round++)
+		{
+			BitSet expected = BitmapTest.generate(random);
+			int[] values = expected.stream().toArray();
+			int from = values.length == 0 ? 0 : random.nextInt(values.length);
+			int to = from + random.nextInt(values.length - from + 1);
+
+			Bitmap bitmap = Bitmap.of(values, from, to);
+			expected.clear();
+
+			for (int index = from; index < to; index++)
+			{
+				expected.set(values[index]);
+			}
+
+			BitmapTest.assertEquals(bitmap, expected);
+		}
+	}
+
+	/**
+	 * Проверка пересечения множеств.
+	 */
+	@Test
+	public void and()
+	{
+		Random random = new Random(2);
+
+		for (int round = 0; round < ROUNDS; round++)
+		{
+			BitSet first = BitmapTest.generate(random);
+			BitSet second = BitmapTest.generate(random);
+
+			Bitmap bitmap = BitmapTest.toBitmap(first).and(BitmapTest.toBitmap(second));
+			first.and(second);
+
+			BitmapTest.assertEquals(bitmap, first);
+		}
+	}
+
+	/**
+	 * Проверка объединения множеств.
+	 */
+	@Test
+	public void or()
+	{
+		Random random = new Random(3);
+
+		for (int round = 0; round < ROUNDS; round++)
+		{
+			BitSet first = BitmapTest.generate(random);
+			BitSet second = BitmapTest.generate(random);
+
+			Bitmap bitmap = BitmapTest.toBitmap(first).or(BitmapTest.toBitmap(second));
+			first.or(second);
+
+			BitmapTest.assertEquals(bitmap, first);
+		}
+	}
+
+	/**
+	 * Проверка выбора чисел, начиная с числа внутри блока, для результатов пересечения и объединения.
+	 */
+	@Test
+	public void select()
+	{
+		Random random = new Random(4);
+
+		for (int round = 0; round < ROUNDS; round++)
+		{
+			BitSet first = BitmapTest.generate(random);
+			BitSet second = BitmapTest.generate(random);
+			BitSet intersection = (BitSet) first.clone();
+			intersection.and(second);
+			BitSet union = (BitSet) first.clone();
+			union.or(second);
+
+			Bitmap firstBitmap = BitmapTest.toBitmap(first);
+			Bitmap secondBitmap = BitmapTest.toBitmap(second);
+
+			BitmapTest.assertSelect(firstBitmap, first, random);
+			BitmapTest.assertSelect(firstBitmap.and(secondBitmap), intersection, random);
+			BitmapTest.assertSelect(firstBitmap.or(secondBitmap), union, random);
+		}
+	}
+
+	/**
+	 * Проверяет выбор чисел с начала каждого блока, с границ слов и с произвольного числа внутри блока.
+	 *
+	 * @param bitmap множество.
+	 * @param expected ожидаемые числа.
+	 * @param random генератор случайных чисел.
+	 */
+	private static void assertSelect(@NotNull final Bitmap bitmap,
+									 @NotNull final BitSet expected,
+									 @NotNull final Random random)
+	{
+		for (int container = 0; container <= CONTAINERS; container++)
+		{
+			int high = container * CONTAINER;
+			int[] offsets = {0, 1, 63, 64, 65, random.nextInt(CONTAINER), CONTAINER - 1};
+
+			for (int offset : offsets)
+			{
+				int from = high + offset;
+				int limit = random.nextInt(2) == 0 ? Integer.MAX_VALUE : random.nextInt(5000);
+
+				assertThat(bitmap.select(from, limit))
+					.as("from = %d, limit = %d", from, limit)
+					.isEqualTo(expected.stream().filter(value -> value >= from).limit(limit).toArray());
+			}
+		}
+	}
+
+	/**
+	 * Проверяет совпадение множества с ожидаемыми числами.
+	 *
+	 * @param bitmap множество.
+	 * @param expected ожидаемые числа.
+	 */
+	private static void assertEquals(@NotNull final Bitmap bitmap, @NotNull final BitSet expected)
+	{
+		assertThat(bitmap.toArray()).isEqualTo(expected.stream().toArray());
+		assertThat(bitmap.cardinality()).isEqualTo(expected.cardinality());
+		assertThat(bitmap.isEmpty()).isEqualTo(expected.isEmpty());
+
+		for (int value = 0; value < CONTAINERS * CONTAINER; value += 97)
+		{
+			assertThat(bitmap.contains(value)).as("value = %d", value).isEqualTo(expected.get(value));
+		}
+	}
+
+	/**
+	 * Создаёт множество из чисел.
+	 *
+	 * @param values числа.
+	 * @return множество.
+	 */
+	@NotNull
+	private static Bitmap toBitmap(@NotNull final BitSet values)
+	{
+		int[] array = values.stream().toArray();
+
+		return Bitmap.of(array, 0, array.length);
+	}
+
+	/**
+	 * Создаёт случайный набор чисел, в каждом блоке которого количество чисел выбрано
+	 * около границы между массивом и битовой картой.
+	 *
+	 * @param random генератор случайных чисел.
+	 * @return набор чисел.
+	 */
+	@NotNull
+	private static BitSet generate(@NotNull final Random random)
+	{
+		BitSet values = new BitSet();
+
+		for (int container = 0; container < CONTAINERS; container++)
+		{
+			int size = SIZES[random.nextInt(SIZES.length)];
+			BitSet block = new BitSet(CONTAINER);
+
+			if (size > CONTAINER / 2)
+			{
+				block.set(0, CONTAINER);
+
+				while (block.cardinality() > size)
+				{
+					block.clear(random.nextInt(CONTAINER));
+				}
+			}
+			else
+			{
+				while (block.cardinality() < size)
+				{
+					block.set(random.nextInt(CONTAINER));
+				}
+			}
+
+			int high = container * CONTAINER;
+			block.stream().forEach(value -> values.set(high + value));
+		}
+
+		return values;
+	}
+}
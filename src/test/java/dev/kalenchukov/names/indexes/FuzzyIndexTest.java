@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.indexes;
+
+import dev.kalenchukov.names.modules.Collation;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки класса {@link FuzzyIndex}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class FuzzyIndexTest
+{
+	/**
+	 * Слоги, из которых составляются названия.
+	 */
+	@NotNull
+	private static final String[] SYLLABLES = {"a", "an", "na", "ma", "mar", "ri", "ia", "Ал", "ек", "се", "й", "ß", "ss", "Ё"};
+
+	/**
+	 * Проверка поиска по сравнению с перебором всех названий.
+	 */
+	@Test
+	public void search()
+	{
+		Random random = new Random(1);
+		String[] column = FuzzyIndexTest.generate(random, 3000);
+		FuzzyIndex index = new FuzzyIndex(column);
+
+		for (int round = 0; round < 200; round++)
+		{
+			String query = FuzzyIndexTest.mutate(column[random.nextInt(column.length)], random);
+
+			for (int maxEdits = 0; maxEdits <= 2; maxEdits++)
+			{
+				List<Long> expected = new ArrayList<>();
+
+				for (int row = 0; row < column.length; row++)
+				{
+					int distance = Collation.distance(query, column[row]);
+
+					if (distance <= maxEdits) {
+						expected.add(((long) distance << 32) | row);
+					}
+				}
+
+				assertThat(Arrays.stream(index.search(query, maxEdits)).boxed().toList())
+					.as("query = %s, maxEdits = %d", query, maxEdits)
+					.containsExactlyInAnyOrderElementsOf(expected);
+			}
+		}
+	}
+
+	/**
+	 * Создаёт названия из случайных слогов.
+	 *
+	 * @param random генератор случайных чисел.
+	 * @param count количество названий.
+	 * @return названия.
+	 */
+	@NotNull
+	static String[] generate(@NotNull final Random random, final int count)
+	{
+		String[] column = new String[count];
+
+		for (int row = 0; row < count; row++)
+		{
+			StringBuilder value = new StringBuilder();
+			int length = 1 + random.nextInt(4);
+
+			for (int syllable = 0; syllable < length; syllable++)
+			{
+				value.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+			}
+
+			column[row] = random.nextInt(4) == 0 ? value.toString().toUpperCase(Locale.ROOT) : value.toString();
+		}
+
+		return column;
+	}
+
+	/**
+	 * Вносит в название случайные замены, вставки и удаления символов.
+	 *
+	 * @param value название.
+	 * @param random генератор случайных чисел.
+	 * @return изменённое название.
+	 */
+	@NotNull
+	static String mutate(@NotNull final String value, @NotNull final Random random)
+	{
+		StringBuilder query = new StringBuilder(value);
+		int edits = random.nextInt(4);
+
+		for (int edit = 0; edit < edits; edit++)
+		{
+			int position = random.nextInt(query.length() + 1);
+			char symbol = "aimnsßЁй".charAt(random.nextInt(8));
+
+			switch (random.nextInt(3))
+			{
+				case 0 -> query.insert(position, symbol);
+				case 1 -> {
+					if (position < query.length()) {
+						query.setCharAt(position, symbol);
+					}
+				}
+				default -> {
+					if (position < query.length()) {
+						query.deleteCharAt(position);
+					}
+				}
+			}
+		}
+
+		return query.toString();
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.modules;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки класса {@link Collation}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class CollationTest
+{
+	/**
+	 * Пары строк, равных без учёта регистра, из символов ASCII и других символов.
+	 */
+	@NotNull
+	private static final String[][] EQUAL = {
+		{"STRASSE", "Straße"},
+		{"strasse", "STRAẞE"},
+		{"ΟΔΟΣ", "οδος"},
+		{"ΟΔΟΣ", "οδοσ"},
+		{"Σ", "ς"},
+		{"ZOË", "zoë"},
+		{"ZOË", "zoe\u0308"},
+		{"kelvin", "\u212Aelvin"},
+		{"SS", "ſſ"},
+		{"АЛЕКСЕЙ", "Алексей"},
+		{"ЁЛКА", "ёлка"},
+	};
+
+	/**
+	 * Символы, из которых составляются случайные строки.
+	 */
+	@NotNull
+	private static final String ALPHABET = "aAsSzZeEkK ßẞſσςΣëËöÖ\u0308\u212AёЁйЙ";
+
+	/**
+	 * Проверка равенства строк из символов ASCII и других символов.
+	 */
+	@Test
+	public void equals()
+	{
+		for (String[] pair : EQUAL)
+		{
+			assertThat(Collation.equals(pair[0], pair[1])).as("%s = %s", pair[0], pair[1]).isTrue();
+			assertThat(Collation.equals(pair[1], pair[0])).as("%s = %s", pair[1], pair[0]).isTrue();
+		}
+	}
+
+	/**
+	 * Проверка совпадения хеш-кодов строк, равных без учёта регистра.
+	 */
+	@Test
+	public void hash()
+	{
+		for (String[] pair : EQUAL)
+		{
+			assertThat(Collation.hash(pair[0])).as("%s, %s", pair[0], pair[1]).isEqualTo(Collation.hash(pair[1]));
+			assertThat(Collation.hash64(pair[0])).as("%s, %s", pair[0], pair[1]).isEqualTo(Collation.hash64(pair[1]));
+		}
+	}
+
+	/**
+	 * Проверка совпадения хеш-кодов случайных строк, равных без учёта регистра.
+	 */
+	@Test
+	public void hashWithRandomStrings()
+	{
+		List<String> values = CollationTest.generate(new Random(1), 2000);
+		int equal = 0;
+
+		for (String first : values)
+		{
+			for (String second : values)
+			{
+				if (!Collation.equals(first, second)) {
+					continue;
+				}
+
+				equal++;
+
+				assertThat(Collation.equals(second, first)).as("%s = %s", second, first).isTrue();
+				assertThat(Collation.hash(first)).as("%s, %s", first, second).isEqualTo(Collation.hash(second));
+				assertThat(Collation.hash64(first)).as("%s, %s", first, second).isEqualTo(Collation.hash64(second));
+			}
+		}
+
+		assertThat(equal).isGreaterThan(values.size());
+	}
+
+	/**
+	 * Проверка, что повторное вычисление ключа не меняет его.
+	 */
+	@Test
+	public void fold()
+	{
+		List<String> values = CollationTest.generate(new Random(2), 2000);
+
+		for (String[] pair : EQUAL)
+		{
+			values.addAll(List.of(pair));
+		}
+
+		for (String value : values)
+		{
+			String key = Collation.fold(value);
+
+			assertThat(Collation.fold(key)).as(value).isEqualTo(key);
+			assertThat(Collation.equals(value, key)).as(value).isTrue();
+		}
+	}
+
+	/**
+	 * Создаёт случайные короткие строки из символов ASCII и других символов.
+	 *
+	 * @param random генератор случайных чисел.
+	 * @param count количество строк.
+	 * @return строки.
+	 */
+	@NotNull
+	private static List<String> generate(@NotNull final Random random, final int count)
+	{
+		List<String> values = new ArrayList<>();
+
+		for (int index = 0; index < count; index++)
+		{
+			StringBuilder value = new StringBuilder();
+			int length = 1 + random.nextInt(3);
+
+			for (int position = 0; position < length; position++)
+			{
+				value.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+			}
+
+			values.add(value.toString());
+		}
+
+		return values;
+	}
+}
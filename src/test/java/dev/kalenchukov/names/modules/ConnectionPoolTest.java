@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.modules;
+
+import dev.kalenchukov.names.exceptions.DatabaseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Класс проверки класса {@link ConnectionPool}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ConnectionPoolTest
+{
+	/**
+	 * Временный каталог.
+	 */
+	@TempDir
+	private Path directory;
+
+	/**
+	 * Проверка, что получение соединения из занятого пула завершается ошибкой по истечении времени ожидания.
+	 */
+	@Test
+	public void borrowTimeout()
+	{
+		try (ConnectionPool pool = new ConnectionPool(
+			"jdbc:sqlite:" + this.directory.resolve("names.db"), new Properties(), 1, 100
+		))
+		{
+			try (PooledConnection connection = pool.borrow())
+			{
+				assertThatThrownBy(pool::borrow)
+					.isInstanceOf(DatabaseException.class)
+					.hasCauseInstanceOf(TimeoutException.class);
+			}
+
+			try (PooledConnection connection = pool.borrow())
+			{
+				assertThat(connection.getConnection()).isNotNull();
+			}
+		}
+	}
+
+	/**
+	 * Проверка, что соединение в неизвестном состоянии закрывается при возврате в пул.
+	 *
+	 * @throws SQLException если не удалось настроить соединение.
+	 */
+	@Test
+	public void releaseBrokenConnection()
+		throws SQLException
+	{
+		Connection connection = mock(Connection.class);
+		when(connection.isClosed()).thenThrow(new SQLException("isClosed"));
+		doThrow(new SQLException("close")).when(connection).close();
+
+		try (ConnectionPool pool = new ConnectionPool(
+			"jdbc:sqlite:" + this.directory.resolve("names.db"), new Properties(), 1, 100
+		))
+		{
+			pool.release(new StatementCache(connection, new LongAdder(), new LongAdder()));
+
+			verify(connection).close();
+
+			try (PooledConnection pooled = pool.borrow())
+			{
+				assertThat(pooled.getConnection()).isNotSameAs(connection);
+			}
+		}
+	}
+
+	/**
+	 * Проверка, что ошибка закрытия одного соединения не прерывает закрытие остальных.
+	 *
+	 * @throws SQLException если не удалось настроить соединения.
+	 */
+	@Test
+	public void closeAfterFailures()
+		throws SQLException
+	{
+		Connection first = mock(Connection.class);
+		Connection second = mock(Connection.class);
+		Connection third = mock(Connection.class);
+		doThrow(new SQLException("first")).when(first).close();
+		doThrow(new SQLException("second")).when(second).close();
+
+		ConnectionPool pool = new ConnectionPool(
+			"jdbc:sqlite:" + this.directory.resolve("names.db"), new Properties(), 3, 100
+		);
+
+		for (Connection connection : new Connection[] {first, second, third})
+		{
+			pool.release(new StatementCache(connection, new LongAdder(), new LongAdder()));
+		}
+
+		assertThatThrownBy(pool::close)
+			.isInstanceOf(DatabaseException.class)
+			.hasRootCauseMessage("first")
+			.satisfies(exception -> assertThat(exception.getSuppressed())
+				.singleElement()
+				.extracting(Throwable::getMessage)
+				.isEqualTo("second")
+			);
+
+		verify(third).close();
+	}
+}
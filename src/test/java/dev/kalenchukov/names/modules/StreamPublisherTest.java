@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.modules;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки класса {@link StreamPublisher}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class StreamPublisherTest
+{
+	/**
+	 * Проверка, что ошибка неположительного запроса из {@code onNext} передаётся после него и один раз.
+	 */
+	@Test
+	public void requestNotPositiveFromOnNext()
+	{
+		AtomicBoolean closed = new AtomicBoolean();
+		StreamPublisher<Integer> publisher = new StreamPublisher<>(
+			() -> Stream.of(1, 2, 3).onClose(() -> closed.set(true))
+		);
+
+		List<String> signals = new ArrayList<>();
+
+		publisher.subscribe(new Flow.Subscriber<>()
+		{
+			/**
+			 * Подписка.
+			 */
+			private Flow.Subscription subscription;
+
+			/**
+			 * Признак выполнения {@code onNext}.
+			 */
+			private boolean next;
+
+			@Override
+			public void onSubscribe(final Flow.Subscription subscription)
+			{
+				this.subscription = subscription;
+				this.subscription.request(2);
+			}
+
+			@Override
+			public void onNext(final Integer item)
+			{
+				this.next = true;
+				signals.add("onNext " + item);
+				this.subscription.request(0);
+				this.subscription.request(-1);
+				this.next = false;
+			}
+
+			@Override
+			public void onError(final Throwable throwable)
+			{
+				signals.add((this.next ? "onError в onNext " : "onError ") + throwable.getClass().getSimpleName());
+			}
+
+			@Override
+			public void onComplete()
+			{
+				signals.add("onComplete");
+			}
+		});
+
+		assertThat(signals).containsExactly("onNext 1", "onError IllegalArgumentException");
+		assertThat(closed).isTrue();
+	}
+}
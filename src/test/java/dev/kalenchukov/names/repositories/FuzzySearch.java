@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.repositories;
+
+import dev.kalenchukov.names.entities.Name;
+import dev.kalenchukov.names.modules.Collation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Класс проверки нечёткого поиска имён перебором всех имён.
+ *
+ * @author Алексей Каленчуков
+ */
+final class FuzzySearch
+{
+	/**
+	 * Слоги, из которых составляются названия.
+	 */
+	@NotNull
+	private static final String[] SYLLABLES = {"a", "an", "na", "ma", "mar", "ri", "ia", "Ал", "ек", "се", "й", "ß", "ss", "Ё"};
+
+	/**
+	 * Конструктор для {@code FuzzySearch}.
+	 */
+	private FuzzySearch() {}
+
+	/**
+	 * Создаёт имена из случайных слогов с различными ключами названий.
+	 * <p>
+	 * Количество людей с именем в мире выбирается из небольшого интервала,
+	 * чтобы у имён с равным расстоянием оно часто совпадало.
+	 *
+	 * @param random генератор случайных чисел.
+	 * @param count количество имён.
+	 * @return имена.
+	 */
+	@NotNull
+	static List<@NotNull Name> generate(@NotNull final Random random, final int count)
+	{
+		Map<String, Name> names = new LinkedHashMap<>();
+
+		while (names.size() < count)
+		{
+			StringBuilder value = new StringBuilder();
+			int length = 1 + random.nextInt(4);
+
+			for (int syllable = 0; syllable < length; syllable++)
+			{
+				value.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+			}
+
+			String name = random.nextInt(4) == 0 ? value.toString().toUpperCase(Locale.ROOT) : value.toString();
+
+			names.putIfAbsent(Collation.fold(name), new Name(
+				name, names.size(), 0, random.nextInt(4), 0, "greek", "europe", "russia", "Russia"
+			));
+		}
+
+		return new ArrayList<>(names.values());
+	}
+
+	/**
+	 * Вносит в название случайные замены, вставки и удаления символов.
+	 *
+	 * @param value название.
+	 * @param random генератор случайных чисел.
+	 * @return изменённое название.
+	 */
+	@NotNull
+	static String mutate(@NotNull final String value, @NotNull final Random random)
+	{
+		StringBuilder query = new StringBuilder(value);
+		int edits = random.nextInt(4);
+
+		for (int edit = 0; edit < edits; edit++)
+		{
+			int position = random.nextInt(query.length() + 1);
+			char symbol = "aimnsßЁй".charAt(random.nextInt(8));
+
+			switch (random.nextInt(3))
+			{
+				case 0 -> query.insert(position, symbol);
+				case 1 -> {
+					if (position < query.length()) {
+						query.setCharAt(position, symbol);
+					}
+				}
+				default -> {
+					if (position < query.length()) {
+						query.deleteCharAt(position);
+					}
+				}
+			}
+		}
+
+		return query.toString();
+	}
+
+	/**
+	 * Возвращает названия имён, найденных перебором всех имён.
+	 *
+	 * @param names имена.
+	 * @param query запрос.
+	 * @param maxEdits наибольшее расстояние.
+	 * @param limit наибольшее количество имён.
+	 * @return названия имён, упорядоченные по расстоянию, по убыванию количества людей с именем в мире
+	 * и по названию.
+	 */
+	@NotNull
+	static List<@NotNull String> search(@NotNull final List<@NotNull Name> names,
+										@NotNull final String query,
+										final int maxEdits,
+										final int limit)
+	{
+		return names.stream()
+			.filter(name -> Collation.distance(query, name.getValue()) <= maxEdits)
+			.sorted(Comparator.<Name>comparingInt(name -> Collation.distance(query, name.getValue()))
+				.thenComparing(Comparator.comparingInt(Name::getUsageWorld).reversed())
+				.thenComparing(Name::getValue, Collation::compare))
+			.limit(limit)
+			.map(Name::getValue)
+			.toList();
+	}
+}
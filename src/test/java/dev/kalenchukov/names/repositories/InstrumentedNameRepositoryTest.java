@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.repositories;
+
+import dev.kalenchukov.names.entities.Name;
+import dev.kalenchukov.names.metrics.QueryListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Класс проверки класса {@link InstrumentedNameRepository}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class InstrumentedNameRepositoryTest
+{
+	/**
+	 * Проверка, что исключение слушателя не влияет на результат запроса и на остальных слушателей.
+	 */
+	@Test
+	public void recordWithFailingListener()
+	{
+		NameRepositories source = mock(NameRepositories.class);
+		when(source.count()).thenReturn(5);
+
+		List<String> methods = new ArrayList<>();
+		QueryListener failing = (method, nanos, rows, error) -> {
+			throw new IllegalStateException("Ошибка слушателя.");
+		};
+		QueryListener recording = (method, nanos, rows, error) -> methods.add(method);
+
+		NameRepositories repository = new InstrumentedNameRepository(source, List.of(failing, recording));
+
+		assertThat(repository.count()).isEqualTo(5);
+		assertThat(methods).containsExactly("count()");
+	}
+
+	/**
+	 * Проверка, что количество записей передаётся слушателям как одна строка.
+	 */
+	@Test
+	public void countRows()
+	{
+		NameRepositories source = mock(NameRepositories.class);
+		when(source.count()).thenReturn(5);
+
+		List<Integer> rows = new ArrayList<>();
+		NameRepositories repository = new InstrumentedNameRepository(
+			source, List.of((method, nanos, count, error) -> rows.add(count))
+		);
+
+		repository.count();
+
+		assertThat(rows).containsExactly(1);
+	}
+
+	/**
+	 * Проверка, что исключение при обходе потока передаётся слушателям при его закрытии.
+	 */
+	@Test
+	public void streamWithError()
+	{
+		IllegalStateException failure = new IllegalStateException("Ошибка чтения.");
+		AtomicBoolean closed = new AtomicBoolean();
+
+		NameRepositories source = mock(NameRepositories.class);
+		when(source.streamAll()).thenReturn(
+			Stream.<Name>generate(() -> {
+				throw failure;
+			}).onClose(() -> closed.set(true))
+		);
+
+		List<Throwable> errors = new ArrayList<>();
+		NameRepositories repository = new InstrumentedNameRepository(
+			source, List.of((method, nanos, rows, error) -> errors.add(error))
+		);
+
+		try (Stream<Name> stream = repository.streamAll())
+		{
+			assertThatThrownBy(() -> stream.forEach(name -> {})).isSameAs(failure);
+		}
+
+		assertThat(errors).containsExactly(failure);
+		assertThat(closed).isTrue();
+	}
+}
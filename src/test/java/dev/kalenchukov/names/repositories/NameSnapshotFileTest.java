@@ -0,0 +1,271 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.repositories;
+
+import dev.kalenchukov.names.entities.Name;
+import dev.kalenchukov.names.exceptions.SnapshotException;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Класс проверки класса {@link NameSnapshotFile}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class NameSnapshotFileTest
+{
+	/**
+	 * Имена снимка.
+	 */
+	@NotNull
+	private static final List<@NotNull Name> NAMES = List.of(
+		new Name("Алексей", 1, 2, 300, 40, "greek", "europe", "russia", "Russia"),
+		new Name("Straße", 5, 6, 70, 8, "german", "europe", "germany", "Germany"),
+		new Name("Zoë", 9, 10, 11, 12, "greek", "europe", "france", "France")
+	);
+
+	/**
+	 * Позиция номера строки словаря для происхождения первого имени.
+	 * <p>
+	 * Сигнатура, версия и количество строк словаря, строки словаря, количество имён,
+	 * название первого имени и четыре числа.
+	 */
+	private static final int FIRST_ORIGIN = 12
+		+ NameSnapshotFileTest.sizeOf("greek", "europe", "russia", "Russia", "german", "germany", "Germany", "france", "France")
+		+ 4 + NameSnapshotFileTest.sizeOf("Алексей") + 16;
+
+	/**
+	 * Временный каталог.
+	 */
+	@TempDir
+	private Path directory;
+
+	/**
+	 * Проверка записи и чтения снимка.
+	 */
+	@Test
+	public void writeAndRead()
+	{
+		Path path = this.directory.resolve("names.snapshot");
+		NameSnapshotFile.write(NAMES, path);
+
+		assertThat(NameSnapshotFile.read(path))
+			.usingRecursiveFieldByFieldElementComparator()
+			.containsExactlyElementsOf(NAMES);
+	}
+
+	/**
+	 * Проверка записи и чтения пустого снимка.
+	 */
+	@Test
+	public void writeAndReadEmpty()
+	{
+		Path path = this.directory.resolve("names.snapshot");
+		NameSnapshotFile.write(List.of(), path);
+
+		assertThat(NameSnapshotFile.read(path)).isEmpty();
+	}
+
+	/**
+	 * Проверка чтения снимка с другой сигнатурой.
+	 *
+	 * @throws IOException если не удалось изменить файл.
+	 */
+	@Test
+	public void readWithBadMagic()
+		throws IOException
+	{
+		Path path = this.write(bytes -> ByteBuffer.wrap(bytes).putInt(0, 0x4E4D5300), true);
+
+		assertThatThrownBy(() -> NameSnapshotFile.read(path))
+			.isInstanceOf(SnapshotException.class)
+			.hasMessage("Снимок имён повреждён.");
+	}
+
+	/**
+	 * Проверка чтения снимка с изменённым байтом.
+	 *
+	 * @throws IOException если не удалось изменить файл.
+	 */
+	@Test
+	public void readWithFlippedByte()
+		throws IOException
+	{
+		Path path = this.write(bytes -> bytes[FIRST_ORIGIN + 3] ^= 0x01, false);
+
+		assertThatThrownBy(() -> NameSnapshotFile.read(path))
+			.isInstanceOf(SnapshotException.class)
+			.hasMessage("Снимок имён повреждён.");
+	}
+
+	/**
+	 * Проверка чтения снимка с неизвестной версией формата.
+	 *
+	 * @throws IOException если не удалось изменить файл.
+	 */
+	@Test
+	public void readWithUnknownVersion()
+		throws IOException
+	{
+		Path path = this.write(bytes -> ByteBuffer.wrap(bytes).putInt(4, NameSnapshotFile.VERSION + 1), true);
+
+		assertThatThrownBy(() -> NameSnapshotFile.read(path))
+			.isInstanceOf(SnapshotException.class)
+			.hasMessage("Неподдерживаемая версия снимка имён " + (NameSnapshotFile.VERSION + 1) + ".");
+	}
+
+	/**
+	 * Проверка чтения обрезанного снимка.
+	 *
+	 * @throws IOException если не удалось изменить файл.
+	 */
+	@Test
+	public void readTruncated()
+		throws IOException
+	{
+		Path path = this.directory.resolve("names.snapshot");
+		NameSnapshotFile.write(NAMES, path);
+		byte[] bytes = Files.readAllBytes(path);
+
+		for (int size : new int[] {0, 8, 11, 12, FIRST_ORIGIN, bytes.length - 1})
+		{
+			byte[] truncated = Arrays.copyOf(bytes, size);
+			NameSnapshotFileTest.updateChecksum(truncated);
+			Files.write(path, truncated);
+
+			assertThatThrownBy(() -> NameSnapshotFile.read(path))
+				.as("size = %d", size)
+				.isInstanceOf(SnapshotException.class);
+		}
+	}
+
+	/**
+	 * Проверка чтения снимка с номером строки словаря за пределами словаря.
+	 *
+	 * @throws IOException если не удалось изменить файл.
+	 */
+	@Test
+	public void readWithStringIdOutOfRange()
+		throws IOException
+	{
+		for (int id : new int[] {9, -1, Integer.MAX_VALUE})
+		{
+			Path path = this.write(bytes -> ByteBuffer.wrap(bytes).putInt(FIRST_ORIGIN, id), true);
+
+			assertThatThrownBy(() -> NameSnapshotFile.read(path))
+				.as("id = %d", id)
+				.isInstanceOf(SnapshotException.class)
+				.hasMessage("Снимок имён повреждён.");
+		}
+	}
+
+	/**
+	 * Записывает снимок и изменяет его содержимое.
+	 *
+	 * @param change изменение содержимого.
+	 * @param checksum {@code true}, если после изменения нужно пересчитать контрольную сумму.
+	 * @return файл снимка.
+	 * @throws IOException если не удалось изменить файл.
+	 */
+	@NotNull
+	private Path write(@NotNull final Change change, final boolean checksum)
+		throws IOException
+	{
+		Path path = this.directory.resolve("names.snapshot");
+		NameSnapshotFile.write(NAMES, path);
+
+		byte[] bytes = Files.readAllBytes(path);
+		change.apply(bytes);
+
+		if (checksum) {
+			NameSnapshotFileTest.updateChecksum(bytes);
+		}
+
+		Files.write(path, bytes);
+
+		return path;
+	}
+
+	/**
+	 * Записывает в последние 4 байта контрольную сумму предыдущих байтов.
+	 *
+	 * @param bytes содержимое файла.
+	 */
+	private static void updateChecksum(@NotNull final byte[] bytes)
+	{
+		if (bytes.length < Integer.BYTES) {
+			return;
+		}
+
+		CRC32 checksum = new CRC32();
+		checksum.update(bytes, 0, bytes.length - Integer.BYTES);
+		ByteBuffer.wrap(bytes).putInt(bytes.length - Integer.BYTES, (int) checksum.getValue());
+	}
+
+	/**
+	 * Возвращает размер строк в файле снимка.
+	 *
+	 * @param values строки.
+	 * @return размер строк в байтах.
+	 */
+	private static int sizeOf(@NotNull final String @NotNull ... values)
+	{
+		int size = 0;
+
+		for (String value : values)
+		{
+			size += Short.BYTES + value.getBytes(StandardCharsets.UTF_8).length;
+		}
+
+		return size;
+	}
+
+	/**
+	 * Изменение содержимого файла.
+	 */
+	@FunctionalInterface
+	private interface Change
+	{
+		/**
+		 * Изменяет содержимое файла.
+		 *
+		 * @param bytes содержимое файла.
+		 */
+		void apply(@NotNull byte[] bytes);
+	}
+}
@@ -0,0 +1,576 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.repositories;
+
+import dev.kalenchukov.names.entities.Name;
+import dev.kalenchukov.names.entities.NameField;
+import dev.kalenchukov.names.entities.NameQuery;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Класс проверки совпадения результатов {@link NameSnapshotRepository} и {@link NameRepository}
+ * на поставляемой базе данных.
+ *
+ * @author Алексей Каленчуков
+ */
+public class NameSnapshotParityTest
+{
+	/**
+	 * Названия имён в разных регистрах и алфавитах.
+	 */
+	@NotNull
+	private static final List<@NotNull String> NAMES = List.of(
+		"Aleksey", "ALEKSEY", "aleksey", "aLEKSEY", "Alexei",
+		"Алексей", "АЛЕКСЕЙ", "алексей", "алексей2", "АЛЕКСЕЙ2",
+		"Ärzte", "ÄRZTE", "ärzte", "arzte",
+		"Maria", "MARIA", "maria_x", "MARIA_X", "ma%ria", "ma_ria",
+		"Jon", "JOHN", "Неизвестное", "Unknown", ""
+	);
+
+	/**
+	 * Страны в разных регистрах и алфавитах.
+	 */
+	@NotNull
+	private static final List<@NotNull String> COUNTRIES = List.of(
+		"Russia", "russia", "RUSSIA", "rUSSIA", "Italy", "ITALY", "belize", "NIGERIA",
+		"Pakistan", "Россия", "РОССИЯ", "Unknown", ""
+	);
+
+	/**
+	 * Происхождения имён в разных регистрах и алфавитах.
+	 */
+	@NotNull
+	private static final List<@NotNull String> ORIGINS = List.of(
+		"greek", "GREEK", "Greek", "arabic", "Russian", "AVAR", "русское", ""
+	);
+
+	/**
+	 * Континенты в разных регистрах и алфавитах.
+	 */
+	@NotNull
+	private static final List<@NotNull String> CONTINENTS = List.of(
+		"europe", "EUROPE", "Asia", "north america", "North America", "NORTH AMERICA", "Европа", ""
+	);
+
+	/**
+	 * Интервалы значений, включая пустые и перевёрнутые.
+	 */
+	private static final int @NotNull [] @NotNull [] RANGES = {
+		{0, 0}, {1, 10}, {15, 15}, {100, 250}, {990, 1010}, {5000, 5100}, {99000, 100000}, {50, 10}, {-10, -1}
+	};
+
+	/**
+	 * Репозиторий имён в базе данных.
+	 */
+	private static NameRepository database;
+
+	/**
+	 * Репозиторий имён в памяти, загруженный из той же базы данных.
+	 */
+	private static NameSnapshotRepository snapshot;
+
+	/**
+	 * Загружает оба репозитория из поставляемой базы данных.
+	 */
+	@BeforeAll
+	public static void load()
+	{
+		assumeTrue(NameSnapshotParityTest.class.getResource("/names.db") != null, "Нет поставляемой базы данных.");
+
+		database = new NameRepository();
+		snapshot = new NameSnapshotRepository(database);
+	}
+
+	/**
+	 * Проверка совпадения количества и выборки всех имён.
+	 */
+	@Test
+	public void getAll()
+	{
+		same("count()", NameRepositories::count);
+		same("getAll()", NameRepositories::getAll);
+		same("streamAll()", NameRepositories::streamAll);
+		same("publishAll()", NameRepositories::publishAll);
+	}
+
+	/**
+	 * Проверка совпадения поиска по названию имени.
+	 */
+	@Test
+	public void getByName()
+	{
+		for (String name : NAMES)
+		{
+			same("existsByName(" + name + ")", repository -> repository.existsByName(name));
+			same("getByName(" + name + ")", repository -> repository.getByName(name));
+		}
+	}
+
+	/**
+	 * Проверка совпадения выборки по стране.
+	 */
+	@Test
+	public void getByCountry()
+	{
+		for (String country : COUNTRIES)
+		{
+			same("getByCountry(" + country + ")", repository -> repository.getByCountry(country));
+			same("getByCountryDensity(" + country + ")", repository -> repository.getByCountryDensity(country));
+			same("streamByCountry(" + country + ")", repository -> repository.streamByCountry(country));
+			same("streamByCountryDensity(" + country + ")", repository -> repository.streamByCountryDensity(country));
+			same("publishByCountry(" + country + ")", repository -> repository.publishByCountry(country));
+			same("publishByCountryDensity(" + country + ")", repository -> repository.publishByCountryDensity(country));
+			same("getNameValuesByCountry(" + country + ")", repository -> repository.getNameValuesByCountry(country));
+			same("getFieldsByCountry(" + country + ")", repository -> repository.getFieldsByCountry(
+				country, EnumSet.of(NameField.VALUE, NameField.RANK_COUNTRY, NameField.COUNTRY_DENSITY)
+			));
+		}
+	}
+
+	/**
+	 * Проверка совпадения выборки по интервалам рангов и использований.
+	 */
+	@Test
+	public void getBetween()
+	{
+		for (int[] range : RANGES)
+		{
+			int min = range[0];
+			int max = range[1];
+			String arguments = "(" + min + ", " + max + ")";
+
+			same("getBetweenUsageWorld" + arguments, repository -> repository.getBetweenUsageWorld(min, max));
+			same("getBetweenUsageCountry" + arguments, repository -> repository.getBetweenUsageCountry(min, max));
+			same("getBetweenRankWorld" + arguments, repository -> repository.getBetweenRankWorld(min, max));
+			same("getBetweenRankCountry" + arguments, repository -> repository.getBetweenRankCountry(min, max));
+			same("publishBetweenUsageWorld" + arguments, repository -> repository.publishBetweenUsageWorld(min, max));
+			same("publishBetweenUsageCountry" + arguments, repository -> repository.publishBetweenUsageCountry(min, max));
+			same("publishBetweenRankWorld" + arguments, repository -> repository.publishBetweenRankWorld(min, max));
+			same("publishBetweenRankCountry" + arguments, repository -> repository.publishBetweenRankCountry(min, max));
+			same("getNameValuesBetweenRankWorld" + arguments, repository -> repository.getNameValuesBetweenRankWorld(min, max));
+			same("getFieldsBetweenRankWorld" + arguments, repository -> repository.getFieldsBetweenRankWorld(
+				min, max, EnumSet.of(NameField.VALUE, NameField.USAGE_WORLD, NameField.ORIGIN)
+			));
+		}
+	}
+
+	/**
+	 * Проверка совпадения выборки по длине имени.
+	 */
+	@Test
+	public void getByLength()
+	{
+		for (int length = 0; length <= 12; length++)
+		{
+			int value = length;
+
+			same("getByLength(" + value + ")", repository -> repository.getByLength(value));
+			same("getBetweenLength(" + value + ", " + (value + 1) + ")", repository -> repository.getBetweenLength(value, value + 1));
+			same("getBetweenLength(" + value + ", 3)", repository -> repository.getBetweenLength(value, 3));
+		}
+	}
+
+	/**
+	 * Проверка совпадения выборки по происхождению, континенту и сочетанию признаков.
+	 */
+	@Test
+	public void getByAttributes()
+	{
+		for (String origin : ORIGINS)
+		{
+			same("getByOrigin(" + origin + ")", repository -> repository.getByOrigin(origin));
+		}
+
+		for (String continent : CONTINENTS)
+		{
+			same("getByContinent(" + continent + ")", repository -> repository.getByContinent(continent));
+		}
+
+		List<Map<NameField, Set<String>>> attributes = List.of(
+			Map.of(),
+			Map.of(NameField.COUNTRY, Set.of("Russia")),
+			Map.of(NameField.COUNTRY, Set.of("RUSSIA", "italy")),
+			Map.of(NameField.COUNTRY, Set.of("Россия")),
+			Map.of(NameField.ORIGIN, Set.of("GREEK"), NameField.CONTINENT, Set.of("Europe", "ASIA")),
+			Map.of(NameField.COUNTRY_DENSITY, Set.of("belize"), NameField.ORIGIN, Set.of("Arabic", "avar")),
+			Map.of(NameField.CONTINENT, Set.of("North America"), NameField.COUNTRY, Set.of("")),
+			Map.of(NameField.ORIGIN, Set.of())
+		);
+
+		for (Map<NameField, Set<String>> attribute : attributes)
+		{
+			same("getByAttributes(" + attribute + ")", repository -> repository.getByAttributes(attribute));
+			same("countByAttributes(" + attribute + ")", repository -> repository.countByAttributes(attribute));
+		}
+	}
+
+	/**
+	 * Проверка совпадения нечёткого поиска.
+	 */
+	@Test
+	public void searchFuzzy()
+	{
+		for (String query : List.of("Aleksei", "ALEKSEI", "aleksey", "Алексеи", "АЛЕКСЕЙ", "ARZTE", "mraia", "Jhon", ""))
+		{
+			for (int maxEdits = 0; maxEdits <= 2; maxEdits++)
+			{
+				for (int limit : new int[] {0, 1, 5, 50})
+				{
+					int edits = maxEdits;
+
+					same(
+						"searchFuzzy(" + query + ", " + edits + ", " + limit + ")",
+						repository -> repository.searchFuzzy(query, edits, limit)
+					);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Проверка совпадения постраничной выборки по названию.
+	 */
+	@Test
+	public void getAllPages()
+	{
+		for (int limit : new int[] {1, 7, 997})
+		{
+			pages("getAll(after, " + limit + ")", limit, (repository, after) -> repository.getAll(after, limit));
+		}
+
+		for (String country : COUNTRIES)
+		{
+			pages(
+				"getByCountry(" + country + ", after, 113)", 113,
+				(repository, after) -> repository.getByCountry(country, after, 113)
+			);
+		}
+
+		for (String after : NAMES)
+		{
+			same("getAll(" + after + ", 25)", repository -> repository.getAll(after, 25));
+			same("getByCountry(RUSSIA, " + after + ", 25)", repository -> repository.getByCountry("RUSSIA", after, 25));
+		}
+
+		same("getAll(null, 0)", repository -> repository.getAll(null, 0));
+		same("getAll(null, -1)", repository -> repository.getAll(null, -1));
+	}
+
+	/**
+	 * Проверка совпадения постраничной выборки по интервалам рангов и использований,
+	 * в том числе при равных значениях на границе страницы.
+	 */
+	@Test
+	public void getBetweenPages()
+	{
+		for (int[] range : RANGES)
+		{
+			int min = range[0];
+			int max = range[1];
+			String arguments = "(" + min + ", " + max + ", after, 11)";
+
+			namePages("getBetweenUsageWorld" + arguments, (repository, after) -> repository.getBetweenUsageWorld(min, max, after, 11));
+			namePages("getBetweenUsageCountry" + arguments, (repository, after) -> repository.getBetweenUsageCountry(min, max, after, 11));
+			namePages("getBetweenRankWorld" + arguments, (repository, after) -> repository.getBetweenRankWorld(min, max, after, 11));
+			namePages("getBetweenRankCountry" + arguments, (repository, after) -> repository.getBetweenRankCountry(min, max, after, 11));
+		}
+
+		Name outside = database.getAll(null, 1).iterator().next();
+
+		same("getBetweenRankCountry(10, 12, outside, 5)", repository -> repository.getBetweenRankCountry(10, 12, outside, 5));
+		same("getBetweenUsageWorld(0, 100000, outside, 5)", repository -> repository.getBetweenUsageWorld(0, 100000, outside, 5));
+	}
+
+	/**
+	 * Проверка совпадения пакетного поиска по названиям, в том числе повторяющимся в разных регистрах.
+	 */
+	@Test
+	public void getByNames()
+	{
+		List<List<String>> batches = List.of(
+			List.of(),
+			NAMES,
+			List.of("Aleksey", "ALEKSEY", "aleksey"),
+			List.of("АЛЕКСЕЙ", "Алексей", "Unknown", "ALEKSEY"),
+			List.of("maria_x", "ma%ria", "MARIA_X", ""),
+			List.of("ALEKSEY2", "Jon", "jon", "JOHN", "алексей2", "Ärzte")
+		);
+
+		for (List<String> batch : batches)
+		{
+			same("getByNames(" + batch + ")", repository -> repository.getByNames(batch));
+			same("existsByNames(" + batch + ")", repository -> repository.existsByNames(batch));
+		}
+	}
+
+	/**
+	 * Проверка совпадения подсказок по началу имени.
+	 */
+	@Test
+	public void getByPrefix()
+	{
+		for (String prefix : List.of("ale", "ALE", "aLe", "Ал", "АЛЕКС", "алексей", "ma%", "ma_", "ä", "Ä", "z", "Неизвестное", ""))
+		{
+			for (int limit : new int[] {0, 1, 10, 1000})
+			{
+				same("getByPrefix(" + prefix + ", " + limit + ")", repository -> repository.getByPrefix(prefix, limit));
+			}
+		}
+
+		same("getByPrefix(a, -1)", repository -> repository.getByPrefix("a", -1));
+	}
+
+	/**
+	 * Проверка совпадения поиска по звучанию.
+	 */
+	@Test
+	public void getBySoundsLike()
+	{
+		for (String name : NAMES)
+		{
+			same("getBySoundsLike(" + name + ")", repository -> repository.getBySoundsLike(name));
+		}
+	}
+
+	/**
+	 * Проверка совпадения выборки по запросу, в том числе при равных значениях полей порядка.
+	 */
+	@Test
+	public void getByQuery()
+	{
+		List<NameQuery> queries = List.of(
+			NameQuery.create(),
+			NameQuery.create().limit(0),
+			NameQuery.create().offset(30000),
+			NameQuery.create().whereEquals(NameField.VALUE, "АЛЕКСЕЙ"),
+			NameQuery.create().whereEquals(NameField.COUNTRY, "RUSSIA").orderBy(NameField.RANK_COUNTRY).limit(20),
+			NameQuery.create().whereEquals(NameField.COUNTRY, "Россия"),
+			NameQuery.create().whereEquals(NameField.LENGTH, 7).orderByDescending(NameField.VALUE),
+			NameQuery.create()
+				.whereIn(NameField.ORIGIN, List.of("greek", "ARABIC"))
+				.orderByDescending(NameField.USAGE_COUNTRY)
+				.orderBy(NameField.COUNTRY)
+				.offset(10)
+				.limit(50),
+			NameQuery.create().whereBetween(NameField.LENGTH, 3, 5).orderBy(NameField.CONTINENT).offset(100).limit(30),
+			NameQuery.create().orderBy(NameField.COUNTRY_DENSITY).orderByDescending(NameField.LENGTH).limit(100),
+			NameQuery.create().orderByDescending(NameField.COUNTRY).offset(2900).limit(100),
+			NameQuery.create()
+				.whereEquals(NameField.CONTINENT, "North America")
+				.whereBetween(NameField.RANK_COUNTRY, 10, 12)
+				.orderBy(NameField.ORIGIN),
+			NameQuery.create().whereIn(NameField.COUNTRY_DENSITY, List.of()),
+			NameQuery.create().whereBetween(NameField.USAGE_WORLD, 500, 100)
+		);
+
+		for (NameQuery query : queries)
+		{
+			same("getByQuery(" + query + ")", repository -> repository.getByQuery(query));
+			same(
+				"getFieldsByQuery(" + query + ")",
+				repository -> repository.getFieldsByQuery(query.select(EnumSet.of(NameField.VALUE, NameField.COUNTRY)))
+			);
+		}
+	}
+
+	/**
+	 * Проверяет, что постраничная выборка по названию совпадает в обоих репозиториях на всех страницах.
+	 *
+	 * @param description описание запроса.
+	 * @param limit количество имён на странице.
+	 * @param page запрос страницы после указанного названия.
+	 */
+	private static void pages(@NotNull final String description,
+							  final int limit,
+							  @NotNull final BiFunction<@NotNull NameRepositories, @Nullable String, @NotNull Collection<@NotNull Name>> page)
+	{
+		String after = null;
+
+		while (true)
+		{
+			String from = after;
+			List<Name> names = List.copyOf(page.apply(snapshot, from));
+			same(description + " после " + from, repository -> page.apply(repository, from));
+
+			if (names.size() < limit) {
+				break;
+			}
+
+			after = names.get(names.size() - 1).getValue();
+		}
+	}
+
+	/**
+	 * Проверяет, что постраничная выборка по имени совпадает в обоих репозиториях на всех страницах.
+	 *
+	 * @param description описание запроса.
+	 * @param page запрос страницы после указанного имени.
+	 */
+	private static void namePages(@NotNull final String description,
+								  @NotNull final BiFunction<@NotNull NameRepositories, @Nullable Name, @NotNull Collection<@NotNull Name>> page)
+	{
+		Name after = null;
+
+		while (true)
+		{
+			Name from = after;
+			List<Name> names = List.copyOf(page.apply(snapshot, from));
+			same(description + " после " + from, repository -> page.apply(repository, from));
+
+			if (names.isEmpty()) {
+				break;
+			}
+
+			after = names.get(names.size() - 1);
+		}
+	}
+
+	/**
+	 * Проверяет, что запрос возвращает одинаковый результат в обоих репозиториях.
+	 * <p>
+	 * Имена сравниваются по всем полям и в том же порядке.
+	 *
+	 * @param description описание запроса.
+	 * @param query запрос.
+	 */
+	private static void same(@NotNull final String description,
+							 @NotNull final Function<@NotNull NameRepositories, @Nullable Object> query)
+	{
+		assertThat(run(snapshot, query))
+			.as(description)
+			.isEqualTo(run(database, query));
+	}
+
+	/**
+	 * Выполняет запрос и возвращает его результат или класс исключения в сравнимом виде.
+	 *
+	 * @param repository репозиторий имён.
+	 * @param query запрос.
+	 * @return результат запроса.
+	 */
+	@NotNull
+	private static Object run(@NotNull final NameRepositories repository,
+							  @NotNull final Function<@NotNull NameRepositories, @Nullable Object> query)
+	{
+		try {
+			return normalize(query.apply(repository));
+		} catch (RuntimeException exception) {
+			return exception.getClass();
+		}
+	}
+
+	/**
+	 * Приводит результат запроса к сравнимому виду.
+	 * <p>
+	 * Коллекции, потоки и издатели приводятся к спискам строк в порядке получения,
+	 * отображения к спискам пар в порядке обхода.
+	 *
+	 * @param result результат запроса.
+	 * @return результат в сравнимом виде.
+	 */
+	@NotNull
+	private static Object normalize(@Nullable final Object result)
+	{
+		if (result instanceof Collection<?> collection) {
+			return collection.stream().map(String::valueOf).toList();
+		}
+
+		if (result instanceof Map<?, ?> map) {
+			return map.entrySet().stream().map(entry -> entry.getKey() + "=" + entry.getValue()).toList();
+		}
+
+		if (result instanceof Stream<?> stream) {
+			try (stream) {
+				return stream.map(String::valueOf).toList();
+			}
+		}
+
+		if (result instanceof Flow.Publisher<?> publisher) {
+			return collect(publisher);
+		}
+
+		return String.valueOf(result);
+	}
+
+	/**
+	 * Получает все элементы издателя.
+	 *
+	 * @param publisher издатель.
+	 * @return элементы в виде строк в порядке получения.
+	 */
+	@NotNull
+	private static List<@NotNull String> collect(@NotNull final Flow.Publisher<?> publisher)
+	{
+		CompletableFuture<List<String>> future = new CompletableFuture<>();
+
+		publisher.subscribe(new Flow.Subscriber<Object>()
+		{
+			/**
+			 * Полученные элементы.
+			 */
+			private final List<String> items = new ArrayList<>();
+
+			@Override
+			public void onSubscribe(final Flow.Subscription subscription)
+			{
+				subscription.request(Long.MAX_VALUE);
+			}
+
+			@Override
+			public void onNext(final Object item)
+			{
+				this.items.add(String.valueOf(item));
+			}
+
+			@Override
+			public void onError(final Throwable throwable)
+			{
+				future.completeExceptionally(throwable);
+			}
+
+			@Override
+			public void onComplete()
+			{
+				future.complete(this.items);
+			}
+		});
+
+		return future.orTimeout(30, TimeUnit.SECONDS).join();
+	}
+}
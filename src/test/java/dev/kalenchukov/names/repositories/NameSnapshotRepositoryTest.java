@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2024-2025 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.names.repositories;
+
+import dev.kalenchukov.names.entities.Name;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки класса {@link NameSnapshotRepository}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class NameSnapshotRepositoryTest
+{
+	/**
+	 * Проверка нечёткого поиска по сравнению с перебором всех имён.
+	 */
+	@Test
+	public void searchFuzzy()
+	{
+		Random random = new Random(1);
+		List<Name> names = FuzzySearch.generate(random, 3000);
+		NameSnapshotRepository repository = new NameSnapshotRepository(names);
+
+		for (int round = 0; round < 200; round++)
+		{
+			String query = FuzzySearch.mutate(names.get(random.nextInt(names.size())).getValue(), random);
+			int limit = 1 + random.nextInt(30);
+
+			for (int maxEdits = 0; maxEdits <= 2; maxEdits++)
+			{
+				assertThat(repository.searchFuzzy(query, maxEdits, limit))
+					.as("query = %s, maxEdits = %d, limit = %d", query, maxEdits, limit)
+					.map(Name::getValue)
+					.containsExactlyElementsOf(FuzzySearch.search(names, query, maxEdits, limit));
+			}
+		}
+	}
+}